@@ -0,0 +1,72 @@
+package com.talkylabs.reach.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talkylabs.reach.base.Page;
+import com.talkylabs.reach.http.ReachRestClient;
+import com.talkylabs.reach.rest.api.messaging.MessagingItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing single resources and pages of resources.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DeserializationBenchmark {
+
+    private ObjectMapper mapper;
+    private byte[] message;
+
+    @State(Scope.Benchmark)
+    public static class PageState {
+        @Param({"1", "50", "1000"})
+        public int pageSize;
+
+        @Param({"false", "true"})
+        public boolean lazy;
+
+        private byte[] page;
+
+        @Setup
+        public void setUp() {
+            page = Fixtures.bytes(Fixtures.page(0, pageSize, 1));
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        mapper = new ReachRestClient.Builder("user", "key").build().getObjectMapper();
+        message = Fixtures.bytes(Fixtures.message(1));
+    }
+
+    @Benchmark
+    public MessagingItem messagingItemFromJson() {
+        return MessagingItem.fromJson(new ByteArrayInputStream(message), mapper);
+    }
+
+    @Benchmark
+    public void pageFromJson(final PageState state, final Blackhole blackhole) {
+        Page<MessagingItem> parsed = Page.fromJson(Fixtures.LIST_URL, "messages",
+            new ByteArrayInputStream(state.page), MessagingItem.class, mapper, state.lazy);
+        for (final MessagingItem item : parsed) {
+            blackhole.consume(item);
+        }
+    }
+}
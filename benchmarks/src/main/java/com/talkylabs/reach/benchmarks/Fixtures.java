@@ -0,0 +1,44 @@
+package com.talkylabs.reach.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * JSON payloads shaped like the ones returned by the API.
+ */
+final class Fixtures {
+
+    static final String LIST_URL = "https://api.reach.talkylabs.com/rest/messaging/v1/list";
+
+    private Fixtures() {
+    }
+
+    static String message(final int index) {
+        return "{\"appletId\":\"AP00000000000000000000000000000000\",\"apiVersion\":\"1.0.0\","
+            + "\"body\":\"Your verification code is " + (100000 + index) + "\","
+            + "\"dest\":\"+1555000" + String.format("%04d", index % 10000) + "\",\"src\":\"ReachCo\","
+            + "\"bulkId\":null,\"numSegments\":1,\"numMedia\":0,\"price\":\"0.0075\",\"priceUnit\":\"USD\","
+            + "\"messageId\":\"MM" + String.format("%032d", index) + "\",\"status\":\"delivered\","
+            + "\"messageType\":\"text\",\"errorCode\":null,\"errorMessage\":null,"
+            + "\"dateCreated\":\"2023-04-01T10:15:30Z\",\"dateSent\":\"2023-04-01T10:15:31Z\","
+            + "\"dateUpdated\":\"2023-04-01T10:15:35Z\"}";
+    }
+
+    static String page(final int page, final int pageSize, final int totalPages) {
+        StringBuilder json = new StringBuilder("{\"messages\":[");
+        for (int i = 0; i < pageSize; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(message(page * pageSize + i));
+        }
+        return json.append("],\"page\":").append(page)
+            .append(",\"pageSize\":").append(pageSize)
+            .append(",\"totalPages\":").append(totalPages)
+            .append(",\"outOfPageRange\":false}")
+            .toString();
+    }
+
+    static byte[] bytes(final String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,82 @@
+package com.talkylabs.reach.benchmarks;
+
+import com.talkylabs.reach.http.HttpMethod;
+import com.talkylabs.reach.http.Request;
+import com.talkylabs.reach.rest.Domains;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.URL;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building requests: URL construction and form encoding.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RequestBenchmark {
+
+    private Request listRequest;
+    private Request sendRequest;
+
+    private static Request newListRequest() {
+        Request request = new Request(HttpMethod.GET, Domains.API.toString(), "/rest/messaging/v1/list");
+        request.addQueryParam("dest", "+15550001234");
+        request.addQueryParam("src", "ReachCo");
+        request.addQueryParam("bulkIdentifier", "campaign-2023-04");
+        request.addQueryParam("sentAfter", ZonedDateTime.parse("2023-04-01T00:00:00Z").toString());
+        request.addQueryParam("page", "3");
+        request.addQueryParam("pageSize", "50");
+        return request;
+    }
+
+    private static Request newSendRequest() {
+        Request request = new Request(HttpMethod.POST, Domains.API.toString(), "/rest/messaging/v1/create");
+        request.addPostParam("dest", "+15550001234");
+        request.addPostParam("src", "ReachCo");
+        request.addPostParam("body", "Your verification code is 123456. It expires in 10 minutes & can't be reused.");
+        request.addPostParam("bulkIdentifier", "campaign-2023-04");
+        request.addPostParam("statusCallback", "https://example.com/reach/status?tenant=acme&region=eu-west");
+        request.addPostParam("validityPeriod", "600");
+        return request;
+    }
+
+    @Setup
+    public void setUp() {
+        listRequest = newListRequest();
+        sendRequest = newSendRequest();
+    }
+
+    @Benchmark
+    public URL constructUrl() {
+        return listRequest.constructURL();
+    }
+
+    @Benchmark
+    public URL buildAndConstructUrl() {
+        return newListRequest().constructURL();
+    }
+
+    @Benchmark
+    public String encodeFormBody() {
+        return sendRequest.encodeFormBody();
+    }
+
+    @Benchmark
+    public String encodeQueryParams() {
+        return listRequest.encodeQueryParams();
+    }
+}
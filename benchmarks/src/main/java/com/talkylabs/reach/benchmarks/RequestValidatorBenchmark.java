@@ -0,0 +1,69 @@
+package com.talkylabs.reach.benchmarks;
+
+import com.talkylabs.reach.security.RequestValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validating the signature of a status callback.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestValidatorBenchmark {
+
+    private static final String AUTH_TOKEN = "12345678901234567890123456789012";
+    private static final String URL = "https://example.com/reach/status?tenant=acme";
+
+    private RequestValidator validator;
+    private Map<String, String> params;
+    private String signature;
+
+    @Setup
+    public void setUp() throws Exception {
+        validator = new RequestValidator(AUTH_TOKEN);
+        params = new HashMap<>();
+        params.put("messageId", "MM00000000000000000000000000000001");
+        params.put("status", "delivered");
+        params.put("dest", "+15550001234");
+        params.put("src", "ReachCo");
+        params.put("dateUpdated", "2023-04-01T10:15:35Z");
+
+        StringBuilder data = new StringBuilder(URL);
+        for (final Map.Entry<String, String> param : new TreeMap<>(params).entrySet()) {
+            data.append(param.getKey()).append(param.getValue());
+        }
+        Mac mac = Mac.getInstance("HmacSHA1");
+        mac.init(new SecretKeySpec(AUTH_TOKEN.getBytes(StandardCharsets.UTF_8), "HmacSHA1"));
+        signature = Base64.getEncoder().encodeToString(mac.doFinal(data.toString().getBytes(StandardCharsets.UTF_8)));
+
+        if (!validator.validate(URL, params, signature)) {
+            throw new IllegalStateException("fixture signature does not validate");
+        }
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return validator.validate(URL, params, signature);
+    }
+}
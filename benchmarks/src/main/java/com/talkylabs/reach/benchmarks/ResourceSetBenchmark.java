@@ -0,0 +1,77 @@
+package com.talkylabs.reach.benchmarks;
+
+import com.talkylabs.reach.base.ResourceSet;
+import com.talkylabs.reach.http.HttpClient;
+import com.talkylabs.reach.http.ReachRestClient;
+import com.talkylabs.reach.http.Request;
+import com.talkylabs.reach.http.Response;
+import com.talkylabs.reach.rest.api.messaging.MessagingItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Iterating a full listing through {@code MessagingItem.reader()}, with pages served from memory so
+ * only the SDK's paging, request building and parsing are measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResourceSetBenchmark {
+
+    private static final Pattern PAGE = Pattern.compile("[?&]page=(\\d+)");
+
+    @Param({"1", "10"})
+    public int pages;
+
+    @Param({"50"})
+    public int pageSize;
+
+    @Param({"false", "true"})
+    public boolean lazy;
+
+    private ReachRestClient client;
+
+    @Setup
+    public void setUp() {
+        final byte[][] bodies = new byte[pages][];
+        for (int i = 0; i < pages; i++) {
+            bodies[i] = Fixtures.bytes(Fixtures.page(i, pageSize, pages));
+        }
+
+        HttpClient httpClient = new HttpClient() {
+            @Override
+            public Response makeRequest(final Request request) {
+                Matcher matcher = PAGE.matcher(request.getUrl() + "?" + request.encodeQueryParams());
+                int page = matcher.find() ? Integer.parseInt(matcher.group(1)) : 0;
+                return new Response(new ByteArrayInputStream(bodies[page]), 200);
+            }
+        };
+        client = new ReachRestClient.Builder("user", "key").httpClient(httpClient).build();
+    }
+
+    @Benchmark
+    public void iterate(final Blackhole blackhole) {
+        ResourceSet<MessagingItem> items = MessagingItem.reader().setPageSize(pageSize).lazyPaging(lazy).read(client);
+        for (final MessagingItem item : items) {
+            blackhole.consume(item);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.talkylabs.reach.benchmarks;
+
+import com.talkylabs.reach.http.AsyncNetworkHttpClient;
+import com.talkylabs.reach.http.HttpClient;
+import com.talkylabs.reach.http.NetworkHttpClient;
+import com.talkylabs.reach.http.ReachRestClient;
+import com.talkylabs.reach.rest.api.messaging.MessagingItem;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.routing.HttpRoutePlanner;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sending a message end to end against a local MockWebServer.
+ *
+ * <p>
+ * Requests still target the API domain; a route planner sends every connection to the local server
+ * over plain HTTP instead, so the generated operation code is exercised unchanged.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class SendBenchmark {
+
+    @Param({"blocking", "async"})
+    public String transport;
+
+    private MockWebServer server;
+    private HttpClient httpClient;
+    private ReachRestClient client;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        final MockResponse sent = new MockResponse()
+            .setResponseCode(200)
+            .setHeader("Content-Type", "application/json")
+            .setBody(Fixtures.message(1));
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(final RecordedRequest request) {
+                return sent;
+            }
+        });
+        server.start();
+
+        final HttpHost local = new HttpHost(server.getHostName(), server.getPort(), "http");
+        HttpRoutePlanner toLocalServer = (target, request, context) -> new HttpRoute(local);
+        httpClient = "async".equals(transport)
+            ? new AsyncNetworkHttpClient(HttpAsyncClientBuilder.create()
+                .setRoutePlanner(toLocalServer)
+                .setMaxConnPerRoute(64)
+                .setMaxConnTotal(64))
+            : new NetworkHttpClient(HttpClientBuilder.create()
+                .setRoutePlanner(toLocalServer)
+                .setMaxConnPerRoute(64)
+                .setMaxConnTotal(64));
+        client = new ReachRestClient.Builder("user", "key").httpClient(httpClient).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        ((Closeable) httpClient).close();
+        server.shutdown();
+    }
+
+    @Benchmark
+    public MessagingItem send() {
+        return MessagingItem.sender("+15550001234", "ReachCo", "Your verification code is 123456").send(client);
+    }
+}
@@ -4,7 +4,12 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.talkylabs.reach.concurrent.ExecutorConfig;
+import com.talkylabs.reach.concurrent.ExecutorMode;
+import com.talkylabs.reach.concurrent.ReachExecutorService;
+import com.talkylabs.reach.concurrent.VirtualThreads;
 
 import com.talkylabs.reach.exception.ApiException;
 import com.talkylabs.reach.exception.AuthenticationException;
@@ -34,6 +39,8 @@ public class Reach {
     private static List<String> userAgentExtensions;
     private static volatile ReachRestClient restClient;
     private static volatile ExecutorService executorService;
+    private static boolean executorServiceOwned;
+    private static volatile ExecutorConfig executorConfig = new ExecutorConfig.Builder().build();
     
     
     private Reach() {
@@ -163,7 +170,13 @@ public class Reach {
     }
 
     /**
-     * Returns the Reach executor service.
+     * Returns (and initializes if not initialized) the Reach executor service.
+     *
+     * <p>
+     * Unless a custom one was set, this is a bounded {@link ReachExecutorService} built from the
+     * current {@link ExecutorConfig}, which also exposes active, queued and rejected task counts,
+     * or a virtual-thread-per-task executor in {@link ExecutorMode#VIRTUAL_THREADS} mode.
+     * </p>
      *
      * @return the Reach executor service
      */
@@ -171,13 +184,52 @@ public class Reach {
         if (Reach.executorService == null) {
             synchronized (Reach.class) {
                 if (Reach.executorService == null) {
-                	Reach.executorService = Executors.newCachedThreadPool();
+                	Reach.executorService = buildExecutorService(Reach.executorConfig);
+                	Reach.executorServiceOwned = true;
                 }
             }
         }
         return Reach.executorService;
     }
 
+    private static ExecutorService buildExecutorService(final ExecutorConfig config) {
+        if (config.getMode() == ExecutorMode.VIRTUAL_THREADS) {
+            return VirtualThreads.newExecutor(config.getThreadNamePrefix());
+        }
+        return new ReachExecutorService(config);
+    }
+
+    /**
+     * Configure the default executor service. An executor previously created by Reach is shut down
+     * gracefully and replaced on next use; a custom executor set through
+     * {@link #setExecutorService(ExecutorService)} is left running but no longer used.
+     *
+     * @param executorConfig executor configuration to use
+     */
+    public static void setExecutorConfig(final ExecutorConfig executorConfig) {
+        if (executorConfig == null) {
+            throw new IllegalArgumentException("ExecutorConfig can not be null");
+        }
+
+        ExecutorService previous;
+        ExecutorConfig previousConfig;
+        synchronized (Reach.class) {
+            previous = Reach.executorServiceOwned ? Reach.executorService : null;
+            previousConfig = Reach.executorConfig;
+            Reach.executorConfig = executorConfig;
+            Reach.executorService = null;
+            Reach.executorServiceOwned = false;
+        }
+
+        if (previous != null) {
+            shutdownGracefully(previous, previousConfig);
+        }
+    }
+
+    public static ExecutorConfig getExecutorConfig() {
+        return Reach.executorConfig;
+    }
+
     /**
      * Use a custom executor service.
      *
@@ -186,6 +238,7 @@ public class Reach {
     public static void setExecutorService(final ExecutorService executorService) {
         synchronized (Reach.class) {
         	Reach.executorService = executorService;
+        	Reach.executorServiceOwned = false;
         }
     }
 
@@ -199,11 +252,31 @@ public class Reach {
     }
 
     /**
-     * Attempts to gracefully shutdown the ExecutorService if it is present.
+     * Gracefully shuts down the ExecutorService if it is present: running tasks get the configured
+     * grace period to finish, after which the remaining ones are interrupted.
      */
     public static synchronized void destroy() {
-        if (executorService != null) {
-            executorService.shutdown();
+        if (executorService == null) {
+            return;
+        }
+
+        shutdownGracefully(executorService, executorConfig);
+    }
+
+    private static void shutdownGracefully(final ExecutorService executor, final ExecutorConfig config) {
+        if (executor instanceof ReachExecutorService) {
+            ((ReachExecutorService) executor).shutdownGracefully();
+            return;
+        }
+
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(config.getShutdownTimeoutMillis(), TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (final InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
         }
     }
     
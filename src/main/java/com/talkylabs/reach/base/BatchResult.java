@@ -0,0 +1,191 @@
+package com.talkylabs.reach.base;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome of a batch of requests, with per-item results and aggregate statistics.
+ *
+ * @param <I> type of the batch items
+ * @param <T> type of the resource produced by each item
+ */
+public class BatchResult<I, T> {
+
+    private final List<Outcome<I, T>> outcomes;
+    private final long elapsedNanos;
+    private final long[] sortedLatencies;
+    private final int successCount;
+
+    BatchResult(final List<Outcome<I, T>> outcomes, final long elapsedNanos) {
+        this.outcomes = Collections.unmodifiableList(outcomes);
+        this.elapsedNanos = elapsedNanos;
+        this.sortedLatencies = new long[outcomes.size()];
+
+        int successes = 0;
+        for (int i = 0; i < outcomes.size(); i++) {
+            Outcome<I, T> outcome = outcomes.get(i);
+            sortedLatencies[i] = outcome.latencyNanos;
+            if (outcome.isSuccess()) {
+                successes++;
+            }
+        }
+        Arrays.sort(sortedLatencies);
+        this.successCount = successes;
+    }
+
+    /**
+     * Get the outcome of every item, in the order the items were supplied.
+     *
+     * @return item outcomes
+     */
+    public List<Outcome<I, T>> getOutcomes() {
+        return outcomes;
+    }
+
+    /**
+     * Get the resources created by the successful items, in item order.
+     *
+     * @return created resources
+     */
+    public List<T> getResults() {
+        List<T> results = new ArrayList<>(successCount);
+        for (final Outcome<I, T> outcome : outcomes) {
+            if (outcome.isSuccess()) {
+                results.add(outcome.result);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Get the outcomes of the failed items, in item order.
+     *
+     * @return failed outcomes
+     */
+    public List<Outcome<I, T>> getFailures() {
+        List<Outcome<I, T>> failures = new ArrayList<>(outcomes.size() - successCount);
+        for (final Outcome<I, T> outcome : outcomes) {
+            if (!outcome.isSuccess()) {
+                failures.add(outcome);
+            }
+        }
+        return failures;
+    }
+
+    public int getCount() {
+        return outcomes.size();
+    }
+
+    public int getSuccessCount() {
+        return successCount;
+    }
+
+    public int getFailureCount() {
+        return outcomes.size() - successCount;
+    }
+
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    }
+
+    /**
+     * Get the number of items completed per second over the whole batch.
+     *
+     * @return items per second
+     */
+    public double getThroughput() {
+        return elapsedNanos <= 0 ? 0 : outcomes.size() * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    public double getAverageLatencyMillis() {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+        double total = 0;
+        for (final long latency : sortedLatencies) {
+            total += latency;
+        }
+        return total / sortedLatencies.length / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public double getMaxLatencyMillis() {
+        return sortedLatencies.length == 0 ? 0 : toMillis(sortedLatencies[sortedLatencies.length - 1]);
+    }
+
+    /**
+     * Get a latency percentile across all items, from dispatch to completion.
+     *
+     * @param percentile percentile between 0 and 100
+     * @return latency in milliseconds
+     */
+    public double getLatencyPercentileMillis(final double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100");
+        }
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * sortedLatencies.length);
+        return toMillis(sortedLatencies[Math.max(0, rank - 1)]);
+    }
+
+    private static double toMillis(final long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public String toString() {
+        return "BatchResult{count=" + getCount()
+            + ", succeeded=" + successCount
+            + ", failed=" + getFailureCount()
+            + ", elapsedMillis=" + getElapsedMillis()
+            + ", throughput=" + String.format(Locale.ROOT, "%.1f/s", getThroughput())
+            + ", p50=" + String.format(Locale.ROOT, "%.1fms", getLatencyPercentileMillis(50))
+            + ", p99=" + String.format(Locale.ROOT, "%.1fms", getLatencyPercentileMillis(99))
+            + "}";
+    }
+
+    /**
+     * Outcome of a single batch item.
+     *
+     * @param <I> type of the batch item
+     * @param <T> type of the resource produced by the item
+     */
+    public static final class Outcome<I, T> {
+        private final I item;
+        private final T result;
+        private final Throwable failure;
+        private final long latencyNanos;
+
+        Outcome(final I item, final T result, final Throwable failure, final long latencyNanos) {
+            this.item = item;
+            this.result = result;
+            this.failure = failure;
+            this.latencyNanos = latencyNanos;
+        }
+
+        public I getItem() {
+            return item;
+        }
+
+        public T getResult() {
+            return result;
+        }
+
+        public Throwable getFailure() {
+            return failure;
+        }
+
+        public boolean isSuccess() {
+            return failure == null;
+        }
+
+        public double getLatencyMillis() {
+            return toMillis(latencyNanos);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.talkylabs.reach.base;
+
+import com.talkylabs.reach.Reach;
+import com.talkylabs.reach.exception.ApiException;
+import com.talkylabs.reach.http.ReachRestClient;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+
+/**
+ * Executor for creating many resources with bounded concurrency.
+ *
+ * <p>
+ * Items are turned into a {@link Sender} one at a time and dispatched through
+ * {@link Sender#sendAsync(ReachRestClient)}; at most {@code maxConcurrency} requests are in flight, and the
+ * source is only pulled further as requests complete, so a lazily produced stream is never buffered.
+ * A failed item does not stop the batch; its error is recorded in the {@link BatchResult}.
+ * </p>
+ *
+ * @param <I> type of the batch items
+ * @param <T> type of the resource
+ */
+public abstract class BatchSender<I, T extends Resource> {
+
+    public static final int DEFAULT_MAX_CONCURRENCY = 16;
+
+    private final List<I> items = new ArrayList<>();
+    private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+
+    /**
+     * Build the sender for a single item.
+     *
+     * @param item batch item
+     * @return sender creating the item's resource
+     */
+    protected abstract Sender<T> sender(final I item);
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Sets the max number of requests in flight.
+     *
+     * @param maxConcurrency max concurrent requests
+     * @return this batch sender
+     */
+    public BatchSender<I, T> maxConcurrency(final int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be positive");
+        }
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
+    /**
+     * Queue an item for the next {@link #send()}.
+     *
+     * @param item batch item
+     * @return this batch sender
+     */
+    public BatchSender<I, T> add(final I item) {
+        items.add(item);
+        return this;
+    }
+
+    /**
+     * Queue items for the next {@link #send()}.
+     *
+     * @param items batch items
+     * @return this batch sender
+     */
+    public BatchSender<I, T> addAll(final Collection<? extends I> items) {
+        this.items.addAll(items);
+        return this;
+    }
+
+    public List<I> getItems() {
+        return items;
+    }
+
+    /**
+     * Send the queued items using default client.
+     *
+     * @return batch result
+     */
+    public BatchResult<I, T> send() {
+        return send(Reach.getRestClient());
+    }
+
+    /**
+     * Send the queued items using specified client.
+     * The queue is emptied before dispatch, so items added afterwards go out with the next send.
+     *
+     * @param client client used to make requests
+     * @return batch result
+     */
+    public BatchResult<I, T> send(final ReachRestClient client) {
+        final List<I> queued = new ArrayList<>(items);
+        items.clear();
+        return send(queued.stream(), client);
+    }
+
+    /**
+     * Send the given items using default client.
+     *
+     * @param items batch items
+     * @return batch result
+     */
+    public BatchResult<I, T> send(final Stream<? extends I> items) {
+        return send(items, Reach.getRestClient());
+    }
+
+    /**
+     * Send the given items using specified client.
+     *
+     * @param items  batch items
+     * @param client client used to make requests
+     * @return batch result
+     */
+    public BatchResult<I, T> send(final Stream<? extends I> items, final ReachRestClient client) {
+        final Semaphore permits = new Semaphore(maxConcurrency);
+        final List<CompletableFuture<BatchResult.Outcome<I, T>>> outcomes = new ArrayList<>();
+        final long start = System.nanoTime();
+
+        Iterator<? extends I> iterator = items.iterator();
+        try {
+            while (iterator.hasNext()) {
+                final I item = iterator.next();
+                permits.acquire();
+                outcomes.add(dispatch(item, client).whenComplete((outcome, e) -> permits.release()));
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException("Interrupted while sending batch", e);
+        }
+
+        List<BatchResult.Outcome<I, T>> results = new ArrayList<>(outcomes.size());
+        for (final CompletableFuture<BatchResult.Outcome<I, T>> outcome : outcomes) {
+            results.add(outcome.join());
+        }
+        return new BatchResult<>(results, System.nanoTime() - start);
+    }
+
+    private CompletableFuture<BatchResult.Outcome<I, T>> dispatch(final I item, final ReachRestClient client) {
+        final long start = System.nanoTime();
+        CompletableFuture<T> future;
+        try {
+            future = sender(item).sendAsync(client);
+        } catch (final RuntimeException e) {
+            future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+        }
+
+        return future.handle((result, e) -> {
+            Throwable failure = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            return new BatchResult.Outcome<>(item, result, failure, System.nanoTime() - start);
+        });
+    }
+}
@@ -1,23 +1,42 @@
 package com.talkylabs.reach.base;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.talkylabs.reach.exception.ApiConnectionException;
 import com.talkylabs.reach.exception.ApiException;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 
-public class Page<T> {
+/**
+ * A page of records.
+ *
+ * <p>
+ * A lazy page, see {@link #fromJson(String, String, InputStream, Class, ObjectMapper, boolean)}, decodes its
+ * records one at a time as {@link #iterator()} advances instead of holding them all in memory. Reading any of
+ * the paging metadata before the records have been iterated forces the remaining records to be decoded and
+ * buffered, since the metadata may follow them in the response.
+ * </p>
+ *
+ * @param <T> record type
+ */
+public class Page<T> implements Iterable<T> {
     private final List<T> records;        
     private boolean  outOfPageRange;
     private int totalPages;
     private int currentPage;
     private final String url;
-    private final int pageSize;
+    private int pageSize;
+    private boolean hasPageSize;
+    private RecordCursor cursor;
 
     private Page(Builder<T> b) {
         this.records = b.records;
@@ -30,69 +49,128 @@ public class Page<T> {
     }
 
 
+    /**
+     * Get the records of this page.
+     *
+     * <p>
+     * For a lazy page this decodes and returns the records that have not been iterated yet.
+     * </p>
+     *
+     * @return the records
+     */
     public List<T> getRecords() {
+        materialize();
         return records;
     }
 
-    
+    /**
+     * Iterate over the records of this page.
+     *
+     * <p>
+     * For a lazy page records are decoded on demand and handed out only once, so only a single pass
+     * is possible.
+     * </p>
+     *
+     * @return record iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        if (cursor == null) {
+            return records.iterator();
+        }
+
+        return new Iterator<T>() {
+            private Iterator<T> buffered;
+
+            private Iterator<T> source() {
+                if (cursor != null) {
+                    return cursor;
+                }
+                if (buffered == null) {
+                    buffered = records.iterator();
+                }
+                return buffered;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return source().hasNext();
+            }
+
+            @Override
+            public T next() {
+                return source().next();
+            }
+        };
+    }
+
+    public boolean isLazy() {
+        return cursor != null;
+    }
+
     public int getPageSize() {
+        materialize();
         return pageSize;
     }
     
     public int getTotalPages() {
+        materialize();
         return totalPages;
     }
     
+    public int getCurrentPage() {
+        materialize();
+        return currentPage;
+    }
+
     public String getUrl() {
-    	String query = "pageSize="+this.pageSize+"&page="+(this.currentPage);
-    	try {
-		final URL parsedUrl = new URL(url);
-		String result = parsedUrl.getQuery() == null ? "?": (parsedUrl.getQuery().length()==0?"":"&");
-		result = url + result + query;
-		return result;
-	} catch (MalformedURLException e) {
-		throw new ApiException(e.getMessage());
-	}
+        materialize();
+        return getPageUrl(currentPage);
+    }
+
+    /**
+     * Get the URL of an arbitrary page of the same listing, using this page's size.
+     *
+     * @param page zero-based page number
+     * @return the page URL
+     */
+    public String getPageUrl(int page) {
+        materialize();
+        String query = "pageSize="+this.pageSize+"&page="+page;
+        try {
+            final URL parsedUrl = new URL(url);
+            String result = parsedUrl.getQuery() == null ? "?": (parsedUrl.getQuery().length()==0?"":"&");
+            result = url + result + query;
+            return result;
+        } catch (MalformedURLException e) {
+            throw new ApiException(e.getMessage());
+        }
     }
 
     
     public boolean hasNextPage() {
+        materialize();
         return !(outOfPageRange  || (currentPage + 1 >= totalPages));
     }
     
 
     public boolean hasPreviousPage() {
+        materialize();
         return this.currentPage > 0;
     }
     
     public String getNextPageUrl(String domain) {
-    	if(!hasNextPage()) {
-    		throw new ApiException("No next page available");
-    	}
-    	String query = "pageSize="+this.pageSize+"&page="+(this.currentPage+1);
-    	try {
-			final URL parsedUrl = new URL(url);
-			String result = parsedUrl.getQuery() == null ? "?": (parsedUrl.getQuery().length()==0?"":"&");
-			result = url + result + query;
-			return result;
-		} catch (MalformedURLException e) {
-			throw new ApiException(e.getMessage());
-		}
+        if(!hasNextPage()) {
+            throw new ApiException("No next page available");
+        }
+        return getPageUrl(this.currentPage+1);
     }
     
     public String getPreviousPageUrl(String domain) {
-    	if(!hasPreviousPage()) {
-    		throw new ApiException("No previous page available");
-    	}
-    	String query = "pageSize="+this.pageSize+"&page="+(this.currentPage-1);
-    	try {
-			final URL parsedUrl = new URL(url);
-			String result = parsedUrl.getQuery() == null ? "?": (parsedUrl.getQuery().length()==0?"":"&");
-			result = url + result + query;
-			return result;
-		} catch (MalformedURLException e) {
-			throw new ApiException(e.getMessage());
-		}
+        if(!hasPreviousPage()) {
+            throw new ApiException("No previous page available");
+        }
+        return getPageUrl(this.currentPage-1);
     }
 
     /**
@@ -107,61 +185,232 @@ public class Page<T> {
      * @return a page of records of type T
      */
     public static <T> Page<T> fromJson(String url, String recordKey, String json, Class<T> recordType, ObjectMapper mapper) {
+        try (JsonParser parser = mapper.getFactory().createParser(json)) {
+            return readPage(url, recordKey, parser, recordType, mapper);
+        } catch (final IOException e) {
+            throw new ApiConnectionException(
+                "Unable to deserialize response: " + e.getMessage() + "\nJSON: " + json, e
+            );
+        }
+    }
+
+    /**
+     * Create a new page of data from a json stream.
+     *
+     * <p>
+     * The stream is read in a single pass: records are bound straight from the parser and the
+     * pagination fields are picked up wherever they appear in the object.
+     * </p>
+     *
+     * @param url        the url to get the page
+     * @param recordKey  key which holds the records
+     * @param json       json stream
+     * @param recordType resource type
+     * @param mapper     json parser
+     * @param <T>        record class type
+     * @return a page of records of type T
+     */
+    public static <T> Page<T> fromJson(String url, String recordKey, InputStream json, Class<T> recordType, ObjectMapper mapper) {
+        return fromJson(url, recordKey, json, recordType, mapper, false);
+    }
+
+    /**
+     * Create a new page of data from a json stream, optionally decoding the records lazily.
+     *
+     * <p>
+     * A lazy page keeps the parser open and decodes each record as its iterator advances; the stream
+     * is closed once the whole object has been read.
+     * </p>
+     *
+     * @param url        the url to get the page
+     * @param recordKey  key which holds the records
+     * @param json       json stream
+     * @param recordType resource type
+     * @param mapper     json parser
+     * @param lazy       whether to decode records on demand
+     * @param <T>        record class type
+     * @return a page of records of type T
+     */
+    public static <T> Page<T> fromJson(String url, String recordKey, InputStream json, Class<T> recordType,
+                                       ObjectMapper mapper, boolean lazy) {
+        JsonParser parser = null;
         try {
-            List<T> results = new ArrayList<>();
-            JsonNode root = mapper.readTree(json);
-            JsonNode records = root.get(recordKey);
-            for (final JsonNode record : records) {
-                results.add(mapper.readValue(record.toString(), recordType));
+            parser = mapper.getFactory().createParser(json);
+            if (!lazy) {
+                return readPage(url, recordKey, parser, recordType, mapper);
             }
-            
-            return buildPage(url, root, results);
 
-           
+            Page<T> page = newPage(url);
+            page.cursor = page.new RecordCursor(parser, recordKey, recordType, mapper);
+            page.cursor.open();
+            return page;
+        } catch (final IOException e) {
+            closeQuietly(parser);
+            throw new ApiConnectionException("Unable to deserialize response: " + e.getMessage(), e);
+        } finally {
+            if (!lazy) {
+                closeQuietly(parser);
+            }
+        }
+    }
 
+    private static <T> Page<T> readPage(String url, String recordKey, JsonParser parser, Class<T> recordType,
+                                        ObjectMapper mapper) throws IOException {
+        Page<T> page = newPage(url);
+        Page<T>.RecordCursor reader = page.new RecordCursor(parser, recordKey, recordType, mapper);
+        reader.open();
+        reader.drain();
+        return page;
+    }
+
+    private static <T> Page<T> newPage(String url) {
+        return new Builder<T>()
+            .url(url)
+            .records(new ArrayList<>())
+            .currentPage(0)
+            .totalPages(1)
+            .outOfPageRange(true)
+            .build();
+    }
+
+    private static void closeQuietly(final JsonParser parser) {
+        if (parser == null) {
+            return;
+        }
+        try {
+            parser.close();
         } catch (final IOException e) {
-            throw new ApiConnectionException(
-                "Unable to deserialize response: " + e.getMessage() + "\nJSON: " + json, e
-            );
+            // nothing left to read
         }
     }
 
-    private static <T> Page<T> buildPage(String url, JsonNode root, List<T> results) {
-        Builder<T> builder = new Builder<T>().url(url);
-        
-        JsonNode pageSizeNode = root.get("pageSize");
-        if (pageSizeNode != null && !pageSizeNode.isNull()) {
-            builder.pageSize(pageSizeNode.asInt());
-        } else {
-            builder.pageSize(results.size());
+    private void materialize() {
+        if (cursor == null) {
+            return;
         }
-        
+        cursor.drain();
+    }
+
+    /**
+     * Walks the page object, reading the paging fields and decoding records one at a time.
+     */
+    private final class RecordCursor implements Iterator<T> {
+        private final JsonParser parser;
+        private final String recordKey;
+        private final Class<T> recordType;
+        private final ObjectMapper mapper;
+
+        private boolean done;
+        private boolean hasLookahead;
+        private T lookahead;
+        private int decoded;
 
-        JsonNode currentPageNode = root.get("page");
-        if (currentPageNode != null && !currentPageNode.isNull()) {
-            builder.currentPage(currentPageNode.asInt());
-        } else {
-            builder.currentPage(0);
+        private RecordCursor(final JsonParser parser, final String recordKey, final Class<T> recordType,
+                             final ObjectMapper mapper) {
+            this.parser = parser;
+            this.recordKey = recordKey;
+            this.recordType = recordType;
+            this.mapper = mapper;
         }
-        
-        JsonNode totalPagesNode = root.get("totalPages");
-        if (totalPagesNode != null && !totalPagesNode.isNull()) {
-            builder.totalPages(totalPagesNode.asInt());
-        } else {
-            builder.totalPages(1);
+
+        /**
+         * Read up to the first record, or to the end of the object when there are none.
+         */
+        private void open() throws IOException {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object");
+            }
+            readFields();
         }
-        
-        JsonNode outOfPageRangeNode = root.get("outOfPageRange");
-        if (outOfPageRangeNode != null && !outOfPageRangeNode.isNull()) {
-            builder.outOfPageRange(outOfPageRangeNode.asBoolean());
-        } else {
-            builder.outOfPageRange(true);
+
+        /**
+         * Decode every remaining record into the page's record list.
+         */
+        private void drain() {
+            while (hasNext()) {
+                records.add(next());
+            }
         }
 
-        return builder.records(results).build();
-    }
+        private void readFields() throws IOException {
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
 
-    
+                if (value == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+
+                if (field.equals(recordKey) && value == JsonToken.START_ARRAY) {
+                    return;
+                } else if ("pageSize".equals(field)) {
+                    pageSize = parser.getValueAsInt();
+                    hasPageSize = true;
+                } else if ("page".equals(field)) {
+                    currentPage = parser.getValueAsInt();
+                } else if ("totalPages".equals(field)) {
+                    totalPages = parser.getValueAsInt();
+                } else if ("outOfPageRange".equals(field)) {
+                    outOfPageRange = parser.getValueAsBoolean();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (token != JsonToken.END_OBJECT) {
+                throw new JsonParseException(parser, "Unexpected end of page");
+            }
+            finish();
+        }
+
+        private void finish() {
+            done = true;
+            if (!hasPageSize) {
+                pageSize = decoded;
+            }
+            if (cursor == this) {
+                cursor = null;
+            }
+            closeQuietly(parser);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (hasLookahead) {
+                return true;
+            }
+            if (done) {
+                return false;
+            }
+
+            try {
+                while (!done) {
+                    if (parser.nextToken() != JsonToken.END_ARRAY) {
+                        lookahead = mapper.readValue(parser, recordType);
+                        hasLookahead = true;
+                        decoded++;
+                        return true;
+                    }
+                    readFields();
+                }
+                return false;
+            } catch (final IOException e) {
+                finish();
+                throw new ApiConnectionException("Unable to deserialize response: " + e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T record = lookahead;
+            lookahead = null;
+            hasLookahead = false;
+            return record;
+        }
+    }
 
     private static class Builder<T> {
         private List<T> records;
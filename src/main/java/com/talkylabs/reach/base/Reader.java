@@ -1,9 +1,18 @@
 package com.talkylabs.reach.base;
 
 import com.talkylabs.reach.Reach;
+import com.talkylabs.reach.concurrent.Tasks;
+import com.talkylabs.reach.exception.ApiException;
 import com.talkylabs.reach.http.ReachRestClient;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Executor for listing of a resource.
@@ -14,6 +23,7 @@ public abstract class Reader<T extends Resource> {
 
     private Integer pageSize;
     private Integer limit;
+    private boolean lazyPaging;
 
     /**
      * Execute a request using default client.
@@ -48,7 +58,106 @@ public abstract class Reader<T extends Resource> {
      * @return future that resolves to the ResourceSet of objects
      */
     public CompletableFuture<ResourceSet<T>> readAsync(final ReachRestClient client) {
-        return CompletableFuture.supplyAsync(() -> read(client), Reach.getExecutorService());
+        return Tasks.supplyAsync(() -> read(client), Reach.getExecutorService());
+    }
+
+    /**
+     * Read every page concurrently using default client, keeping the listing order.
+     *
+     * @param parallelism max number of page requests in flight
+     * @return all records, honoring the limit
+     */
+    public List<T> readParallel(final int parallelism) {
+        return readParallel(Reach.getRestClient(), parallelism, true);
+    }
+
+    /**
+     * Read every page concurrently using default client.
+     *
+     * @param parallelism max number of page requests in flight
+     * @param ordered     whether to keep the listing order, or return records as their pages arrive
+     * @return all records, honoring the limit
+     */
+    public List<T> readParallel(final int parallelism, final boolean ordered) {
+        return readParallel(Reach.getRestClient(), parallelism, ordered);
+    }
+
+    /**
+     * Read every page concurrently using specified client.
+     *
+     * <p>
+     * The first page is fetched to learn {@code totalPages}; the remaining pages, capped by the limit,
+     * are then requested through {@link #getPageAsync(String, ReachRestClient)} with at most
+     * {@code parallelism} requests in flight. No further pages are requested once one fails, and the
+     * failure is rethrown after the in-flight requests settle. Unordered reads return the same records
+     * as ordered ones, the limit being applied by listing position rather than by arrival.
+     * </p>
+     *
+     * @param client      client used to make requests
+     * @param parallelism max number of page requests in flight
+     * @param ordered     whether to keep the listing order, or return records as their pages arrive
+     * @return all records, honoring the limit
+     */
+    public List<T> readParallel(final ReachRestClient client, final int parallelism, final boolean ordered) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+
+        Page<T> first = firstPage(client);
+        long limit = getLimit() == null ? Long.MAX_VALUE : getLimit();
+        long remainingPages = 0;
+        if (first.hasNextPage() && first.getPageSize() > 0) {
+            long pageLimit = (long) Math.ceil((double) limit / (double) first.getPageSize());
+            remainingPages = Math.min(first.getTotalPages() - first.getCurrentPage(), pageLimit) - 1;
+        }
+
+        List<CompletableFuture<Page<T>>> futures = new ArrayList<>();
+        Queue<T> arrived = new ConcurrentLinkedQueue<>();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Semaphore permits = new Semaphore(parallelism);
+
+        try {
+            for (int i = 1; i <= remainingPages && failure.get() == null; i++) {
+                permits.acquire();
+                String url = first.getPageUrl(first.getCurrentPage() + i);
+                // Every page before the last requested one is full, so this is the page's position in the listing
+                long offset = first.getRecords().size() + (i - 1L) * first.getPageSize();
+                // Track the whenComplete stage so the unordered queue is filled before we join
+                futures.add(getPageAsync(url, client).whenComplete((page, e) -> {
+                    if (e != null) {
+                        failure.compareAndSet(null, e);
+                    } else if (!ordered) {
+                        // Trim by listing position, so the limit keeps the same records as the ordered read
+                        List<T> records = page.getRecords();
+                        arrived.addAll(records.subList(0, (int) Math.max(0, Math.min(records.size(), limit - offset))));
+                    }
+                    permits.release();
+                }));
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException("Interrupted while reading pages", e);
+        }
+
+        List<T> results = new ArrayList<>(first.getRecords());
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new ApiException(e.getMessage(), e.getCause());
+        }
+
+        if (ordered) {
+            for (final CompletableFuture<Page<T>> future : futures) {
+                results.addAll(future.join().getRecords());
+            }
+        } else {
+            results.addAll(arrived);
+        }
+
+        return results.size() > limit ? new ArrayList<>(results.subList(0, (int) limit)) : results;
     }
 
     /**
@@ -68,6 +177,16 @@ public abstract class Reader<T extends Resource> {
      */
     public abstract Page<T> firstPage(final ReachRestClient client);
 
+    /**
+     * Fetch the first page of resources asynchronously using specified client.
+     *
+     * @param client client used to fetch
+     * @return future that resolves to the Page containing the first pageSize of resources
+     */
+    public CompletableFuture<Page<T>> firstPageAsync(final ReachRestClient client) {
+        return Tasks.supplyAsync(() -> firstPage(client), Reach.getExecutorService());
+    }
+
     /**
      * Retrieve the target page of resources.
      *
@@ -87,6 +206,17 @@ public abstract class Reader<T extends Resource> {
      */
     public abstract Page<T> getPage(final String targetUrl, final ReachRestClient client);
 
+    /**
+     * Retrieve the target page of resources asynchronously.
+     *
+     * @param targetUrl API-generated URL for the requested results page
+     * @param client    client used to fetch
+     * @return future that resolves to the Page containing the target pageSize of resources
+     */
+    public CompletableFuture<Page<T>> getPageAsync(final String targetUrl, final ReachRestClient client) {
+        return Tasks.supplyAsync(() -> getPage(targetUrl, client), Reach.getExecutorService());
+    }
+
     /**
      * Fetch the following page of resources.
      *
@@ -175,4 +305,23 @@ public abstract class Reader<T extends Resource> {
 
         return this;
     }
+
+    public boolean isLazyPaging() {
+        return lazyPaging;
+    }
+
+    /**
+     * Decode the records of each page on demand while iterating rather than all at once.
+     *
+     * <p>
+     * Keeps heap usage flat on large pages; the records of a lazy page can only be iterated once.
+     * </p>
+     *
+     * @param lazyPaging whether pages are decoded lazily
+     * @return this reader
+     */
+    public Reader<T> lazyPaging(final boolean lazyPaging) {
+        this.lazyPaging = lazyPaging;
+        return this;
+    }
 }
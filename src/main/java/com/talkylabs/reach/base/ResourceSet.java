@@ -3,25 +3,41 @@ package com.talkylabs.reach.base;
 import com.talkylabs.reach.Reach;
 import com.talkylabs.reach.http.ReachRestClient;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A collection of resources.
  *
+ * <p>
+ * When pages are prefetched, {@link #close()} a set that is abandoned before its last page so the
+ * upcoming page requests are cancelled rather than left running in the background.
+ * </p>
+ *
  * @param <E> type of the resource
  */
-public class ResourceSet<E extends Resource> implements Iterable<E> {
+public class ResourceSet<E extends Resource> implements Iterable<E>, AutoCloseable {
 
     private final Reader<E> reader;
     private final ReachRestClient client;
 
     private boolean autoPaging;
     private long pages = 1;
-    private long pageLimit = Long.MAX_VALUE;
+    private Long pageLimit;
     private long processed = 0;
     private Page<E> page;
     private Iterator<E> iterator;
+    private int prefetchDepth = 0;
+    private int nextPrefetchPage = -1;
+    private final Deque<CompletableFuture<Page<E>>> prefetched = new ArrayDeque<>();
 
     /**
      * Initialize the resource set.
@@ -34,12 +50,8 @@ public class ResourceSet<E extends Resource> implements Iterable<E> {
         this.reader = reader;
         this.client = client;
         this.page = page;
-        this.iterator = page.getRecords().iterator();
+        this.iterator = page.iterator();
         this.autoPaging = true;
-
-        if (reader.getLimit() != null) {
-            this.pageLimit = (long)(Math.ceil((double)reader.getLimit() / (double)page.getPageSize()));            
-        }
     }
 
     public boolean isAutoPaging() {
@@ -60,6 +72,43 @@ public class ResourceSet<E extends Resource> implements Iterable<E> {
         return this;
     }
 
+    public int getPrefetchDepth() {
+        return prefetchDepth;
+    }
+
+    /**
+     * Fetch up to the given number of upcoming pages in the background while the current one is consumed.
+     *
+     * <p>
+     * At most {@code prefetchDepth} pages are requested or buffered at any time; a new request is only
+     * issued once the caller moves on to a prefetched page. Pages are still handed out in order. Zero,
+     * the default, fetches each page synchronously when the previous one is exhausted. Lowering the
+     * depth cancels the prefetched pages past the new window.
+     * </p>
+     *
+     * @param prefetchDepth number of pages to fetch ahead
+     * @return this resource set
+     */
+    public ResourceSet<E> setPrefetchDepth(final int prefetchDepth) {
+        if (prefetchDepth < 0) {
+            throw new IllegalArgumentException("prefetchDepth can not be negative");
+        }
+        this.prefetchDepth = prefetchDepth;
+        while (prefetched.size() > prefetchDepth) {
+            prefetched.pollLast().cancel(false);
+            nextPrefetchPage--;
+        }
+        if (prefetched.isEmpty()) {
+            nextPrefetchPage = -1;
+        }
+
+        // A lazy page only knows its metadata once consumed, so start from the next page boundary instead
+        if (autoPaging && !page.isLazy()) {
+            prefetch(page);
+        }
+        return this;
+    }
+
     public Integer getLimit() {
         return reader.getLimit();
     }
@@ -69,7 +118,22 @@ public class ResourceSet<E extends Resource> implements Iterable<E> {
         return this;
     }
 
+    /**
+     * Get the max number of pages to fetch given the reader's limit.
+     *
+     * <p>
+     * Computed from the first page's size on first use, so a lazy first page is not forced to decode
+     * its records up front.
+     * </p>
+     *
+     * @return max number of pages
+     */
     public long getPageLimit() {
+        if (pageLimit == null) {
+            pageLimit = reader.getLimit() == null
+                ? Long.MAX_VALUE
+                : (long)(Math.ceil((double)reader.getLimit() / (double)page.getPageSize()));
+        }
         return pageLimit;
     }
 
@@ -78,14 +142,118 @@ public class ResourceSet<E extends Resource> implements Iterable<E> {
         return new ResourceSetIterator<>(this);
     }
 
+    /**
+     * Stop prefetching and cancel the page requests that have not completed yet.
+     *
+     * <p>
+     * A page still waiting for a rate limit permit, a retry delay or an executor thread is never
+     * requested, and no further retry is made. A request already being sent is aborted by non-blocking
+     * transports; blocking ones let it finish and its page is discarded. Calls shared with other
+     * callers, such as coalesced requests or cached page loads, keep running for them. The set can
+     * still be iterated afterwards, fetching each page synchronously.
+     * </p>
+     */
+    @Override
+    public void close() {
+        prefetchDepth = 0;
+        cancelPrefetch();
+    }
+
+    /**
+     * Create a spliterator over the remaining records that splits at page boundaries.
+     *
+     * <p>
+     * It takes over from the current position of this set, cancelling any prefetched pages: the rest
+     * of the current page is served first, then the remaining pages, up to the limit, are fetched
+     * independently by whichever split owns them. The listing does not report a record count, so the
+     * size is an estimate of {@code pageSize} records per page, and {@code SIZED} is only reported when
+     * nothing is left to fetch and the current page is not lazy. On a lazy page, splitting or estimating the size before the page has been
+     * iterated decodes its remaining records, while a sequential traversal keeps decoding them one at a time.
+     * </p>
+     *
+     * @return spliterator over the records
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        cancelPrefetch();
+        return new PageSpliterator<>(this);
+    }
+
+    /**
+     * Stream the remaining records sequentially.
+     *
+     * @return stream of records
+     */
+    public Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Stream the remaining records in parallel, fetching page ranges concurrently.
+     *
+     * @return parallel stream of records
+     */
+    public Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
     private void fetchNextPage() {
-        if (!page.hasNextPage() || pages >= pageLimit) {
+        if (pages >= getPageLimit() || !page.hasNextPage()) {
             return;
         }
 
         pages++;
-        page = reader.nextPage(page, client);
-        iterator = page.getRecords().iterator();
+        page = prefetchDepth > 0 || !prefetched.isEmpty() ? nextPrefetchedPage() : reader.nextPage(page, client);
+        iterator = page.iterator();
+    }
+
+    private Page<E> nextPrefetchedPage() {
+        Page<E> current = page;
+        prefetch(current);
+
+        CompletableFuture<Page<E>> next = prefetched.poll();
+        if (next == null) {
+            nextPrefetchPage = -1;
+            return reader.nextPage(current, client);
+        }
+
+        // Top the window back up while the caller consumes the page we are about to hand out
+        prefetch(current);
+
+        try {
+            return next.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Request upcoming pages until the window is full, the listing ends or the page limit is reached.
+     *
+     * @param anchor a fully read page of this listing, used for its size, URL and page count
+     */
+    private void prefetch(final Page<E> anchor) {
+        if (nextPrefetchPage < 0) {
+            nextPrefetchPage = anchor.getCurrentPage() + 1;
+        }
+
+        while (prefetched.size() < prefetchDepth
+            && nextPrefetchPage < anchor.getTotalPages()
+            && pages + prefetched.size() < getPageLimit()) {
+            prefetched.add(reader.getPageAsync(anchor.getPageUrl(nextPrefetchPage), client));
+            nextPrefetchPage++;
+        }
+    }
+
+    private void cancelPrefetch() {
+        for (final CompletableFuture<Page<E>> future : prefetched) {
+            future.cancel(false);
+        }
+        prefetched.clear();
+        nextPrefetchPage = -1;
     }
 
     private class ResourceSetIterator<E extends Resource> implements Iterator<E> {
@@ -128,4 +296,158 @@ public class ResourceSet<E extends Resource> implements Iterable<E> {
         }
 
     }
+
+    private static final class PageSpliterator<E extends Resource> implements Spliterator<E> {
+        private final Reader<E> reader;
+        private final ReachRestClient client;
+        private final Page<E> anchor;
+        private final int characteristics;
+
+        private ResourceSet<E> origin;
+        private long taken;
+        private int pageSize;
+        private long maxRecord;
+        private Iterator<E> current;
+        private long currentCap;
+        private long currentEstimate;
+        private int nextPage;
+        private int endPage;
+
+        private PageSpliterator(final ResourceSet<E> set) {
+            this.reader = set.reader;
+            this.client = set.client;
+            this.anchor = set.page;
+            this.origin = set;
+
+            Integer limit = set.getLimit();
+            this.current = set.iterator;
+            this.currentCap = limit == null ? Long.MAX_VALUE : Math.max(0, limit - set.processed);
+
+            // A lazy page only knows its metadata once consumed, so place it when first needed instead
+            if (anchor.isLazy()) {
+                this.characteristics = ORDERED | NONNULL;
+                return;
+            }
+
+            resolve();
+            boolean sized = set.processed == 0 && nextPage >= endPage;
+            this.characteristics = ORDERED | NONNULL | (sized ? SIZED | SUBSIZED : 0);
+        }
+
+        private PageSpliterator(final PageSpliterator<E> parent, final int fromPage, final int toPage) {
+            this.reader = parent.reader;
+            this.client = parent.client;
+            this.anchor = parent.anchor;
+            this.pageSize = parent.pageSize;
+            this.maxRecord = parent.maxRecord;
+            this.characteristics = ORDERED | NONNULL;
+            this.nextPage = fromPage;
+            this.endPage = toPage;
+        }
+
+        /**
+         * Read the anchor page's metadata and work out the pages left to fetch.
+         */
+        private void resolve() {
+            if (origin == null) {
+                return;
+            }
+            ResourceSet<E> set = origin;
+            origin = null;
+
+            boolean lazy = anchor.isLazy();
+            this.pageSize = anchor.getPageSize();
+            Integer limit = set.getLimit();
+            int currentPage = anchor.getCurrentPage();
+            long consumed = Math.max(0, set.processed - (set.pages - 1) * pageSize);
+            long cap = limit == null ? Long.MAX_VALUE : Math.max(0, limit - set.processed);
+
+            // A lazy page hands each record out once, so its record list only holds those not yet iterated
+            long remaining = lazy ? pageSize - consumed - taken : anchor.getRecords().size() - consumed;
+            this.currentEstimate = Math.min(Math.max(0, remaining), currentCap);
+            // Global index, in records from the start of the listing, of the first record past the limit
+            this.maxRecord = limit == null ? Long.MAX_VALUE : (long) currentPage * pageSize + consumed + cap;
+
+            this.nextPage = currentPage + 1;
+            long pageLimit = set.getPageLimit();
+            if (!set.autoPaging || !anchor.hasNextPage()) {
+                this.endPage = nextPage;
+            } else if (pageLimit == Long.MAX_VALUE) {
+                this.endPage = anchor.getTotalPages();
+            } else {
+                this.endPage = (int) Math.min(anchor.getTotalPages(), nextPage + pageLimit - set.pages);
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super E> action) {
+            while (true) {
+                if (current != null && currentCap > 0 && current.hasNext()) {
+                    currentCap--;
+                    if (origin != null) {
+                        taken++;
+                    } else {
+                        currentEstimate = Math.max(0, currentEstimate - 1);
+                    }
+                    action.accept(current.next());
+                    return true;
+                }
+                resolve();
+                if (nextPage >= endPage) {
+                    current = null;
+                    return false;
+                }
+                openPage(nextPage++);
+            }
+        }
+
+        private void openPage(final int number) {
+            Page<E> page = reader.getPage(anchor.getPageUrl(number), client);
+            current = page.iterator();
+            currentCap = maxRecord == Long.MAX_VALUE ? Long.MAX_VALUE : Math.max(0, maxRecord - (long) number * pageSize);
+            currentEstimate = Math.min(pageSize, currentCap);
+
+            // The listing ended early, so there is nothing past this page either
+            if (!current.hasNext()) {
+                endPage = nextPage;
+            }
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            resolve();
+            int units = endPage - nextPage + (current != null && currentCap > 0 && current.hasNext() ? 1 : 0);
+            if (units < 2) {
+                return null;
+            }
+
+            // Hand the current page and the first half of the pages off as the prefix, keep the rest
+            int mid = endPage - units / 2;
+            PageSpliterator<E> prefix = new PageSpliterator<>(this, nextPage, mid);
+            prefix.current = current;
+            prefix.currentCap = currentCap;
+            prefix.currentEstimate = currentEstimate;
+
+            current = null;
+            currentCap = 0;
+            currentEstimate = 0;
+            nextPage = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            resolve();
+            long upcoming = (long) (endPage - nextPage) * pageSize;
+            if (maxRecord != Long.MAX_VALUE) {
+                upcoming = Math.min(upcoming, Math.max(0, maxRecord - (long) nextPage * pageSize));
+            }
+            return currentEstimate + upcoming;
+        }
+
+        @Override
+        public int characteristics() {
+            return characteristics;
+        }
+    }
 }
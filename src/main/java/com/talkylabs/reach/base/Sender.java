@@ -1,6 +1,7 @@
 package com.talkylabs.reach.base;
 
 import com.talkylabs.reach.Reach;
+import com.talkylabs.reach.concurrent.Tasks;
 import com.talkylabs.reach.http.ReachRestClient;
 
 import java.util.concurrent.CompletableFuture;
@@ -28,7 +29,7 @@ public abstract class Sender<T extends Resource> {
      * @return future that resolves to requested object
      */
     public CompletableFuture<T> sendAsync(final ReachRestClient client) {
-        return CompletableFuture.supplyAsync(() -> send(client), Reach.getExecutorService());
+        return Tasks.supplyAsync(() -> send(client), Reach.getExecutorService());
     }
 
     /**
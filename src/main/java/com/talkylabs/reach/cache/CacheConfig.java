@@ -0,0 +1,90 @@
+package com.talkylabs.reach.cache;
+
+/**
+ * Size, expiry and refresh settings of a {@link ResourceCache}.
+ */
+public class CacheConfig {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+    public static final long DEFAULT_TTL_MILLIS = 300000L;
+
+    private final int maximumSize;
+    private final long ttlMillis;
+    private final long refreshAheadMillis;
+
+    private CacheConfig(final Builder b) {
+        this.maximumSize = b.maximumSize;
+        this.ttlMillis = b.ttlMillis;
+        this.refreshAheadMillis = b.refreshAheadMillis;
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public long getTtlMillis() {
+        return ttlMillis;
+    }
+
+    public long getRefreshAheadMillis() {
+        return refreshAheadMillis;
+    }
+
+    public static class Builder {
+        private int maximumSize = DEFAULT_MAXIMUM_SIZE;
+        private long ttlMillis = DEFAULT_TTL_MILLIS;
+        private long refreshAheadMillis = 0L;
+
+        /**
+         * Max number of entries, the least recently used entry is evicted beyond it.
+         *
+         * @param maximumSize number of entries
+         * @return this builder
+         */
+        public Builder maximumSize(final int maximumSize) {
+            if (maximumSize <= 0) {
+                throw new IllegalArgumentException("maximumSize must be positive");
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Time after which an entry expires and the next read goes to the network.
+         *
+         * @param ttlMillis time to live in milliseconds
+         * @return this builder
+         */
+        public Builder ttlMillis(final long ttlMillis) {
+            if (ttlMillis <= 0) {
+                throw new IllegalArgumentException("ttlMillis must be positive");
+            }
+            this.ttlMillis = ttlMillis;
+            return this;
+        }
+
+        /**
+         * Reload an entry in the background when it is read within this period before it expires,
+         * so that hot entries never expire under their readers.
+         *
+         * @param refreshAheadMillis period in milliseconds, non-positive to disable
+         * @return this builder
+         */
+        public Builder refreshAheadMillis(final long refreshAheadMillis) {
+            this.refreshAheadMillis = refreshAheadMillis;
+            return this;
+        }
+
+        /**
+         * Build new CacheConfig.
+         *
+         * @return CacheConfig instance
+         */
+        public CacheConfig build() {
+            if (refreshAheadMillis >= ttlMillis) {
+                throw new IllegalArgumentException("refreshAheadMillis must be less than ttlMillis");
+            }
+            return new CacheConfig(this);
+        }
+    }
+}
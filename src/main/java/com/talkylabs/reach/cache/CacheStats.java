@@ -0,0 +1,68 @@
+package com.talkylabs.reach.cache;
+
+/**
+ * Snapshot of the counters of a {@link ResourceCache}.
+ */
+public final class CacheStats {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long refreshCount;
+    private final int size;
+
+    CacheStats(final long hitCount, final long missCount, final long evictionCount, final long refreshCount,
+               final int size) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.refreshCount = refreshCount;
+        this.size = size;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Get the number of entries dropped because they expired or the cache was full.
+     *
+     * @return number of evictions, invalidations not included
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Get the number of background reloads started by refresh-ahead.
+     *
+     * @return number of refreshes
+     */
+    public long getRefreshCount() {
+        return refreshCount;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Get the share of reads served from the cache.
+     *
+     * @return hit rate between 0 and 1, or 0 before the first read
+     */
+    public double getHitRate() {
+        long reads = hitCount + missCount;
+        return reads == 0 ? 0.0 : (double) hitCount / reads;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{hits=" + hitCount + ", misses=" + missCount + ", evictions=" + evictionCount
+            + ", refreshes=" + refreshCount + ", size=" + size + "}";
+    }
+}
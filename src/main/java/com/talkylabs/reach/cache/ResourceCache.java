@@ -0,0 +1,292 @@
+package com.talkylabs.reach.cache;
+
+import com.talkylabs.reach.Reach;
+import com.talkylabs.reach.concurrent.Tasks;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Bounded in-process cache with per-entry expiry and optional refresh-ahead.
+ *
+ * <p>
+ * The least recently used entry is evicted when the cache is full, and entries expire after the configured
+ * TTL. With refresh-ahead, an entry read shortly before it expires is reloaded in the background while
+ * readers keep getting the current value. Loaders run outside the cache lock.
+ * </p>
+ *
+ * <p>
+ * Invalidation wins over loads that were already in flight: a value loaded before an invalidation is
+ * returned to its caller but not stored.
+ * </p>
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class ResourceCache<K, V> {
+
+    private final CacheConfig config;
+    private final LongSupplier clock;
+    private final LinkedHashMap<K, CacheEntry<V>> entries;
+
+    private long generation;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private long refreshCount;
+
+    /**
+     * Create a cache.
+     *
+     * @param config cache settings
+     */
+    public ResourceCache(final CacheConfig config) {
+        this(config, System::currentTimeMillis);
+    }
+
+    /**
+     * Create a cache reading time from the given clock.
+     *
+     * @param config cache settings
+     * @param clock  current time in milliseconds
+     */
+    public ResourceCache(final CacheConfig config, final LongSupplier clock) {
+        this.config = config;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<K, CacheEntry<V>>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, CacheEntry<V>> eldest) {
+                if (size() > ResourceCache.this.config.getMaximumSize()) {
+                    evictionCount++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Get a cached value.
+     *
+     * @param key key
+     * @return the value, or null when absent or expired
+     */
+    public synchronized V get(final K key) {
+        CacheEntry<V> entry = lookup(key);
+        return entry == null ? null : entry.value;
+    }
+
+    /**
+     * Get a cached value, loading and storing it on a miss.
+     *
+     * <p>
+     * With refresh-ahead, an entry close to expiry is reloaded on {@link Reach#getExecutorService()}.
+     * </p>
+     *
+     * @param key    key
+     * @param loader loads the value, null values are not stored
+     * @return the cached or loaded value
+     */
+    public V get(final K key, final Supplier<V> loader) {
+        final CacheEntry<V> entry;
+        final boolean refresh;
+        final long loadGeneration;
+        synchronized (this) {
+            entry = lookup(key);
+            refresh = entry != null && startRefresh(entry);
+            loadGeneration = generation;
+        }
+
+        if (entry == null) {
+            V value = loader.get();
+            put(key, value, loadGeneration);
+            return value;
+        }
+        if (refresh) {
+            refresh(key, entry, loadGeneration, () -> Tasks.supplyAsync(loader, Reach.getExecutorService()));
+        }
+        return entry.value;
+    }
+
+    /**
+     * Get a cached value, loading and storing it asynchronously on a miss.
+     *
+     * @param key    key
+     * @param loader starts loading the value, null values are not stored
+     * @return future of the cached or loaded value
+     */
+    public CompletableFuture<V> getAsync(final K key, final Supplier<CompletableFuture<V>> loader) {
+        final CacheEntry<V> entry;
+        final boolean refresh;
+        final long loadGeneration;
+        synchronized (this) {
+            entry = lookup(key);
+            refresh = entry != null && startRefresh(entry);
+            loadGeneration = generation;
+        }
+
+        if (entry == null) {
+            return loader.get().thenApply(value -> {
+                put(key, value, loadGeneration);
+                return value;
+            });
+        }
+        if (refresh) {
+            refresh(key, entry, loadGeneration, loader);
+        }
+        return CompletableFuture.completedFuture(entry.value);
+    }
+
+    /**
+     * Store a value.
+     *
+     * @param key   key
+     * @param value value, ignored when null
+     */
+    public synchronized void put(final K key, final V value) {
+        if (value != null) {
+            entries.put(key, new CacheEntry<>(value, clock.getAsLong() + config.getTtlMillis()));
+        }
+    }
+
+    /**
+     * Store a value loaded outside the cache, unless the cache was invalidated since the load started.
+     *
+     * @param key            key
+     * @param value          value, ignored when null
+     * @param loadGeneration {@link #getGeneration()} read before the load started
+     * @return whether the value was stored
+     */
+    public synchronized boolean put(final K key, final V value, final long loadGeneration) {
+        if (loadGeneration != generation || value == null) {
+            return false;
+        }
+        put(key, value);
+        return true;
+    }
+
+    /**
+     * Get the invalidation generation, bumped by every invalidation.
+     *
+     * @return current generation
+     */
+    public synchronized long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Drop the entry of a key.
+     *
+     * @param key key
+     */
+    public synchronized void invalidate(final K key) {
+        generation++;
+        entries.remove(key);
+    }
+
+    /**
+     * Drop the entries whose key matches.
+     *
+     * @param predicate key predicate
+     */
+    public synchronized void invalidateIf(final Predicate<K> predicate) {
+        generation++;
+        entries.keySet().removeIf(predicate);
+    }
+
+    /**
+     * Drop every entry.
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Get a snapshot of the hit, miss, eviction and refresh counters.
+     *
+     * @return cache statistics
+     */
+    public synchronized CacheStats getStats() {
+        return new CacheStats(hitCount, missCount, evictionCount, refreshCount, entries.size());
+    }
+
+    public CacheConfig getConfig() {
+        return config;
+    }
+
+    // Must hold the lock
+    private CacheEntry<V> lookup(final K key) {
+        CacheEntry<V> entry = fresh(key);
+        if (entry == null) {
+            missCount++;
+        } else {
+            hitCount++;
+        }
+        return entry;
+    }
+
+    // Must hold the lock
+    private CacheEntry<V> fresh(final K key) {
+        CacheEntry<V> entry = entries.get(key);
+        if (entry != null && clock.getAsLong() >= entry.expiresAt) {
+            entries.remove(key);
+            evictionCount++;
+            return null;
+        }
+        return entry;
+    }
+
+    // Must hold the lock
+    private boolean startRefresh(final CacheEntry<V> entry) {
+        if (config.getRefreshAheadMillis() <= 0 || entry.refreshing
+            || clock.getAsLong() < entry.expiresAt - config.getRefreshAheadMillis()) {
+            return false;
+        }
+        entry.refreshing = true;
+        refreshCount++;
+        return true;
+    }
+
+    // Must not hold the lock, the loader may run inline on a saturated executor
+    private void refresh(final K key, final CacheEntry<V> entry, final long refreshGeneration,
+                         final Supplier<CompletableFuture<V>> loader) {
+        CompletableFuture<V> future;
+        try {
+            future = loader.get();
+        } catch (final RuntimeException e) {
+            refreshed(key, entry, refreshGeneration, null);
+            return;
+        }
+        future.whenComplete((value, error) -> refreshed(key, entry, refreshGeneration, value));
+    }
+
+    private synchronized void refreshed(final K key, final CacheEntry<V> entry, final long refreshGeneration,
+                                        final V value) {
+        entry.refreshing = false;
+        if (value != null && refreshGeneration == generation && entries.get(key) == entry) {
+            entries.put(key, new CacheEntry<>(value, clock.getAsLong() + config.getTtlMillis()));
+        }
+    }
+
+    private static final class CacheEntry<V> {
+        private final V value;
+        private final long expiresAt;
+        private boolean refreshing;
+
+        private CacheEntry(final V value, final long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.talkylabs.reach.cache;
+
+import com.talkylabs.reach.base.Page;
+import com.talkylabs.reach.http.ReachRestClient;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Read-through caches of resources, one pair per resource type: items keyed by id and pages keyed by URL,
+ * both along with the client's username so clients with different credentials can share the caches.
+ *
+ * <p>
+ * Fetchers and readers of a cached resource type consult these caches, and its creators, updaters and
+ * deleters invalidate them when they succeed. Changes made outside this client are only seen once entries
+ * expire.
+ * </p>
+ */
+public class ResourceCaches {
+
+    private final Map<Class<?>, ResourceCache<String, ?>> itemCaches;
+    private final Map<Class<?>, ResourceCache<String, ?>> pageCaches;
+
+    private ResourceCaches(final Builder b) {
+        this.itemCaches = Collections.unmodifiableMap(new HashMap<>(b.itemCaches));
+        this.pageCaches = Collections.unmodifiableMap(new HashMap<>(b.pageCaches));
+    }
+
+    /**
+     * Get the cache of items of a resource type.
+     *
+     * @param type resource type
+     * @param <T>  resource type
+     * @return the cache, or null when the type is not cached
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ResourceCache<String, T> itemCache(final Class<T> type) {
+        return (ResourceCache<String, T>) itemCaches.get(type);
+    }
+
+    /**
+     * Get the cache of pages of a resource type.
+     *
+     * @param type resource type
+     * @param <T>  resource type
+     * @return the cache, or null when the type is not cached
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ResourceCache<String, Page<T>> pageCache(final Class<T> type) {
+        return (ResourceCache<String, Page<T>>) pageCaches.get(type);
+    }
+
+    /**
+     * Get the cache of items of a resource type configured on a client.
+     *
+     * @param client client
+     * @param type   resource type
+     * @param <T>    resource type
+     * @return the cache, or null when the client does not cache the type
+     */
+    public static <T> ResourceCache<String, T> itemCache(final ReachRestClient client, final Class<T> type) {
+        ResourceCaches caches = client.getResourceCaches();
+        return caches == null ? null : caches.itemCache(type);
+    }
+
+    /**
+     * Get the cache of pages of a resource type configured on a client.
+     *
+     * @param client client
+     * @param type   resource type
+     * @param <T>    resource type
+     * @return the cache, or null when the client does not cache the type
+     */
+    public static <T> ResourceCache<String, Page<T>> pageCache(final ReachRestClient client, final Class<T> type) {
+        ResourceCaches caches = client.getResourceCaches();
+        return caches == null ? null : caches.pageCache(type);
+    }
+
+    /**
+     * Build the cache key of an item id or page URL for a client.
+     *
+     * @param client client
+     * @param id     item id or page URL
+     * @return cache key
+     */
+    public static String key(final ReachRestClient client, final String id) {
+        return id + " " + client.getUsername();
+    }
+
+    /**
+     * Drop a changed or deleted item, for every user, along with every cached page of its type.
+     *
+     * @param client client
+     * @param type   resource type
+     * @param id     id of the item, or null when only pages changed, such as after a creation
+     */
+    public static void invalidate(final ReachRestClient client, final Class<?> type, final String id) {
+        ResourceCaches caches = client.getResourceCaches();
+        if (caches == null) {
+            return;
+        }
+        ResourceCache<String, ?> items = caches.itemCaches.get(type);
+        if (items != null && id != null) {
+            String prefix = id + " ";
+            items.invalidateIf(key -> key.startsWith(prefix));
+        }
+        ResourceCache<String, ?> pages = caches.pageCaches.get(type);
+        if (pages != null) {
+            pages.invalidateAll();
+        }
+    }
+
+    public static class Builder {
+        private final Map<Class<?>, ResourceCache<String, ?>> itemCaches = new HashMap<>();
+        private final Map<Class<?>, ResourceCache<String, ?>> pageCaches = new HashMap<>();
+
+        /**
+         * Cache items and pages of a resource type, each in its own cache built from the same config.
+         *
+         * @param type   resource type, such as {@code ConfigurationItem.class}
+         * @param config cache settings
+         * @return this builder
+         */
+        public Builder cache(final Class<?> type, final CacheConfig config) {
+            itemCaches.put(type, new ResourceCache<String, Object>(config));
+            pageCaches.put(type, new ResourceCache<String, Object>(config));
+            return this;
+        }
+
+        /**
+         * Build new ResourceCaches.
+         *
+         * @return ResourceCaches instance
+         */
+        public ResourceCaches build() {
+            return new ResourceCaches(this);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.talkylabs.reach.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared timer for delays on async paths, so waiting never holds a pooled thread.
+ *
+ * <p>
+ * Backed by a single daemon thread; scheduled work should only complete futures or hand off
+ * to another executor.
+ * </p>
+ */
+public final class Delays {
+
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "reach-delay-scheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Delays() {
+    }
+
+    /**
+     * Get a future that completes after the given delay.
+     *
+     * @param delay delay, completes immediately when not positive
+     * @param unit  delay unit
+     * @return future completed once the delay has elapsed
+     */
+    public static CompletableFuture<Void> delay(final long delay, final TimeUnit unit) {
+        if (delay <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        SCHEDULER.schedule(() -> future.complete(null), delay, unit);
+        return future;
+    }
+}
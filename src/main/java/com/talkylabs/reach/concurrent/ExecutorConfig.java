@@ -0,0 +1,186 @@
+package com.talkylabs.reach.concurrent;
+
+/**
+ * Sizing and saturation settings for the default Reach executor service.
+ */
+public class ExecutorConfig {
+
+    public static final int DEFAULT_CORE_POOL_SIZE = 10;
+    public static final int DEFAULT_MAX_POOL_SIZE = 20;
+    public static final int DEFAULT_QUEUE_CAPACITY = 1000;
+    public static final long DEFAULT_KEEP_ALIVE_MILLIS = 60000L;
+    public static final long DEFAULT_SHUTDOWN_TIMEOUT_MILLIS = 5000L;
+    public static final String DEFAULT_THREAD_NAME_PREFIX = "reach-async-";
+
+    private final ExecutorMode mode;
+    private final int corePoolSize;
+    private final int maxPoolSize;
+    private final int queueCapacity;
+    private final long keepAliveMillis;
+    private final long shutdownTimeoutMillis;
+    private final SaturationPolicy saturationPolicy;
+    private final String threadNamePrefix;
+
+    private ExecutorConfig(final Builder b) {
+        this.mode = b.mode;
+        this.corePoolSize = b.corePoolSize;
+        this.maxPoolSize = b.maxPoolSize;
+        this.queueCapacity = b.queueCapacity;
+        this.keepAliveMillis = b.keepAliveMillis;
+        this.shutdownTimeoutMillis = b.shutdownTimeoutMillis;
+        this.saturationPolicy = b.saturationPolicy;
+        this.threadNamePrefix = b.threadNamePrefix;
+    }
+
+    public ExecutorMode getMode() {
+        return mode;
+    }
+
+    public int getCorePoolSize() {
+        return corePoolSize;
+    }
+
+    public int getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public long getKeepAliveMillis() {
+        return keepAliveMillis;
+    }
+
+    public long getShutdownTimeoutMillis() {
+        return shutdownTimeoutMillis;
+    }
+
+    public SaturationPolicy getSaturationPolicy() {
+        return saturationPolicy;
+    }
+
+    public String getThreadNamePrefix() {
+        return threadNamePrefix;
+    }
+
+    public static class Builder {
+        private ExecutorMode mode = ExecutorMode.BOUNDED;
+        private int corePoolSize = DEFAULT_CORE_POOL_SIZE;
+        private int maxPoolSize = DEFAULT_MAX_POOL_SIZE;
+        private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+        private long keepAliveMillis = DEFAULT_KEEP_ALIVE_MILLIS;
+        private long shutdownTimeoutMillis = DEFAULT_SHUTDOWN_TIMEOUT_MILLIS;
+        private SaturationPolicy saturationPolicy = SaturationPolicy.ABORT;
+        private String threadNamePrefix = DEFAULT_THREAD_NAME_PREFIX;
+
+        /**
+         * Select the kind of executor. In {@link ExecutorMode#VIRTUAL_THREADS} mode only the thread name
+         * prefix and shutdown timeout apply; concurrency is then bounded by the HTTP connection pool.
+         *
+         * @param mode executor mode
+         * @return this builder
+         */
+        public Builder mode(final ExecutorMode mode) {
+            this.mode = mode;
+            return this;
+        }
+
+        /**
+         * Threads kept while there is work; they still time out after keepAliveMillis of idleness.
+         *
+         * @param corePoolSize core number of threads
+         * @return this builder
+         */
+        public Builder corePoolSize(final int corePoolSize) {
+            if (corePoolSize <= 0) {
+                throw new IllegalArgumentException("corePoolSize must be positive");
+            }
+            this.corePoolSize = corePoolSize;
+            return this;
+        }
+
+        /**
+         * Upper bound on threads, only reached once the queue is full.
+         *
+         * @param maxPoolSize max number of threads
+         * @return this builder
+         */
+        public Builder maxPoolSize(final int maxPoolSize) {
+            if (maxPoolSize <= 0) {
+                throw new IllegalArgumentException("maxPoolSize must be positive");
+            }
+            this.maxPoolSize = maxPoolSize;
+            return this;
+        }
+
+        /**
+         * Number of tasks that may wait for a thread before the saturation policy applies.
+         *
+         * @param queueCapacity queue capacity, 0 to hand tasks directly to threads
+         * @return this builder
+         */
+        public Builder queueCapacity(final int queueCapacity) {
+            if (queueCapacity < 0) {
+                throw new IllegalArgumentException("queueCapacity can not be negative");
+            }
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        public Builder keepAliveMillis(final long keepAliveMillis) {
+            this.keepAliveMillis = keepAliveMillis;
+            return this;
+        }
+
+        /**
+         * How long {@code Reach.destroy()} waits for running tasks before interrupting them.
+         *
+         * @param shutdownTimeoutMillis grace period in milliseconds
+         * @return this builder
+         */
+        public Builder shutdownTimeoutMillis(final long shutdownTimeoutMillis) {
+            this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+            return this;
+        }
+
+        /**
+         * What to do with a task once threads and queue are full. With the default {@link SaturationPolicy#ABORT},
+         * an {@code *Async()} call made while the executor is saturated returns a future failed with a
+         * {@link java.util.concurrent.RejectedExecutionException}. {@link SaturationPolicy#CALLER_RUNS} runs
+         * the call on the calling thread instead, so {@code *Async()} methods then block their caller. This
+         * includes retries and rate-limited calls resuming after a wait, which then run on the shared timer
+         * thread of {@link Delays} and hold up every other pending wait until they return.
+         *
+         * @param saturationPolicy saturation policy
+         * @return this builder
+         */
+        public Builder saturationPolicy(final SaturationPolicy saturationPolicy) {
+            this.saturationPolicy = saturationPolicy;
+            return this;
+        }
+
+        public Builder threadNamePrefix(final String threadNamePrefix) {
+            this.threadNamePrefix = threadNamePrefix;
+            return this;
+        }
+
+        /**
+         * Build new ExecutorConfig.
+         *
+         * @return ExecutorConfig instance
+         */
+        public ExecutorConfig build() {
+            if (corePoolSize > maxPoolSize) {
+                throw new IllegalArgumentException("corePoolSize can not exceed maxPoolSize");
+            }
+            if (mode == ExecutorMode.VIRTUAL_THREADS && !VirtualThreads.isSupported()) {
+                throw new UnsupportedOperationException("Virtual threads require Java 21 or later");
+            }
+            if (saturationPolicy == null) {
+                throw new IllegalArgumentException("saturationPolicy can not be null");
+            }
+            return new ExecutorConfig(this);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.talkylabs.reach.concurrent;
+
+/**
+ * Kind of executor Reach creates for the SDK's {@code *Async()} methods.
+ */
+public enum ExecutorMode {
+    /**
+     * Bounded platform-thread pool, see {@link ReachExecutorService}.
+     */
+    BOUNDED,
+
+    /**
+     * One virtual thread per task. Requires Java 21 or later.
+     */
+    VIRTUAL_THREADS
+}
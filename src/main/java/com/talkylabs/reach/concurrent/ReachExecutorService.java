@@ -0,0 +1,125 @@
+package com.talkylabs.reach.concurrent;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded thread pool backing the SDK's {@code *Async()} methods.
+ *
+ * <p>
+ * Threads are named daemons, the work queue is bounded and saturation is handled by the configured
+ * {@link SaturationPolicy}. Active, queued and rejected task counts are exposed for monitoring.
+ * </p>
+ */
+public class ReachExecutorService extends ThreadPoolExecutor {
+
+    private final LongAdder rejectedCount;
+    private final long shutdownTimeoutMillis;
+
+    /**
+     * Create an executor with the default configuration.
+     */
+    public ReachExecutorService() {
+        this(new ExecutorConfig.Builder().build());
+    }
+
+    /**
+     * Create an executor from the given configuration.
+     *
+     * @param config executor configuration
+     */
+    public ReachExecutorService(final ExecutorConfig config) {
+        this(config, new LongAdder());
+    }
+
+    private ReachExecutorService(final ExecutorConfig config, final LongAdder rejectedCount) {
+        super(
+            config.getCorePoolSize(),
+            config.getMaxPoolSize(),
+            config.getKeepAliveMillis(),
+            TimeUnit.MILLISECONDS,
+            createQueue(config.getQueueCapacity()),
+            new NamedDaemonThreadFactory(config.getThreadNamePrefix()),
+            createHandler(config.getSaturationPolicy(), rejectedCount)
+        );
+        this.rejectedCount = rejectedCount;
+        this.shutdownTimeoutMillis = config.getShutdownTimeoutMillis();
+        allowCoreThreadTimeOut(config.getKeepAliveMillis() > 0);
+    }
+
+    private static BlockingQueue<Runnable> createQueue(final int capacity) {
+        return capacity == 0 ? new SynchronousQueue<>() : new ArrayBlockingQueue<>(capacity);
+    }
+
+    private static RejectedExecutionHandler createHandler(final SaturationPolicy policy, final LongAdder rejectedCount) {
+        final RejectedExecutionHandler delegate = policy == SaturationPolicy.CALLER_RUNS
+            ? new ThreadPoolExecutor.CallerRunsPolicy()
+            : new ThreadPoolExecutor.AbortPolicy();
+        return (task, executor) -> {
+            rejectedCount.increment();
+            delegate.rejectedExecution(task, executor);
+        };
+    }
+
+    /**
+     * @return number of tasks waiting in the queue
+     */
+    public int getQueuedCount() {
+        return getQueue().size();
+    }
+
+    /**
+     * @return number of tasks that hit the saturation policy, including those run by the caller
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    public long getShutdownTimeoutMillis() {
+        return shutdownTimeoutMillis;
+    }
+
+    /**
+     * Stop accepting tasks, wait up to the configured grace period for running ones and interrupt the rest.
+     */
+    public void shutdownGracefully() {
+        shutdown();
+        try {
+            if (!awaitTermination(shutdownTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                shutdownNow();
+            }
+        } catch (final InterruptedException e) {
+            shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ReachExecutorService{active=" + getActiveCount() + ", queued=" + getQueuedCount()
+            + ", rejected=" + getRejectedCount() + ", poolSize=" + getPoolSize() + "}";
+    }
+
+    private static final class NamedDaemonThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+        private final String prefix;
+
+        NamedDaemonThreadFactory(final String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.talkylabs.reach.concurrent;
+
+/**
+ * What a {@link ReachExecutorService} does with a task once its threads and queue are full.
+ */
+public enum SaturationPolicy {
+    /**
+     * Reject the task with a {@link java.util.concurrent.RejectedExecutionException}, the default.
+     * {@code *Async()} methods return a future failed with it.
+     */
+    ABORT,
+
+    /**
+     * Run the task on the submitting thread, which slows producers down to the pool's pace.
+     * {@code *Async()} methods then block their caller until the call completes.
+     */
+    CALLER_RUNS
+}
@@ -0,0 +1,92 @@
+package com.talkylabs.reach.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Submission helpers for the SDK's {@code *Async()} methods.
+ */
+public final class Tasks {
+
+    private Tasks() {
+    }
+
+    /**
+     * Run a supplier on an executor, like {@link CompletableFuture#supplyAsync(Supplier, Executor)}, except
+     * that a rejected task fails the returned future instead of throwing to the caller.
+     *
+     * @param supplier supplier to run
+     * @param executor executor to run it on
+     * @param <T>      result type
+     * @return future of the supplier's result
+     */
+    public static <T> CompletableFuture<T> supplyAsync(final Supplier<T> supplier, final Executor executor) {
+        try {
+            return CompletableFuture.supplyAsync(supplier, executor);
+        } catch (final RejectedExecutionException e) {
+            return failedFuture(e);
+        }
+    }
+
+    /**
+     * Start an async call, failing the returned future instead of throwing to the caller when the
+     * call can not be started, for instance because its request can not be built.
+     *
+     * @param call starts the call
+     * @param <T>  result type
+     * @return future of the call's result
+     */
+    public static <T> CompletableFuture<T> callAsync(final Supplier<CompletableFuture<T>> call) {
+        try {
+            return call.get();
+        } catch (final RuntimeException e) {
+            return failedFuture(e);
+        }
+    }
+
+    /**
+     * Start an async call and map its result, failing the returned future instead of throwing to the
+     * caller when the call can not be started. Cancelling the returned future cancels the call.
+     *
+     * @param call     starts the call
+     * @param function maps the call's result
+     * @param <T>      call result type
+     * @param <R>      mapped result type
+     * @return future of the mapped result
+     */
+    public static <T, R> CompletableFuture<R> callAsync(final Supplier<CompletableFuture<T>> call,
+                                                        final Function<? super T, ? extends R> function) {
+        CompletableFuture<T> source = callAsync(call);
+        return forwardCancellation(source.thenApply(function), source);
+    }
+
+    /**
+     * Cancel a future when a future derived from it is cancelled. {@link CompletableFuture} only
+     * passes completion downstream, so without this, cancelling a mapped result leaves the
+     * underlying call running.
+     *
+     * @param dependent future derived from {@code source}
+     * @param source    future to cancel along with it
+     * @param <T>       result type of the dependent future
+     * @return the dependent future
+     */
+    public static <T> CompletableFuture<T> forwardCancellation(final CompletableFuture<T> dependent,
+                                                               final Future<?> source) {
+        dependent.whenComplete((result, error) -> {
+            if (dependent.isCancelled()) {
+                source.cancel(false);
+            }
+        });
+        return dependent;
+    }
+
+    private static <T> CompletableFuture<T> failedFuture(final Throwable error) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(error);
+        return future;
+    }
+}
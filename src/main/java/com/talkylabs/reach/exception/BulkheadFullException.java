@@ -0,0 +1,17 @@
+package com.talkylabs.reach.exception;
+
+/**
+ * Thrown without contacting the server when an endpoint's bulkhead has no free slot.
+ */
+public class BulkheadFullException extends ApiConnectionException {
+
+    private static final long serialVersionUID = -5213587102914658133L;
+
+    public BulkheadFullException(final String message) {
+        super(message);
+    }
+
+    public BulkheadFullException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
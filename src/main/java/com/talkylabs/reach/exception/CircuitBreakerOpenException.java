@@ -0,0 +1,13 @@
+package com.talkylabs.reach.exception;
+
+/**
+ * Thrown without contacting the server while the circuit breaker of an endpoint is open.
+ */
+public class CircuitBreakerOpenException extends ApiConnectionException {
+
+    private static final long serialVersionUID = 2318806432735061547L;
+
+    public CircuitBreakerOpenException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,279 @@
+package com.talkylabs.reach.http;
+
+import com.talkylabs.reach.Reach;
+import com.talkylabs.reach.concurrent.Tasks;
+import com.talkylabs.reach.exception.ApiException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.DnsResolver;
+import org.apache.http.conn.SchemePortResolver;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.message.BasicHeader;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
+import org.apache.http.nio.reactor.IOReactorException;
+
+/**
+ * HTTP client built on a non-blocking I/O reactor.
+ *
+ * <p>
+ * Requests are driven by the reactor's callbacks, so the number of in-flight requests is bounded by
+ * the connection pool rather than by the number of threads. Responses are decoded and async futures
+ * completed on {@link Reach#getExecutorService()}, so dependent stages never run on, or stall, the I/O
+ * dispatch threads. Blocking calls decode on the calling thread.
+ * </p>
+ *
+ * <p>
+ * The connection pool honors the TTL and eviction settings of {@link ConnectionPoolConfig}.
+ * {@code validateAfterInactivityMillis} has no effect: the reactor notices connections closed by the
+ * server as it happens, so there is no stale check to make before a lease.
+ * </p>
+ */
+public class AsyncNetworkHttpClient extends HttpClient implements Closeable {
+
+    public static final IOReactorConfig DEFAULT_IO_REACTOR_CONFIG = IOReactorConfig
+        .custom()
+        .setConnectTimeout(CONNECTION_TIMEOUT)
+        .setSoTimeout(SOCKET_TIMEOUT)
+        .build();
+
+    protected final CloseableHttpAsyncClient client;
+
+    private static final long DEFAULT_EVICTION_PERIOD_MILLIS = 10000L;
+
+    private final boolean isCustomClient;
+    private final ScheduledExecutorService connectionEvictor;
+
+    /**
+     * Create a new async HTTP Client.
+     */
+    public AsyncNetworkHttpClient() {
+        this(DEFAULT_REQUEST_CONFIG);
+    }
+
+    /**
+     * Create a new async HTTP Client with a custom request config.
+     *
+     * @param requestConfig a RequestConfig.
+     */
+    public AsyncNetworkHttpClient(final RequestConfig requestConfig) {
+        this(requestConfig, DEFAULT_IO_REACTOR_CONFIG, DEFAULT_CONNECTION_POOL_CONFIG);
+    }
+
+    /**
+     * Create a new async HTTP Client with a custom request, I/O reactor and connection pool config.
+     *
+     * @param requestConfig   a RequestConfig.
+     * @param ioReactorConfig an IOReactorConfig.
+     * @param poolConfig      a ConnectionPoolConfig.
+     */
+    public AsyncNetworkHttpClient(final RequestConfig requestConfig, final IOReactorConfig ioReactorConfig,
+                                  final ConnectionPoolConfig poolConfig) {
+        HttpAsyncClientBuilder clientBuilder = HttpAsyncClientBuilder.create();
+
+        String googleAppEngineVersion = System.getProperty("com.google.appengine.runtime.version");
+        boolean isGoogleAppEngine = googleAppEngineVersion != null && !googleAppEngineVersion.isEmpty();
+
+        if (!isGoogleAppEngine) {
+            clientBuilder.useSystemProperties();
+        }
+
+        // Built here rather than by the builder, which ignores pool sizes when using system properties
+        // and has no TTL or eviction settings
+        PoolingNHttpClientConnectionManager connectionManager =
+            createConnectionManager(ioReactorConfig, poolConfig, !isGoogleAppEngine);
+
+        clientBuilder
+            .setConnectionManager(connectionManager)
+            .setKeepAliveStrategy(poolConfig.getKeepAliveStrategy())
+            .setDefaultRequestConfig(requestConfig);
+
+        this.isCustomClient = false;
+        this.client = build(clientBuilder);
+        this.connectionEvictor = startConnectionEvictor(connectionManager, poolConfig);
+    }
+
+    /**
+     * Create a new async HTTP Client using custom configuration.
+     *
+     * @param clientBuilder an HttpAsyncClientBuilder.
+     */
+    public AsyncNetworkHttpClient(final HttpAsyncClientBuilder clientBuilder) {
+        this.isCustomClient = true;
+        this.client = build(clientBuilder);
+        this.connectionEvictor = null;
+    }
+
+    private static PoolingNHttpClientConnectionManager createConnectionManager(final IOReactorConfig ioReactorConfig,
+                                                                               final ConnectionPoolConfig poolConfig,
+                                                                               final boolean useSystemProperties) {
+        SSLIOSessionStrategy sslStrategy = useSystemProperties
+            ? SSLIOSessionStrategy.getSystemDefaultStrategy()
+            : SSLIOSessionStrategy.getDefaultStrategy();
+        PoolingNHttpClientConnectionManager connectionManager;
+        try {
+            connectionManager = new PoolingNHttpClientConnectionManager(
+                new DefaultConnectingIOReactor(ioReactorConfig),
+                null,
+                RegistryBuilder.<SchemeIOSessionStrategy>create()
+                    .register("http", NoopIOSessionStrategy.INSTANCE)
+                    .register("https", sslStrategy)
+                    .build(),
+                (SchemePortResolver) null,
+                (DnsResolver) null,
+                poolConfig.getTimeToLiveMillis(),
+                TimeUnit.MILLISECONDS
+            );
+        } catch (final IOReactorException e) {
+            throw new ApiException("Unable to start the I/O reactor: " + e.getMessage(), e);
+        }
+        connectionManager.setDefaultMaxPerRoute(poolConfig.getMaxPerRoute());
+        connectionManager.setMaxTotal(poolConfig.getMaxTotal());
+        return connectionManager;
+    }
+
+    private static ScheduledExecutorService startConnectionEvictor(
+        final PoolingNHttpClientConnectionManager connectionManager, final ConnectionPoolConfig poolConfig) {
+        final long maxIdleTimeMillis = poolConfig.getMaxIdleTimeMillis();
+        final boolean evictExpired = poolConfig.isEvictExpiredConnections();
+        if (maxIdleTimeMillis <= 0 && !evictExpired) {
+            return null;
+        }
+
+        ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "reach-async-connection-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long periodMillis = maxIdleTimeMillis > 0 ? maxIdleTimeMillis : DEFAULT_EVICTION_PERIOD_MILLIS;
+        evictor.scheduleWithFixedDelay(() -> {
+            if (evictExpired) {
+                connectionManager.closeExpiredConnections();
+            }
+            if (maxIdleTimeMillis > 0) {
+                connectionManager.closeIdleConnections(maxIdleTimeMillis, TimeUnit.MILLISECONDS);
+            }
+        }, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+        return evictor;
+    }
+
+    private CloseableHttpAsyncClient build(final HttpAsyncClientBuilder clientBuilder) {
+        Collection<BasicHeader> headers = Arrays.asList(
+            new BasicHeader("X-Reach-Client", "java-" + Reach.VERSION),
+            new BasicHeader(HttpHeaders.ACCEPT, "application/json"),
+            new BasicHeader(HttpHeaders.ACCEPT_ENCODING, ContentEncoding.ACCEPT_ENCODING)
+        );
+
+        CloseableHttpAsyncClient asyncClient = clientBuilder
+            .setDefaultHeaders(headers)
+            .setRedirectStrategy(this.getRedirectStrategy())
+            .build();
+        asyncClient.start();
+        return asyncClient;
+    }
+
+    /**
+     * Make a request, blocking until the I/O reactor completes it.
+     *
+     * @param request request to make
+     * @return Response of the HTTP request
+     */
+    @Override
+    public Response makeRequest(final Request request) {
+        try {
+            return toResponse(execute(request).join());
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new ApiException(e.getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * Make an async request.
+     *
+     * @param request request to make
+     * @return future completed on the Reach executor service with the Response of the HTTP request
+     */
+    @Override
+    public CompletableFuture<Response> makeRequestAsync(final Request request) {
+        CompletableFuture<HttpResponse> future = execute(request);
+        return Tasks.forwardCancellation(
+            future.thenApplyAsync(AsyncNetworkHttpClient::toResponse, Reach.getExecutorService()), future);
+    }
+
+    private CompletableFuture<HttpResponse> execute(final Request request) {
+        final CompletableFuture<HttpResponse> future = new CompletableFuture<>();
+
+        final Future<HttpResponse> call = client.execute(HttpUtility.buildHttpRequest(request, isCustomClient),
+            new FutureCallback<HttpResponse>() {
+                @Override
+                public void completed(final HttpResponse response) {
+                    future.complete(response);
+                }
+
+                @Override
+                public void failed(final Exception e) {
+                    future.completeExceptionally(new ApiException(e.getMessage(), e));
+                }
+
+                @Override
+                public void cancelled() {
+                    future.cancel(false);
+                }
+            });
+
+        // Abort the exchange and release its connection when the caller gives up on it
+        future.whenComplete((response, error) -> {
+            if (future.isCancelled()) {
+                call.cancel(true);
+            }
+        });
+        return future;
+    }
+
+    private static Response toResponse(final HttpResponse response) {
+        try {
+            // The async response consumer has already buffered the (possibly compressed) entity in memory
+            return new Response(
+                BodyReader.read(ContentEncoding.decode(response)),
+                response.getStatusLine().getStatusCode(),
+                response.getAllHeaders()
+            );
+        } catch (final IOException e) {
+            throw new ApiException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Shut down the I/O reactor and release pooled connections.
+     */
+    @Override
+    public void close() throws IOException {
+        if (connectionEvictor != null) {
+            connectionEvictor.shutdownNow();
+        }
+        client.close();
+    }
+}
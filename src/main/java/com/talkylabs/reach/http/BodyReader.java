@@ -0,0 +1,86 @@
+package com.talkylabs.reach.http;
+
+import org.apache.http.HttpEntity;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Reads response entities into byte arrays.
+ *
+ * <p>
+ * Bodies with a known length are read straight into an array of that size. Others are read into a
+ * per-thread scratch buffer that is reused across responses, then copied once to their exact size.
+ * </p>
+ */
+final class BodyReader {
+    private static final int MAX_PRESIZED_BODY = 16 * 1024 * 1024;
+    private static final int MAX_RETAINED_BUFFER = 256 * 1024;
+    private static final int SCRATCH_SIZE = 8 * 1024;
+    private static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[SCRATCH_SIZE]);
+
+    private BodyReader() {
+    }
+
+    /**
+     * Read and consume an entity.
+     *
+     * @param entity entity to read
+     * @return the body, or null when there is no entity
+     * @throws IOException if the body can not be read
+     */
+    static byte[] read(final HttpEntity entity) throws IOException {
+        if (entity == null) {
+            return null;
+        }
+        try (InputStream stream = entity.getContent()) {
+            if (stream == null) {
+                return new byte[0];
+            }
+            long length = entity.getContentLength();
+            if (length >= 0 && length <= MAX_PRESIZED_BODY) {
+                return read(stream, new byte[(int) length], false);
+            }
+            return read(stream, SCRATCH.get(), true);
+        }
+    }
+
+    /**
+     * Read a stream of unknown length, without closing it.
+     *
+     * @param stream stream to read
+     * @return the bytes read
+     * @throws IOException if the stream can not be read
+     */
+    static byte[] read(final InputStream stream) throws IOException {
+        return read(stream, SCRATCH.get(), true);
+    }
+
+    private static byte[] read(final InputStream stream, final byte[] initial, final boolean scratch)
+        throws IOException {
+        byte[] buffer = initial;
+        int length = 0;
+        while (true) {
+            if (length == buffer.length) {
+                // The announced length was wrong or the scratch buffer is full: check for more before growing
+                int next = stream.read();
+                if (next < 0) {
+                    break;
+                }
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, SCRATCH_SIZE));
+                buffer[length++] = (byte) next;
+            }
+            int read = stream.read(buffer, length, buffer.length - length);
+            if (read < 0) {
+                break;
+            }
+            length += read;
+        }
+
+        if (scratch && buffer != initial && buffer.length <= MAX_RETAINED_BUFFER) {
+            SCRATCH.set(buffer);
+        }
+        return buffer.length == length && !scratch ? buffer : Arrays.copyOf(buffer, length);
+    }
+}
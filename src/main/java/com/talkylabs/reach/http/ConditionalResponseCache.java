@@ -0,0 +1,288 @@
+package com.talkylabs.reach.http;
+
+import com.talkylabs.reach.cache.CacheConfig;
+import com.talkylabs.reach.cache.CacheStats;
+import com.talkylabs.reach.cache.ResourceCache;
+import com.talkylabs.reach.concurrent.Tasks;
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
+
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Response cache that revalidates with {@code ETag} and {@code Last-Modified} instead of re-downloading.
+ *
+ * <p>
+ * Successful GET responses are kept by URL, username and request headers. While a response is fresh per its {@code Cache-Control: max-age}
+ * it is served without a network call. Afterwards the request is sent with {@code If-None-Match} and
+ * {@code If-Modified-Since}, and a {@code 304 Not Modified} is answered with the cached body.
+ * Responses marked {@code no-store}, or carrying neither a validator nor a max-age, are not kept.
+ * </p>
+ *
+ * <p>
+ * A successful non-GET request drops the cached responses under the parent path of its URL, so the
+ * SDK's own writes are visible to the next read. The cache settings bound how many responses are kept
+ * and for how long their validators are reused.
+ * </p>
+ */
+public class ConditionalResponseCache {
+
+    public static final long DEFAULT_RETENTION_MILLIS = 3600000L;
+
+    private static final int HTTP_STATUS_CODE_NOT_MODIFIED = 304;
+
+    private final ResourceCache<String, CachedResponse> responses;
+    private final LongSupplier clock;
+    private final AtomicLong notModifiedCount = new AtomicLong();
+    private final AtomicLong freshHitCount = new AtomicLong();
+
+    /**
+     * Create a cache keeping up to 1000 responses for an hour.
+     */
+    public ConditionalResponseCache() {
+        this(new CacheConfig.Builder().ttlMillis(DEFAULT_RETENTION_MILLIS).build());
+    }
+
+    /**
+     * Create a cache.
+     *
+     * @param config max number of responses, and how long they are kept for revalidation
+     */
+    public ConditionalResponseCache(final CacheConfig config) {
+        this(config, System::currentTimeMillis);
+    }
+
+    ConditionalResponseCache(final CacheConfig config, final LongSupplier clock) {
+        this.responses = new ResourceCache<>(config, clock);
+        this.clock = clock;
+    }
+
+    /**
+     * Make a blocking call through the cache.
+     *
+     * @param request request to make
+     * @param call    makes the network call
+     * @return the cached, revalidated or new response
+     */
+    public Response send(final Request request, final Function<Request, Response> call) {
+        if (request.getMethod() != HttpMethod.GET) {
+            Response response = call.apply(request);
+            invalidateAfter(request, response);
+            return response;
+        }
+
+        String key = key(request);
+        long generation = responses.getGeneration();
+        CachedResponse cached = responses.get(key);
+        if (cached != null && cached.isFresh(clock.getAsLong())) {
+            freshHitCount.incrementAndGet();
+            return cached.toResponse();
+        }
+        addValidators(request, cached);
+        return update(key, generation, cached, call.apply(request));
+    }
+
+    /**
+     * Make an async call through the cache.
+     *
+     * @param request request to make
+     * @param call    starts the network call
+     * @return future of the cached, revalidated or new response
+     */
+    public CompletableFuture<Response> sendAsync(final Request request,
+                                                 final Function<Request, CompletableFuture<Response>> call) {
+        if (request.getMethod() != HttpMethod.GET) {
+            CompletableFuture<Response> future = call.apply(request);
+            return Tasks.forwardCancellation(future.thenApply(response -> {
+                invalidateAfter(request, response);
+                return response;
+            }), future);
+        }
+
+        String key = key(request);
+        long generation = responses.getGeneration();
+        CachedResponse cached = responses.get(key);
+        if (cached != null && cached.isFresh(clock.getAsLong())) {
+            freshHitCount.incrementAndGet();
+            return CompletableFuture.completedFuture(cached.toResponse());
+        }
+        addValidators(request, cached);
+        CompletableFuture<Response> future = call.apply(request);
+        return Tasks.forwardCancellation(future.thenApply(response -> update(key, generation, cached, response)), future);
+    }
+
+    /**
+     * Drop every cached response.
+     */
+    public void invalidateAll() {
+        responses.invalidateAll();
+    }
+
+    /**
+     * Get the statistics of the underlying store, where hits include stale responses that were revalidated.
+     *
+     * @return cache statistics
+     */
+    public CacheStats getStats() {
+        return responses.getStats();
+    }
+
+    /**
+     * Get the number of responses served without a network call because they were fresh.
+     *
+     * @return number of fresh hits
+     */
+    public long getFreshHitCount() {
+        return freshHitCount.get();
+    }
+
+    /**
+     * Get the number of {@code 304 Not Modified} responses answered from the cache.
+     *
+     * @return number of revalidations
+     */
+    public long getNotModifiedCount() {
+        return notModifiedCount.get();
+    }
+
+    // Responses are stored only if nothing was invalidated while the call was in flight
+    private Response update(final String key, final long generation, final CachedResponse cached,
+                            final Response response) {
+        if (response == null) {
+            return null;
+        }
+        if (response.getStatusCode() == HTTP_STATUS_CODE_NOT_MODIFIED && cached != null) {
+            notModifiedCount.incrementAndGet();
+            CachedResponse revalidated = cached.revalidated(response.getHeaders(), clock.getAsLong());
+            responses.put(key, revalidated, generation);
+            Response fromCache = revalidated.toResponse();
+            fromCache.setDiagnostics(response.getDiagnostics());
+            return fromCache;
+        }
+        if (response.getStatusCode() == ReachRestClient.HTTP_STATUS_CODE_OK) {
+            CachedResponse stored = CachedResponse.of(response, clock.getAsLong());
+            if (stored != null) {
+                responses.put(key, stored, generation);
+            } else {
+                responses.invalidate(key);
+            }
+        }
+        return response;
+    }
+
+    private void invalidateAfter(final Request request, final Response response) {
+        if (response == null || !ReachRestClient.SUCCESS.test(response.getStatusCode())) {
+            return;
+        }
+        String path = request.constructURL().getPath();
+        int parent = path.lastIndexOf('/');
+        String prefix = parent <= 0 ? path : path.substring(0, parent);
+        responses.invalidateIf(key -> key.startsWith(prefix));
+    }
+
+    private static void addValidators(final Request request, final CachedResponse cached) {
+        request.getHeaderParams().remove(HttpHeaders.IF_NONE_MATCH);
+        request.getHeaderParams().remove(HttpHeaders.IF_MODIFIED_SINCE);
+        if (cached == null) {
+            return;
+        }
+        if (cached.etag != null) {
+            request.addHeaderParam(HttpHeaders.IF_NONE_MATCH, cached.etag);
+        }
+        if (cached.lastModified != null) {
+            request.addHeaderParam(HttpHeaders.IF_MODIFIED_SINCE, cached.lastModified);
+        }
+    }
+
+    // Starts with the path, so writes can drop the responses under it
+    private static String key(final Request request) {
+        return request.constructURL().getPath() + " " + request.sharingKey();
+    }
+
+    private static String header(final Header[] headers, final String name) {
+        if (headers == null) {
+            return null;
+        }
+        for (final Header header : headers) {
+            if (name.equalsIgnoreCase(header.getName())) {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static final class CachedResponse {
+        private final byte[] body;
+        private final Header[] headers;
+        private final String etag;
+        private final String lastModified;
+        private final long freshUntil;
+
+        private CachedResponse(final byte[] body, final Header[] headers, final String etag,
+                               final String lastModified, final long freshUntil) {
+            this.body = body;
+            this.headers = headers;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.freshUntil = freshUntil;
+        }
+
+        static CachedResponse of(final Response response, final long now) {
+            Header[] headers = response.getHeaders();
+            String cacheControl = lower(header(headers, HttpHeaders.CACHE_CONTROL));
+            if (cacheControl.contains("no-store")) {
+                return null;
+            }
+            String etag = header(headers, HttpHeaders.ETAG);
+            String lastModified = header(headers, HttpHeaders.LAST_MODIFIED);
+            long freshUntil = freshUntil(cacheControl, now);
+            if (etag == null && lastModified == null && freshUntil <= now) {
+                return null;
+            }
+            return new CachedResponse(response.getBodyBytes(), headers, etag, lastModified, freshUntil);
+        }
+
+        CachedResponse revalidated(final Header[] notModifiedHeaders, final long now) {
+            String cacheControl = header(notModifiedHeaders, HttpHeaders.CACHE_CONTROL);
+            String etag = header(notModifiedHeaders, HttpHeaders.ETAG);
+            return new CachedResponse(body, headers, etag == null ? this.etag : etag, lastModified,
+                freshUntil(lower(cacheControl == null ? header(headers, HttpHeaders.CACHE_CONTROL) : cacheControl), now));
+        }
+
+        boolean isFresh(final long now) {
+            return now < freshUntil;
+        }
+
+        Response toResponse() {
+            return new Response(body, ReachRestClient.HTTP_STATUS_CODE_OK, headers);
+        }
+
+        private static long freshUntil(final String cacheControl, final long now) {
+            if (cacheControl.contains("no-cache")) {
+                return now;
+            }
+            int index = cacheControl.indexOf("max-age=");
+            if (index < 0) {
+                return now;
+            }
+            int start = index + "max-age=".length();
+            int end = start;
+            while (end < cacheControl.length() && Character.isDigit(cacheControl.charAt(end))) {
+                end++;
+            }
+            try {
+                return now + Long.parseLong(cacheControl.substring(start, end)) * 1000L;
+            } catch (final NumberFormatException e) {
+                return now;
+            }
+        }
+
+        private static String lower(final String value) {
+            return value == null ? "" : value.toLowerCase(Locale.ROOT);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.talkylabs.reach.http;
+
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+
+/**
+ * Connection pool and keep-alive settings used by {@link NetworkHttpClient} and {@link AsyncNetworkHttpClient}.
+ */
+public class ConnectionPoolConfig {
+
+    public static final int DEFAULT_MAX_PER_ROUTE = 10;
+    public static final int DEFAULT_MAX_TOTAL = 20;
+    public static final long DEFAULT_VALIDATE_AFTER_INACTIVITY_MILLIS = 2000L;
+
+    private final int maxPerRoute;
+    private final int maxTotal;
+    private final long timeToLiveMillis;
+    private final long validateAfterInactivityMillis;
+    private final long maxIdleTimeMillis;
+    private final boolean evictExpiredConnections;
+    private final long keepAliveMillis;
+    private final ConnectionKeepAliveStrategy keepAliveStrategy;
+
+    private ConnectionPoolConfig(final Builder b) {
+        this.maxPerRoute = b.maxPerRoute;
+        this.maxTotal = b.maxTotal;
+        this.timeToLiveMillis = b.timeToLiveMillis;
+        this.validateAfterInactivityMillis = b.validateAfterInactivityMillis;
+        this.maxIdleTimeMillis = b.maxIdleTimeMillis;
+        this.evictExpiredConnections = b.evictExpiredConnections;
+        this.keepAliveMillis = b.keepAliveMillis;
+        this.keepAliveStrategy = b.keepAliveStrategy;
+    }
+
+    public int getMaxPerRoute() {
+        return maxPerRoute;
+    }
+
+    public int getMaxTotal() {
+        return maxTotal;
+    }
+
+    public long getTimeToLiveMillis() {
+        return timeToLiveMillis;
+    }
+
+    public long getValidateAfterInactivityMillis() {
+        return validateAfterInactivityMillis;
+    }
+
+    public long getMaxIdleTimeMillis() {
+        return maxIdleTimeMillis;
+    }
+
+    public boolean isEvictExpiredConnections() {
+        return evictExpiredConnections;
+    }
+
+    public long getKeepAliveMillis() {
+        return keepAliveMillis;
+    }
+
+    /**
+     * Get the keep-alive strategy to install on the client.
+     *
+     * <p>
+     * A custom strategy wins if one was set. Otherwise the server's {@code Keep-Alive: timeout=}
+     * hint is honored, capped at {@code keepAliveMillis} when that is positive.
+     * </p>
+     *
+     * @return the keep-alive strategy
+     */
+    public ConnectionKeepAliveStrategy getKeepAliveStrategy() {
+        if (keepAliveStrategy != null) {
+            return keepAliveStrategy;
+        }
+
+        return (response, context) -> {
+            long serverMillis = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            if (keepAliveMillis <= 0) {
+                return serverMillis;
+            }
+            return serverMillis <= 0 ? keepAliveMillis : Math.min(serverMillis, keepAliveMillis);
+        };
+    }
+
+    public static class Builder {
+        private int maxPerRoute = DEFAULT_MAX_PER_ROUTE;
+        private int maxTotal = DEFAULT_MAX_TOTAL;
+        private long timeToLiveMillis = -1L;
+        private long validateAfterInactivityMillis = DEFAULT_VALIDATE_AFTER_INACTIVITY_MILLIS;
+        private long maxIdleTimeMillis = 0L;
+        private boolean evictExpiredConnections = false;
+        private long keepAliveMillis = -1L;
+        private ConnectionKeepAliveStrategy keepAliveStrategy;
+
+        /**
+         * Max number of pooled connections per route (host).
+         *
+         * @param maxPerRoute connections per route
+         * @return this builder
+         */
+        public Builder maxPerRoute(final int maxPerRoute) {
+            if (maxPerRoute <= 0) {
+                throw new IllegalArgumentException("maxPerRoute must be positive");
+            }
+            this.maxPerRoute = maxPerRoute;
+            return this;
+        }
+
+        /**
+         * Max number of pooled connections across all routes.
+         *
+         * @param maxTotal total connections
+         * @return this builder
+         */
+        public Builder maxTotal(final int maxTotal) {
+            if (maxTotal <= 0) {
+                throw new IllegalArgumentException("maxTotal must be positive");
+            }
+            this.maxTotal = maxTotal;
+            return this;
+        }
+
+        /**
+         * Total lifetime of a pooled connection, non-positive for unlimited.
+         *
+         * @param timeToLiveMillis time to live in milliseconds
+         * @return this builder
+         */
+        public Builder timeToLiveMillis(final long timeToLiveMillis) {
+            this.timeToLiveMillis = timeToLiveMillis;
+            return this;
+        }
+
+        /**
+         * Idle period after which a pooled connection is re-validated before being leased.
+         *
+         * @param validateAfterInactivityMillis inactivity in milliseconds, non-positive to disable,
+         *                                      at most {@link Integer#MAX_VALUE}
+         * @return this builder
+         */
+        public Builder validateAfterInactivityMillis(final long validateAfterInactivityMillis) {
+            if (validateAfterInactivityMillis > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("validateAfterInactivityMillis can not exceed Integer.MAX_VALUE");
+            }
+            this.validateAfterInactivityMillis = validateAfterInactivityMillis;
+            return this;
+        }
+
+        /**
+         * Evict connections idle for longer than the given period from a background thread.
+         *
+         * @param maxIdleTimeMillis max idle time in milliseconds, non-positive to disable
+         * @return this builder
+         */
+        public Builder maxIdleTimeMillis(final long maxIdleTimeMillis) {
+            this.maxIdleTimeMillis = maxIdleTimeMillis;
+            return this;
+        }
+
+        /**
+         * Evict connections past their TTL or keep-alive from a background thread.
+         *
+         * @param evictExpiredConnections whether to evict expired connections
+         * @return this builder
+         */
+        public Builder evictExpiredConnections(final boolean evictExpiredConnections) {
+            this.evictExpiredConnections = evictExpiredConnections;
+            return this;
+        }
+
+        /**
+         * Keep-alive used when the server sends no hint, and upper bound for the server's hint.
+         *
+         * @param keepAliveMillis keep-alive in milliseconds, non-positive to keep connections indefinitely
+         * @return this builder
+         */
+        public Builder keepAliveMillis(final long keepAliveMillis) {
+            this.keepAliveMillis = keepAliveMillis;
+            return this;
+        }
+
+        /**
+         * Replace the keep-alive strategy altogether.
+         *
+         * @param keepAliveStrategy keep-alive strategy
+         * @return this builder
+         */
+        public Builder keepAliveStrategy(final ConnectionKeepAliveStrategy keepAliveStrategy) {
+            this.keepAliveStrategy = keepAliveStrategy;
+            return this;
+        }
+
+        /**
+         * Build new ConnectionPoolConfig.
+         *
+         * @return ConnectionPoolConfig instance
+         */
+        public ConnectionPoolConfig build() {
+            if (maxPerRoute > maxTotal) {
+                throw new IllegalArgumentException("maxPerRoute can not exceed maxTotal");
+            }
+            return new ConnectionPoolConfig(this);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.talkylabs.reach.http;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Point-in-time snapshot of a {@link NetworkHttpClient} connection pool.
+ */
+public class ConnectionPoolStats {
+
+    private final int leased;
+    private final int pending;
+    private final int available;
+    private final int max;
+    private final long leaseCount;
+    private final long leaseTimeoutCount;
+    private final long totalLeaseWaitNanos;
+    private final long maxLeaseWaitNanos;
+
+    ConnectionPoolStats(final int leased, final int pending, final int available, final int max,
+                        final long leaseCount, final long leaseTimeoutCount,
+                        final long totalLeaseWaitNanos, final long maxLeaseWaitNanos) {
+        this.leased = leased;
+        this.pending = pending;
+        this.available = available;
+        this.max = max;
+        this.leaseCount = leaseCount;
+        this.leaseTimeoutCount = leaseTimeoutCount;
+        this.totalLeaseWaitNanos = totalLeaseWaitNanos;
+        this.maxLeaseWaitNanos = maxLeaseWaitNanos;
+    }
+
+    /**
+     * @return connections currently leased to callers
+     */
+    public int getLeased() {
+        return leased;
+    }
+
+    /**
+     * @return callers currently waiting for a connection
+     */
+    public int getPending() {
+        return pending;
+    }
+
+    /**
+     * @return idle connections ready to be leased
+     */
+    public int getAvailable() {
+        return available;
+    }
+
+    /**
+     * @return max number of connections the pool can hold
+     */
+    public int getMax() {
+        return max;
+    }
+
+    /**
+     * @return number of lease attempts since the client was created
+     */
+    public long getLeaseCount() {
+        return leaseCount;
+    }
+
+    /**
+     * @return number of lease attempts that timed out waiting for a connection
+     */
+    public long getLeaseTimeoutCount() {
+        return leaseTimeoutCount;
+    }
+
+    public long getTotalLeaseWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(totalLeaseWaitNanos);
+    }
+
+    public long getMaxLeaseWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxLeaseWaitNanos);
+    }
+
+    public double getAverageLeaseWaitMillis() {
+        return leaseCount == 0 ? 0.0 : (double) totalLeaseWaitNanos / leaseCount / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionPoolStats{leased=" + leased + ", pending=" + pending + ", available=" + available
+            + ", max=" + max + ", leaseCount=" + leaseCount + ", leaseTimeoutCount=" + leaseTimeoutCount
+            + ", averageLeaseWaitMillis=" + getAverageLeaseWaitMillis()
+            + ", maxLeaseWaitMillis=" + getMaxLeaseWaitMillis() + "}";
+    }
+}
@@ -0,0 +1,166 @@
+package com.talkylabs.reach.http;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.entity.DeflateDecompressingEntity;
+import org.apache.http.client.entity.DeflateInputStream;
+import org.apache.http.client.entity.GzipDecompressingEntity;
+import org.apache.http.entity.HttpEntityWrapper;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Response compression shared by the HTTP clients.
+ *
+ * <p>
+ * Clients advertise {@link #ACCEPT_ENCODING} and decode compressed bodies as they are read, so the
+ * compressed bytes are never buffered on their own. Decoded responses lose their {@code Content-Encoding}
+ * and {@code Content-Length} headers, as with Apache's own content decompression. Decoded bodies are
+ * capped at {@link #MAX_DECODED_BODY} bytes, so a small compressed body can not exhaust the heap.
+ * </p>
+ */
+final class ContentEncoding {
+    static final String ACCEPT_ENCODING = "gzip, deflate";
+    static final long MAX_DECODED_BODY = 64L * 1024 * 1024;
+
+    private ContentEncoding() {
+    }
+
+    /**
+     * Wrap an Apache response entity so that reading it decompresses the body.
+     *
+     * @param response response whose entity to decode, its encoding headers are removed when decoded
+     * @return the decoding entity, or the original one when the body is not compressed
+     */
+    static HttpEntity decode(final HttpResponse response) {
+        HttpEntity entity = response.getEntity();
+        if (entity == null || entity.getContentEncoding() == null) {
+            return entity;
+        }
+        String encoding = normalize(entity.getContentEncoding().getValue());
+        HttpEntity decoded;
+        if (isGzip(encoding)) {
+            decoded = new GzipDecompressingEntity(entity);
+        } else if (isDeflate(encoding)) {
+            decoded = new DeflateDecompressingEntity(entity);
+        } else {
+            return entity;
+        }
+        removeEncodingHeaders(response);
+        return new HttpEntityWrapper(decoded) {
+            @Override
+            public InputStream getContent() throws IOException {
+                return new LimitedInputStream(super.getContent());
+            }
+        };
+    }
+
+    /**
+     * Wrap a body stream so that reading it decompresses the body.
+     *
+     * @param stream   body stream
+     * @param encoding {@code Content-Encoding} of the body, or null
+     * @return the decoding stream, or the original one when the body is not compressed
+     * @throws IOException if the compressed stream header can not be read
+     */
+    static InputStream decode(final InputStream stream, final String encoding) throws IOException {
+        String normalized = normalize(encoding);
+        if (isGzip(normalized)) {
+            return new LimitedInputStream(new GZIPInputStream(stream));
+        }
+        if (isDeflate(normalized)) {
+            return new LimitedInputStream(new DeflateInputStream(stream));
+        }
+        return stream;
+    }
+
+    /**
+     * Whether a {@code Content-Encoding} is one this class decodes.
+     *
+     * @param encoding content encoding, or null
+     * @return true when the body would be decoded
+     */
+    static boolean isDecoded(final String encoding) {
+        String normalized = normalize(encoding);
+        return isGzip(normalized) || isDeflate(normalized);
+    }
+
+    private static void removeEncodingHeaders(final HttpResponse response) {
+        response.removeHeaders(HttpHeaders.CONTENT_ENCODING);
+        response.removeHeaders(HttpHeaders.CONTENT_LENGTH);
+        response.removeHeaders(HttpHeaders.CONTENT_MD5);
+    }
+
+    /**
+     * Whether a header describes the encoded body and must be dropped once the body is decoded.
+     *
+     * @param header response header
+     * @return true for {@code Content-Encoding}, {@code Content-Length} and {@code Content-MD5}
+     */
+    static boolean isEncodingHeader(final Header header) {
+        return HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(header.getName())
+            || HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(header.getName())
+            || HttpHeaders.CONTENT_MD5.equalsIgnoreCase(header.getName());
+    }
+
+    private static String normalize(final String encoding) {
+        return encoding == null ? "" : encoding.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isGzip(final String encoding) {
+        return "gzip".equals(encoding) || "x-gzip".equals(encoding);
+    }
+
+    private static boolean isDeflate(final String encoding) {
+        return "deflate".equals(encoding);
+    }
+
+    /**
+     * Fails the read once more than {@link #MAX_DECODED_BODY} bytes have been decoded.
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+        private long count;
+
+        LimitedInputStream(final InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                count(read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            long skipped = super.skip(n);
+            count(skipped);
+            return skipped;
+        }
+
+        private void count(final long n) throws IOException {
+            count += n;
+            if (count > MAX_DECODED_BODY) {
+                throw new IOException("Decoded response body exceeds " + MAX_DECODED_BODY + " bytes");
+            }
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.talkylabs.reach.http;
+
+import org.apache.http.Header;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * Exponential backoff with full jitter, honoring server-provided retry hints.
+ *
+ * <p>
+ * The n-th retry waits a random delay between zero and {@code min(maxDelay, baseDelay * 2^(n-1))}, which keeps
+ * clients that failed together from retrying together. When the response carries {@code Retry-After},
+ * {@code RateLimit-Reset} or {@code X-RateLimit-Reset}, that wait is used instead. Retries stop once the next
+ * attempt could not start within the deadline.
+ * </p>
+ */
+public class ExponentialBackoffRetryPolicy implements RetryPolicy {
+
+    public static final int HTTP_STATUS_CODE_TOO_MANY_REQUESTS = 429;
+    public static final int[] DEFAULT_RETRY_CODES = new int[] {HttpClient.ANY_500, HTTP_STATUS_CODE_TOO_MANY_REQUESTS};
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+    public static final long DEFAULT_BASE_DELAY_MILLIS = 100L;
+    public static final long DEFAULT_MAX_DELAY_MILLIS = 10000L;
+    public static final long DEFAULT_DEADLINE_MILLIS = 60000L;
+
+    private static final long EPOCH_SECONDS_THRESHOLD = 1000000000L;
+
+    private final int[] retryCodes;
+    private final int maxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+    private final long deadlineMillis;
+    private final boolean honorRetryAfter;
+    private final LongSupplier clock;
+
+    private ExponentialBackoffRetryPolicy(final Builder b) {
+        this.retryCodes = b.retryCodes.clone();
+        this.maxAttempts = b.maxAttempts;
+        this.baseDelayMillis = b.baseDelayMillis;
+        this.maxDelayMillis = b.maxDelayMillis;
+        this.deadlineMillis = b.deadlineMillis;
+        this.honorRetryAfter = b.honorRetryAfter;
+        this.clock = b.clock;
+    }
+
+    @Override
+    public long nextDelayMillis(final int attempts, final Response response, final long elapsedMillis) {
+        if (attempts >= maxAttempts || !RetryPolicy.isRetryable(response, retryCodes)) {
+            return -1L;
+        }
+
+        long delay = honorRetryAfter ? serverDelayMillis(response) : -1L;
+        if (delay < 0) {
+            delay = jitteredDelayMillis(attempts);
+        }
+
+        if (deadlineMillis > 0 && elapsedMillis + delay >= deadlineMillis) {
+            return -1L;
+        }
+        return delay;
+    }
+
+    long jitteredDelayMillis(final int attempts) {
+        int shift = Math.min(attempts - 1, 30);
+        long ceiling = Math.min(maxDelayMillis, baseDelayMillis << shift);
+        return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    /**
+     * Read the wait requested by the server, if any.
+     *
+     * @param response last response
+     * @return delay in milliseconds, or -1 if the response carries no usable hint
+     */
+    long serverDelayMillis(final Response response) {
+        if (response == null || response.getHeaders() == null) {
+            return -1L;
+        }
+
+        for (final Header header : response.getHeaders()) {
+            String name = header.getName();
+            String value = header.getValue() == null ? "" : header.getValue().trim();
+            long delay = -1L;
+
+            if ("Retry-After".equalsIgnoreCase(name)) {
+                delay = parseSeconds(value);
+                if (delay < 0) {
+                    delay = parseHttpDate(value);
+                }
+            } else if ("RateLimit-Reset".equalsIgnoreCase(name)) {
+                delay = parseSeconds(value);
+            } else if ("X-RateLimit-Reset".equalsIgnoreCase(name)) {
+                delay = parseSeconds(value);
+                // Some servers send the reset instant as epoch seconds rather than a delta
+                if (delay >= EPOCH_SECONDS_THRESHOLD * 1000L) {
+                    delay = Math.max(0L, delay - clock.getAsLong());
+                }
+            }
+
+            if (delay >= 0) {
+                return delay;
+            }
+        }
+        return -1L;
+    }
+
+    private static long parseSeconds(final String value) {
+        try {
+            long seconds = Long.parseLong(value);
+            return seconds < 0 ? -1L : seconds * 1000L;
+        } catch (final NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    private long parseHttpDate(final String value) {
+        try {
+            long at = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+            return Math.max(0L, at - clock.getAsLong());
+        } catch (final DateTimeParseException e) {
+            return -1L;
+        }
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public long getBaseDelayMillis() {
+        return baseDelayMillis;
+    }
+
+    public long getMaxDelayMillis() {
+        return maxDelayMillis;
+    }
+
+    public long getDeadlineMillis() {
+        return deadlineMillis;
+    }
+
+    public static class Builder {
+        private int[] retryCodes = DEFAULT_RETRY_CODES;
+        private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+        private long baseDelayMillis = DEFAULT_BASE_DELAY_MILLIS;
+        private long maxDelayMillis = DEFAULT_MAX_DELAY_MILLIS;
+        private long deadlineMillis = DEFAULT_DEADLINE_MILLIS;
+        private boolean honorRetryAfter = true;
+        private LongSupplier clock = System::currentTimeMillis;
+
+        /**
+         * Status codes to retry, exact codes or {@link HttpClient#ANY_500} style status classes.
+         *
+         * @param retryCodes codes used for retries
+         * @return this builder
+         */
+        public Builder retryCodes(final int... retryCodes) {
+            this.retryCodes = retryCodes.clone();
+            return this;
+        }
+
+        /**
+         * Max number of attempts, including the first.
+         *
+         * @param maxAttempts max attempts
+         * @return this builder
+         */
+        public Builder maxAttempts(final int maxAttempts) {
+            if (maxAttempts <= 0) {
+                throw new IllegalArgumentException("maxAttempts must be positive");
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Upper bound of the first retry's delay; doubles with every retry.
+         *
+         * @param baseDelayMillis base delay in milliseconds
+         * @return this builder
+         */
+        public Builder baseDelayMillis(final long baseDelayMillis) {
+            if (baseDelayMillis < 0) {
+                throw new IllegalArgumentException("baseDelayMillis can not be negative");
+            }
+            this.baseDelayMillis = baseDelayMillis;
+            return this;
+        }
+
+        /**
+         * Cap on the backoff delay before jitter.
+         *
+         * @param maxDelayMillis max delay in milliseconds
+         * @return this builder
+         */
+        public Builder maxDelayMillis(final long maxDelayMillis) {
+            if (maxDelayMillis < 0) {
+                throw new IllegalArgumentException("maxDelayMillis can not be negative");
+            }
+            this.maxDelayMillis = maxDelayMillis;
+            return this;
+        }
+
+        /**
+         * Total time budget: no retry is started if it would begin after this much time since the first attempt.
+         *
+         * @param deadlineMillis deadline in milliseconds, non-positive for none
+         * @return this builder
+         */
+        public Builder deadlineMillis(final long deadlineMillis) {
+            this.deadlineMillis = deadlineMillis;
+            return this;
+        }
+
+        /**
+         * Whether to wait as long as the server's {@code Retry-After} or rate-limit reset headers ask.
+         *
+         * @param honorRetryAfter whether to honor server hints
+         * @return this builder
+         */
+        public Builder honorRetryAfter(final boolean honorRetryAfter) {
+            this.honorRetryAfter = honorRetryAfter;
+            return this;
+        }
+
+        Builder clock(final LongSupplier clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Build new ExponentialBackoffRetryPolicy.
+         *
+         * @return ExponentialBackoffRetryPolicy instance
+         */
+        public ExponentialBackoffRetryPolicy build() {
+            return new ExponentialBackoffRetryPolicy(this);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.talkylabs.reach.http;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming {@code application/x-www-form-urlencoded} encoder, shared by query strings and form bodies.
+ *
+ * <p>
+ * Names and values are percent-encoded as UTF-8 straight into a per-thread scratch buffer, with the
+ * same output as {@link java.net.URLEncoder}, so no intermediate strings or pair lists are created.
+ * Only the final bytes are copied out, since the entity must outlive the buffer.
+ * </p>
+ */
+final class FormEncoder {
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+    private static final ThreadLocal<FormEncoder> ENCODERS = ThreadLocal.withInitial(FormEncoder::new);
+
+    private byte[] buffer = new byte[256];
+    private int length;
+
+    private FormEncoder() {
+    }
+
+    /**
+     * Encode parameters as {@code name=value} pairs joined by {@code &}.
+     *
+     * @param params parameters to encode
+     * @return encoded bytes
+     */
+    static byte[] encode(final Map<String, List<String>> params) {
+        FormEncoder encoder = ENCODERS.get();
+        try {
+            encoder.write(params);
+            return Arrays.copyOf(encoder.buffer, encoder.length);
+        } finally {
+            encoder.reset();
+        }
+    }
+
+    /**
+     * Encode parameters as a string, for query strings.
+     *
+     * @param params parameters to encode
+     * @return encoded parameters
+     */
+    static String encodeToString(final Map<String, List<String>> params) {
+        if (params.isEmpty()) {
+            return "";
+        }
+        FormEncoder encoder = ENCODERS.get();
+        try {
+            encoder.write(params);
+            return new String(encoder.buffer, 0, encoder.length, StandardCharsets.US_ASCII);
+        } finally {
+            encoder.reset();
+        }
+    }
+
+    private void write(final Map<String, List<String>> params) {
+        for (final Map.Entry<String, List<String>> entry : params.entrySet()) {
+            for (final String value : entry.getValue()) {
+                if (value == null) {
+                    continue;
+                }
+                if (length > 0) {
+                    append('&');
+                }
+                writeEncoded(entry.getKey());
+                append('=');
+                writeEncoded(value);
+            }
+        }
+    }
+
+    private void writeEncoded(final String s) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '.' || c == '-' || c == '*' || c == '_') {
+                append(c);
+            } else if (c == ' ') {
+                append('+');
+            } else if (c < 0x80) {
+                appendEscaped(c);
+            } else if (c < 0x800) {
+                appendEscaped(0xC0 | (c >> 6));
+                appendEscaped(0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < s.length() && Character.isLowSurrogate(s.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, s.charAt(++i));
+                appendEscaped(0xF0 | (codePoint >> 18));
+                appendEscaped(0x80 | ((codePoint >> 12) & 0x3F));
+                appendEscaped(0x80 | ((codePoint >> 6) & 0x3F));
+                appendEscaped(0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // Unpaired surrogates are replaced with '?', as the UTF-8 encoder behind URLEncoder does
+                appendEscaped('?');
+            } else {
+                appendEscaped(0xE0 | (c >> 12));
+                appendEscaped(0x80 | ((c >> 6) & 0x3F));
+                appendEscaped(0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    private void appendEscaped(final int b) {
+        ensureCapacity(3);
+        buffer[length++] = '%';
+        buffer[length++] = HEX[(b >> 4) & 0x0F];
+        buffer[length++] = HEX[b & 0x0F];
+    }
+
+    private void append(final char c) {
+        ensureCapacity(1);
+        buffer[length++] = (byte) c;
+    }
+
+    private void ensureCapacity(final int extra) {
+        if (length + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + extra));
+        }
+    }
+
+    private void reset() {
+        length = 0;
+        if (buffer.length > MAX_RETAINED_BUFFER) {
+            buffer = new byte[256];
+        }
+    }
+}
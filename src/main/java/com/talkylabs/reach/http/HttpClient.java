@@ -1,9 +1,37 @@
 package com.talkylabs.reach.http;
 
+import com.talkylabs.reach.Reach;
+import com.talkylabs.reach.concurrent.Delays;
+import com.talkylabs.reach.concurrent.Tasks;
+import com.talkylabs.reach.exception.BulkheadFullException;
+import com.talkylabs.reach.exception.CircuitBreakerOpenException;
+import com.talkylabs.reach.metrics.MetricsRecorder;
+import com.talkylabs.reach.metrics.ReachMetrics;
+import com.talkylabs.reach.resilience.Bulkhead;
+import com.talkylabs.reach.resilience.CircuitBreaker;
+import com.talkylabs.reach.resilience.CircuitBreakerRegistry;
+import com.talkylabs.reach.resilience.EndpointBulkheads;
+import com.talkylabs.reach.resilience.RateLimiter;
+import com.talkylabs.reach.tracing.Scope;
+import com.talkylabs.reach.tracing.TraceContext;
+import com.talkylabs.reach.tracing.Tracer;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 import org.apache.http.client.RedirectStrategy;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.config.SocketConfig;
 import org.apache.http.impl.client.DefaultRedirectStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public abstract class HttpClient {
 
@@ -18,6 +46,7 @@ public abstract class HttpClient {
         .custom()
         .setSoTimeout(SOCKET_TIMEOUT)
         .build();
+    public static final ConnectionPoolConfig DEFAULT_CONNECTION_POOL_CONFIG = new ConnectionPoolConfig.Builder().build();
 
     public static final int ANY_500 = -500;
     public static final int ANY_400 = -400;
@@ -32,10 +61,20 @@ public abstract class HttpClient {
     // Default redirect strategy to not auto-redirect for any methods (empty string array).
     private RedirectStrategy redirectStrategy = new DefaultRedirectStrategy(new String[0]);
 
-    private Response lastResponse;
-    private Request lastRequest;
-    
-    
+    private RetryPolicy retryPolicy = new ExponentialBackoffRetryPolicy.Builder().build();
+
+    private RateLimiter rateLimiter;
+    private CircuitBreakerRegistry circuitBreakers;
+    private EndpointBulkheads bulkheads;
+
+    private MetricsRecorder metricsRecorder = MetricsRecorder.NOOP;
+
+    private Tracer tracer = Tracer.NOOP;
+
+    private final List<RequestListener> requestListeners = new CopyOnWriteArrayList<>();
+
+    private static final Logger logger = LoggerFactory.getLogger(HttpClient.class);
+
 
     public RedirectStrategy getRedirectStrategy() {
 		return redirectStrategy;
@@ -45,103 +84,537 @@ public abstract class HttpClient {
 		this.redirectStrategy = redirectStrategy;
 	}
 
+	public RetryPolicy getRetryPolicy() {
+		return retryPolicy;
+	}
+
+	/**
+	 * Set the policy used by {@link #reliableRequest(Request)} and {@link #reliableRequestAsync(Request)}.
+	 *
+	 * @param retryPolicy retry policy, {@link RetryPolicy#none()} to disable retries
+	 */
+	public void setRetryPolicy(final RetryPolicy retryPolicy) {
+		this.retryPolicy = retryPolicy == null ? RetryPolicy.none() : retryPolicy;
+	}
+
+	public RateLimiter getRateLimiter() {
+		return rateLimiter;
+	}
+
+	/**
+	 * Throttle every attempt, retries included, before it is sent.
+	 *
+	 * @param rateLimiter rate limiter, or null to disable throttling
+	 */
+	public void setRateLimiter(final RateLimiter rateLimiter) {
+		this.rateLimiter = rateLimiter;
+	}
+
+	public CircuitBreakerRegistry getCircuitBreakers() {
+		return circuitBreakers;
+	}
+
+	/**
+	 * Guard every endpoint with its own circuit breaker.
+	 *
+	 * @param circuitBreakers circuit breaker registry, or null to disable circuit breaking
+	 */
+	public void setCircuitBreakers(final CircuitBreakerRegistry circuitBreakers) {
+		this.circuitBreakers = circuitBreakers;
+	}
+
+	public EndpointBulkheads getBulkheads() {
+		return bulkheads;
+	}
+
+	/**
+	 * Cap the number of concurrent calls per group of endpoints.
+	 *
+	 * @param bulkheads bulkheads, or null to disable them
+	 */
+	public void setBulkheads(final EndpointBulkheads bulkheads) {
+		this.bulkheads = bulkheads;
+	}
+
+	public MetricsRecorder getMetricsRecorder() {
+		return metricsRecorder;
+	}
+
+	/**
+	 * Record call timings, retries, response sizes and, for pooled transports, connection lease waits.
+	 *
+	 * @param metricsRecorder metrics recorder, or null to stop recording
+	 */
+	public void setMetricsRecorder(final MetricsRecorder metricsRecorder) {
+		this.metricsRecorder = metricsRecorder == null ? MetricsRecorder.NOOP : metricsRecorder;
+	}
+
+	public Tracer getTracer() {
+		return tracer;
+	}
+
+	/**
+	 * Set the tracer whose context is carried over to the threads async calls and retries run on.
+	 *
+	 * @param tracer tracer, or null to stop propagating context
+	 */
+	public void setTracer(final Tracer tracer) {
+		this.tracer = tracer == null ? Tracer.NOOP : tracer;
+	}
+
+	/**
+	 * Register a listener notified with the diagnostics of every call.
+	 *
+	 * @param listener listener to add
+	 */
+	public void addRequestListener(final RequestListener listener) {
+		if (listener == null) {
+			throw new IllegalArgumentException("listener is required");
+		}
+		requestListeners.add(listener);
+	}
+
+	public void removeRequestListener(final RequestListener listener) {
+		requestListeners.remove(listener);
+	}
+
+	/**
+	 * Responses are no longer recorded on the client, as they were shared by every caller.
+	 *
+	 * @return never returns
+	 * @throws UnsupportedOperationException always
+	 * @deprecated use {@link Response#getDiagnostics()} or a {@link RequestListener} instead
+	 */
+	@Deprecated
 	public Response getLastResponse() {
-		return lastResponse;
+		throw new UnsupportedOperationException("The last response is no longer recorded on the client,"
+			+ " use Response.getDiagnostics() or a RequestListener instead");
 	}
 
+	/**
+	 * Requests are no longer recorded on the client, as they were shared by every caller.
+	 *
+	 * @return never returns
+	 * @throws UnsupportedOperationException always
+	 * @deprecated use {@link Response#getDiagnostics()} or a {@link RequestListener} instead
+	 */
+	@Deprecated
 	public Request getLastRequest() {
-		return lastRequest;
+		throw new UnsupportedOperationException("The last request is no longer recorded on the client,"
+			+ " use Response.getDiagnostics() or a RequestListener instead");
 	}
 
 	/**
-     * Make a request.
+     * Make a request, retrying according to the configured {@link RetryPolicy}.
      *
      * @param request request to make
      * @return Response of the HTTP request
      */
     public Response reliableRequest(final Request request) {
-        return reliableRequest(request, RETRY_CODES, RETRIES, DELAY_MILLIS);
+        return reliableRequest(request, retryPolicy);
     }
 
     /**
-     * Make a request.
+     * Make a request, retrying matching responses after a constant delay.
      *
      * @param request     request to make
      * @param retryCodes  codes used for retries
-     * @param retries     max number of retries
+     * @param retries     max number of attempts
      * @param delayMillis delays between retries
      * @return Response of the HTTP request
      */
     public Response reliableRequest(final Request request, final int[] retryCodes, int retries,
                                     final long delayMillis) {
-        lastRequest = request;
-        Response response = null;
-        while (retries > 0) {
-            response = makeRequest(request);
+        return reliableRequest(request, fixedRetryPolicy(retryCodes, retries, delayMillis));
+    }
+
+    /**
+     * Make a request, retrying according to the given policy.
+     *
+     * <p>
+     * If the thread is interrupted while waiting to retry, the interrupt flag is restored and the
+     * last response is returned.
+     * </p>
+     *
+     * @param request request to make
+     * @param policy  retry policy
+     * @return Response of the HTTP request
+     */
+    public Response reliableRequest(final Request request, final RetryPolicy policy) {
+        final long startMillis = System.currentTimeMillis();
+        final long start = System.nanoTime();
+        Response response;
+        int attempts = 0;
+
+        while (true) {
+            attempts++;
+            try {
+                response = guardedRequest(request);
+            } catch (final RuntimeException e) {
+                complete(new RequestDiagnostics(request, startMillis, System.nanoTime() - start, attempts, null, e),
+                    null);
+                throw e;
+            }
 
-            if (!shouldRetry(response, retryCodes)) {
+            long delayMillis = policy.nextDelayMillis(attempts, response, elapsedMillis(start));
+            if (delayMillis < 0) {
                 break;
             }
 
             try {
                 Thread.sleep(delayMillis);
             } catch (final InterruptedException e) {
-                // Delay failed, continue
+                Thread.currentThread().interrupt();
+                break;
             }
-
-            // Decrement retries
-            retries--;
         }
 
-        lastResponse = response;
+        complete(new RequestDiagnostics(request, startMillis, System.nanoTime() - start, attempts, response, null),
+            response);
 
         return response;
     }
 
+    /**
+     * Make an async request, retrying according to the configured {@link RetryPolicy}.
+     *
+     * @param request request to make
+     * @return future that resolves to the Response of the HTTP request
+     */
+    public CompletableFuture<Response> reliableRequestAsync(final Request request) {
+        return reliableRequestAsync(request, retryPolicy);
+    }
+
+    /**
+     * Make an async request, retrying matching responses after a constant delay.
+     *
+     * @param request     request to make
+     * @param retryCodes  codes used for retries
+     * @param retries     max number of attempts
+     * @param delayMillis delays between retries
+     * @return future that resolves to the Response of the HTTP request
+     */
+    public CompletableFuture<Response> reliableRequestAsync(final Request request, final int[] retryCodes,
+                                                            final int retries, final long delayMillis) {
+        return reliableRequestAsync(request, fixedRetryPolicy(retryCodes, retries, delayMillis));
+    }
+
+    /**
+     * Make an async request, retrying according to the given policy. Retries are scheduled rather
+     * than slept on, so no thread is held while waiting for the next attempt.
+     *
+     * <p>
+     * Cancelling the returned future cancels the rate limit wait, retry delay or attempt in progress,
+     * and no further attempt is made. An attempt already running on a thread is not interrupted.
+     * </p>
+     *
+     * @param request request to make
+     * @param policy  retry policy
+     * @return future that resolves to the Response of the HTTP request
+     */
+    public CompletableFuture<Response> reliableRequestAsync(final Request request, final RetryPolicy policy) {
+        final long startMillis = System.currentTimeMillis();
+        final long start = System.nanoTime();
+        final AtomicInteger attempts = new AtomicInteger();
+        final TraceContext context = tracer.currentContext();
+        final Cancellation cancellation = new Cancellation();
+        final CompletableFuture<Response> result = new CompletableFuture<>();
+
+        // Record the diagnostics before the caller sees the outcome, and even when the caller cancelled
+        attemptAsync(request, policy, attempts, start, context, cancellation).whenComplete((response, error) -> {
+            complete(new RequestDiagnostics(request, startMillis, System.nanoTime() - start, attempts.get(), response,
+                error == null ? null : unwrap(error)), response);
+            if (error == null) {
+                result.complete(response);
+            } else {
+                result.completeExceptionally(error);
+            }
+        });
+        result.whenComplete((response, error) -> {
+            if (result.isCancelled()) {
+                cancellation.cancel();
+            }
+        });
+        return result;
+    }
+
+    private CompletableFuture<Response> attemptAsync(final Request request, final RetryPolicy policy,
+                                                     final AtomicInteger attempts, final long start,
+                                                     final TraceContext context, final Cancellation cancellation) {
+        if (cancellation.isCancelled()) {
+            return failedFuture(new CancellationException());
+        }
+
+        final int attempt = attempts.incrementAndGet();
+        return guardedRequestAsync(request, cancellation).thenCompose(response -> {
+            long delayMillis = policy.nextDelayMillis(attempt, response, elapsedMillis(start));
+            if (delayMillis < 0 || cancellation.isCancelled()) {
+                return CompletableFuture.completedFuture(response);
+            }
+
+            final CompletableFuture<Void> delay = cancellation.track(Delays.delay(delayMillis, TimeUnit.MILLISECONDS));
+            return delay.thenCompose(ignored -> resume(() -> {
+                try (Scope scope = context.makeCurrent()) {
+                    return attemptAsync(request, policy, attempts, start, context, cancellation);
+                }
+            }));
+        });
+    }
+
+    private void complete(final RequestDiagnostics diagnostics, final Response response) {
+        if (response != null) {
+            response.setDiagnostics(diagnostics);
+        }
+        if (metricsRecorder != MetricsRecorder.NOOP) {
+            recordMetrics(diagnostics);
+        }
+        for (final RequestListener listener : requestListeners) {
+            try {
+                listener.onRequestCompleted(diagnostics);
+            } catch (final RuntimeException e) {
+                logger.warn("Request listener failed", e);
+            }
+        }
+    }
+
+    private void recordMetrics(final RequestDiagnostics diagnostics) {
+        final String operation = diagnostics.getOperation();
+        final int statusCode = diagnostics.getStatusCode();
+        try {
+            metricsRecorder.recordTime(ReachMetrics.REQUESTS, diagnostics.getElapsedNanos(),
+                ReachMetrics.TAG_OPERATION, operation,
+                ReachMetrics.TAG_METHOD, diagnostics.getMethod().toString(),
+                ReachMetrics.TAG_STATUS, statusCode < 0 ? ReachMetrics.NONE : String.valueOf(statusCode),
+                ReachMetrics.TAG_OUTCOME, ReachMetrics.outcome(statusCode));
+            if (diagnostics.getAttempts() > 1) {
+                metricsRecorder.incrementCounter(ReachMetrics.RETRIES, diagnostics.getAttempts() - 1L,
+                    ReachMetrics.TAG_OPERATION, operation);
+            }
+            if (diagnostics.getResponseBytes() >= 0) {
+                metricsRecorder.recordAmount(ReachMetrics.RESPONSE_SIZE, diagnostics.getResponseBytes(),
+                    ReachMetrics.TAG_OPERATION, operation);
+            }
+        } catch (final RuntimeException e) {
+            logger.warn("Metrics recorder failed", e);
+        }
+    }
+
+    private static Throwable unwrap(final Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * Make a single attempt once the rate limiter grants a permit, through the endpoint's bulkhead
+     * and circuit breaker. Exceptions, missing responses and 5xx responses count as failures.
+     */
+    private Response guardedRequest(final Request request) {
+        if (rateLimiter != null) {
+            rateLimiter.acquire(request);
+        }
+        final Bulkhead bulkhead = bulkheads == null ? null : bulkheads.bulkheadFor(request);
+        final CircuitBreaker circuitBreaker = circuitBreakerFor(request);
+        final long permit = acquirePermit(circuitBreaker);
+        if (bulkhead != null) {
+            try {
+                bulkhead.acquire();
+            } catch (final BulkheadFullException e) {
+                releaseUnused(circuitBreaker, permit);
+                throw e;
+            }
+        }
+
+        try {
+            Response response = makeRequest(request);
+            recordOutcome(circuitBreaker, permit, response, null);
+            return response;
+        } catch (final RuntimeException e) {
+            recordOutcome(circuitBreaker, permit, null, e);
+            throw e;
+        } finally {
+            if (bulkhead != null) {
+                bulkhead.release();
+            }
+        }
+    }
+
+    private CompletableFuture<Response> guardedRequestAsync(final Request request, final Cancellation cancellation) {
+        if (rateLimiter == null) {
+            return admittedRequestAsync(request, cancellation);
+        }
+
+        final TraceContext context = tracer.currentContext();
+        return cancellation.track(rateLimiter.acquireAsync(request)).thenCompose(permit -> resume(() -> {
+            try (Scope scope = context.makeCurrent()) {
+                return admittedRequestAsync(request, cancellation);
+            }
+        }));
+    }
+
+    /**
+     * Continue on the Reach executor after a delay, since the delay completes on the shared timer
+     * thread, which must not make the request itself.
+     */
+    private static CompletableFuture<Response> resume(final Supplier<CompletableFuture<Response>> continuation) {
+        return Tasks.supplyAsync(continuation, Reach.getExecutorService()).thenCompose(Function.identity());
+    }
+
+    private CompletableFuture<Response> admittedRequestAsync(final Request request, final Cancellation cancellation) {
+        if (cancellation.isCancelled()) {
+            return failedFuture(new CancellationException());
+        }
+        final Bulkhead bulkhead = bulkheads == null ? null : bulkheads.bulkheadFor(request);
+        final CircuitBreaker circuitBreaker = circuitBreakerFor(request);
+        final long permit;
+        try {
+            permit = acquirePermit(circuitBreaker);
+        } catch (final CircuitBreakerOpenException e) {
+            return failedFuture(e);
+        }
+        if (bulkhead != null && !bulkhead.tryAcquire()) {
+            releaseUnused(circuitBreaker, permit);
+            return failedFuture(new BulkheadFullException("Bulkhead " + bulkhead.getName() + " is full"));
+        }
+
+        CompletableFuture<Response> future;
+        try {
+            future = cancellation.track(makeRequestAsync(request));
+        } catch (final RuntimeException e) {
+            future = failedFuture(e);
+        }
+        return future.whenComplete((response, error) -> {
+            if (bulkhead != null) {
+                bulkhead.release();
+            }
+            recordOutcome(circuitBreaker, permit, response, error);
+        });
+    }
+
+    private CircuitBreaker circuitBreakerFor(final Request request) {
+        return circuitBreakers == null ? null : circuitBreakers.circuitBreakerFor(request);
+    }
+
+    /**
+     * Get a permit from the endpoint's circuit breaker, so the outcome is only counted against the
+     * state the call was admitted in.
+     */
+    private static long acquirePermit(final CircuitBreaker circuitBreaker) {
+        if (circuitBreaker == null) {
+            return CircuitBreaker.NO_PERMIT;
+        }
+        long permit = circuitBreaker.tryAcquirePermit();
+        if (permit == CircuitBreaker.NO_PERMIT) {
+            throw new CircuitBreakerOpenException("Circuit breaker " + circuitBreaker.getName() + " is open");
+        }
+        return permit;
+    }
+
+    private static void releaseUnused(final CircuitBreaker circuitBreaker, final long permit) {
+        if (circuitBreaker != null) {
+            circuitBreaker.releasePermit(permit);
+        }
+    }
+
+    private static void recordOutcome(final CircuitBreaker circuitBreaker, final long permit,
+                                      final Response response, final Throwable error) {
+        if (circuitBreaker == null) {
+            return;
+        }
+        if (error instanceof CancellationException) {
+            // Cancelled by the caller, which says nothing about the endpoint
+            circuitBreaker.releasePermit(permit);
+        } else if (error != null || response == null || response.getStatusCode() >= 500) {
+            circuitBreaker.onFailure(permit);
+        } else {
+            circuitBreaker.onSuccess(permit);
+        }
+    }
+
+    private static <T> CompletableFuture<T> failedFuture(final Throwable error) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(error);
+        return future;
+    }
+
+    /**
+     * Cancellation state of one async call, holding the stage its next step waits on.
+     */
+    private static final class Cancellation {
+        private volatile boolean cancelled;
+        private volatile CompletableFuture<?> current;
+
+        <T> CompletableFuture<T> track(final CompletableFuture<T> stage) {
+            current = stage;
+            if (cancelled) {
+                stage.cancel(false);
+            }
+            return stage;
+        }
+
+        void cancel() {
+            cancelled = true;
+            CompletableFuture<?> stage = current;
+            if (stage != null) {
+                stage.cancel(false);
+            }
+        }
+
+        boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    private static long elapsedMillis(final long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private RetryPolicy fixedRetryPolicy(final int[] retryCodes, final int retries, final long delayMillis) {
+        return (attempts, response, elapsedMillis) ->
+            attempts < retries && shouldRetry(response, retryCodes) ? delayMillis : -1L;
+    }
+
+    /**
+     * Check a response against retry codes.
+     *
+     * <p>
+     * Only consulted by the overloads of {@link #reliableRequest(Request, int[], int, long)} and
+     * {@link #reliableRequestAsync(Request, int[], int, long)} taking retry codes; the configured
+     * {@link RetryPolicy} decides on its own.
+     * </p>
+     *
+     * @param response   response to check
+     * @param retryCodes codes used for retries
+     * @return whether the response should be retried
+     * @deprecated implement a {@link RetryPolicy} and install it with {@link #setRetryPolicy(RetryPolicy)} instead
+     */
+    @Deprecated
     protected boolean shouldRetry(final Response response, final int[] retryCodes) {
-        if (response == null) {
-            return true;
-        }
-
-        int statusCode = response.getStatusCode();
-        int category = (int) Math.floor(statusCode / 100.0);
-
-        for (final int retryCode : retryCodes) {
-            switch (retryCode) {
-                case ANY_100:
-                    if (category == 1) {
-                        return true;
-                    }
-                    break;
-                case ANY_200:
-                    if (category == 2) {
-                        return true;
-                    }
-                    break;
-                case ANY_300:
-                    if (category == 3) {
-                        return true;
-                    }
-                    break;
-                case ANY_400:
-                    if (category == 4) {
-                        return true;
-                    }
-                    break;
-                case ANY_500:
-                    if (category == 5) {
-                        return true;
-                    }
-                    break;
-                default:
-                    if (statusCode == retryCode) {
-                        return true;
-                    }
-                    break;
-            }
-        }
-        return false;
+        return RetryPolicy.isRetryable(response, retryCodes);
     }
 
     public abstract Response makeRequest(final Request request);
+
+    /**
+     * Make an async request.
+     *
+     * <p>
+     * By default the blocking {@link #makeRequest(Request)} is run on the Reach executor service,
+     * with the caller's trace context made current.
+     * Non-blocking transports override this to complete the future from their I/O callbacks.
+     * </p>
+     *
+     * @param request request to make
+     * @return future that resolves to the Response of the HTTP request
+     */
+    public CompletableFuture<Response> makeRequestAsync(final Request request) {
+        if (tracer == Tracer.NOOP) {
+            return Tasks.supplyAsync(() -> makeRequest(request), Reach.getExecutorService());
+        }
+
+        final TraceContext context = tracer.currentContext();
+        return Tasks.supplyAsync(() -> {
+            try (Scope scope = context.makeCurrent()) {
+                return makeRequest(request);
+            }
+        }, Reach.getExecutorService());
+    }
 }
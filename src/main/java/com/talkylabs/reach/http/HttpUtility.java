@@ -2,9 +2,20 @@ package com.talkylabs.reach.http;
 
 import com.talkylabs.reach.Reach;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
+
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.entity.ByteArrayEntity;
 
 final class HttpUtility {
+    static final String API_USER_HEADER = "ApiUser";
+    static final String API_KEY_HEADER = "ApiKey";
+
     public static String getUserAgentString(final List<String> userAgentExtensions) {
         StringBuilder userAgentString = new StringBuilder();
         userAgentString.append("reach-java/")
@@ -31,4 +42,38 @@ final class HttpUtility {
         return isCustomClient ? getUserAgentString(userAgentExtensions) + " custom"
                 : getUserAgentString(userAgentExtensions);
     }
+
+    /**
+     * Translate a Reach request into an Apache request, shared by the blocking and async clients.
+     *
+     * @param request        request to translate
+     * @param isCustomClient whether the client was built from a custom builder
+     * @return the Apache request
+     */
+    public static HttpUriRequest buildHttpRequest(final Request request, final boolean isCustomClient) {
+        HttpMethod method = request.getMethod();
+        RequestBuilder builder = RequestBuilder.create(method.toString())
+            .setUri(request.constructURL().toString())
+            .setVersion(HttpVersion.HTTP_1_1)
+            .setCharset(StandardCharsets.UTF_8);
+
+        if (request.requiresAuthentication()) {
+            builder.addHeader(API_USER_HEADER, request.getUsername());
+            builder.addHeader(API_KEY_HEADER, request.getPassword());
+        }
+
+        for (Map.Entry<String, List<String>> entry : request.getHeaderParams().entrySet()) {
+            for (String value : entry.getValue()) {
+                builder.addHeader(entry.getKey(), value);
+            }
+        }
+
+        if (method == HttpMethod.POST) {
+            builder.addHeader(HttpHeaders.CONTENT_TYPE, "application/x-www-form-urlencoded");
+            builder.setEntity(new ByteArrayEntity(FormEncoder.encode(request.getPostParams())));
+        }
+        builder.addHeader(HttpHeaders.USER_AGENT, getUserAgentString(request.getUserAgentExtensions(), isCustomClient));
+
+        return builder.build();
+    }
 }
@@ -0,0 +1,85 @@
+package com.talkylabs.reach.http;
+
+import com.talkylabs.reach.metrics.MetricsRecorder;
+import com.talkylabs.reach.metrics.ReachMetrics;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pooling connection manager that records how long callers wait to lease a connection.
+ */
+class LeaseTrackingConnectionManager extends PoolingHttpClientConnectionManager {
+
+    private final LongAdder leaseCount = new LongAdder();
+    private final LongAdder leaseTimeouts = new LongAdder();
+    private final LongAdder totalLeaseWaitNanos = new LongAdder();
+    private final AtomicLong maxLeaseWaitNanos = new AtomicLong();
+    private volatile MetricsRecorder metricsRecorder = MetricsRecorder.NOOP;
+
+    LeaseTrackingConnectionManager(final long timeToLive, final TimeUnit timeUnit) {
+        super(timeToLive, timeUnit);
+    }
+
+    @Override
+    public ConnectionRequest requestConnection(final HttpRoute route, final Object state) {
+        final ConnectionRequest delegate = super.requestConnection(route, state);
+        return new ConnectionRequest() {
+            @Override
+            public HttpClientConnection get(final long timeout, final TimeUnit timeUnit)
+                throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException {
+                final long start = System.nanoTime();
+                try {
+                    HttpClientConnection connection = delegate.get(timeout, timeUnit);
+                    recordLease(System.nanoTime() - start, ReachMetrics.OUTCOME_SUCCESS);
+                    return connection;
+                } catch (final ConnectionPoolTimeoutException e) {
+                    leaseTimeouts.increment();
+                    recordLease(System.nanoTime() - start, ReachMetrics.OUTCOME_TIMEOUT);
+                    throw e;
+                }
+            }
+
+            @Override
+            public boolean cancel() {
+                return delegate.cancel();
+            }
+        };
+    }
+
+    private void recordLease(final long waitNanos, final String outcome) {
+        leaseCount.increment();
+        totalLeaseWaitNanos.add(waitNanos);
+        maxLeaseWaitNanos.accumulateAndGet(waitNanos, Math::max);
+        MetricsRecorder recorder = metricsRecorder;
+        if (recorder != MetricsRecorder.NOOP) {
+            recorder.recordTime(ReachMetrics.POOL_LEASE_WAIT, waitNanos, ReachMetrics.TAG_OUTCOME, outcome);
+        }
+    }
+
+    void setMetricsRecorder(final MetricsRecorder metricsRecorder) {
+        this.metricsRecorder = metricsRecorder;
+    }
+
+    ConnectionPoolStats getStats() {
+        PoolStats totals = getTotalStats();
+        return new ConnectionPoolStats(
+            totals.getLeased(),
+            totals.getPending(),
+            totals.getAvailable(),
+            totals.getMax(),
+            leaseCount.sum(),
+            leaseTimeouts.sum(),
+            totalLeaseWaitNanos.sum(),
+            maxLeaseWaitNanos.get()
+        );
+    }
+}
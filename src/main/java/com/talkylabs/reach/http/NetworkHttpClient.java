@@ -2,34 +2,28 @@ package com.talkylabs.reach.http;
 
 import com.talkylabs.reach.Reach;
 import com.talkylabs.reach.exception.ApiException;
+import com.talkylabs.reach.metrics.MetricsRecorder;
 
+import java.io.Closeable;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.List;
-import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
-import org.apache.http.HttpEntity;
 import org.apache.http.HttpHeaders;
 import org.apache.http.HttpResponse;
-import org.apache.http.HttpVersion;
 import org.apache.http.client.config.RequestConfig;
-import org.apache.http.client.methods.RequestBuilder;
 import org.apache.http.client.utils.HttpClientUtils;
 import org.apache.http.config.SocketConfig;
-import org.apache.http.entity.BufferedHttpEntity;
 import org.apache.http.impl.client.HttpClientBuilder;
-import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.message.BasicHeader;
 
-public class NetworkHttpClient extends HttpClient {
+public class NetworkHttpClient extends HttpClient implements Closeable {
 
     protected final org.apache.http.client.HttpClient client;
-    private final static String apiUserHeader="ApiUser";
-    private final static String apiKeyHeader="ApiKey";
 
     private boolean isCustomClient;
+    private final LeaseTrackingConnectionManager connectionManager;
 
     /**
      * Create a new HTTP Client.
@@ -54,10 +48,31 @@ public class NetworkHttpClient extends HttpClient {
      * @param socketConfig  a SocketConfig.
      */
     public NetworkHttpClient(final RequestConfig requestConfig, final SocketConfig socketConfig) {
+        this(requestConfig, socketConfig, DEFAULT_CONNECTION_POOL_CONFIG);
+    }
+
+    /**
+     * Create a new HTTP Client with a custom connection pool config.
+     *
+     * @param poolConfig a ConnectionPoolConfig.
+     */
+    public NetworkHttpClient(final ConnectionPoolConfig poolConfig) {
+        this(DEFAULT_REQUEST_CONFIG, DEFAULT_SOCKET_CONFIG, poolConfig);
+    }
+
+    /**
+     * Create a new HTTP Client with a custom request, socket and connection pool config.
+     *
+     * @param requestConfig a RequestConfig.
+     * @param socketConfig  a SocketConfig.
+     * @param poolConfig    a ConnectionPoolConfig.
+     */
+    public NetworkHttpClient(final RequestConfig requestConfig, final SocketConfig socketConfig,
+                             final ConnectionPoolConfig poolConfig) {
         Collection<BasicHeader> headers = Arrays.asList(
             new BasicHeader("X-Reach-Client", "java-" + Reach.VERSION),
             new BasicHeader(HttpHeaders.ACCEPT, "application/json"),
-            new BasicHeader(HttpHeaders.ACCEPT_ENCODING, "utf-8")
+            new BasicHeader(HttpHeaders.ACCEPT_ENCODING, ContentEncoding.ACCEPT_ENCODING)
         );
 
         String googleAppEngineVersion = System.getProperty("com.google.appengine.runtime.version");
@@ -69,17 +84,29 @@ public class NetworkHttpClient extends HttpClient {
             clientBuilder.useSystemProperties();
         }
 
-        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager = new LeaseTrackingConnectionManager(poolConfig.getTimeToLiveMillis(), TimeUnit.MILLISECONDS);
         connectionManager.setDefaultSocketConfig(socketConfig);
-        connectionManager.setDefaultMaxPerRoute(10);
-        connectionManager.setMaxTotal(10 * 2);
+        connectionManager.setDefaultMaxPerRoute(poolConfig.getMaxPerRoute());
+        connectionManager.setMaxTotal(poolConfig.getMaxTotal());
+        connectionManager.setValidateAfterInactivity((int) poolConfig.getValidateAfterInactivityMillis());
 
-        client = clientBuilder
+        // Decompress through ContentEncoding rather than Apache, so the decoded size is capped
+        clientBuilder
+            .disableContentCompression()
             .setConnectionManager(connectionManager)
+            .setKeepAliveStrategy(poolConfig.getKeepAliveStrategy())
             .setDefaultRequestConfig(requestConfig)
             .setDefaultHeaders(headers)
-            .setRedirectStrategy(this.getRedirectStrategy())
-            .build();
+            .setRedirectStrategy(this.getRedirectStrategy());
+
+        if (poolConfig.getMaxIdleTimeMillis() > 0) {
+            clientBuilder.evictIdleConnections(poolConfig.getMaxIdleTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+        if (poolConfig.isEvictExpiredConnections()) {
+            clientBuilder.evictExpiredConnections();
+        }
+
+        client = clientBuilder.build();
     }
 
     /**
@@ -90,9 +117,10 @@ public class NetworkHttpClient extends HttpClient {
         Collection<BasicHeader> headers = Arrays.asList(
                 new BasicHeader("X-Reach-Client", "java-" + Reach.VERSION),
                 new BasicHeader(HttpHeaders.ACCEPT, "application/json"),
-                new BasicHeader(HttpHeaders.ACCEPT_ENCODING, "utf-8")
+                new BasicHeader(HttpHeaders.ACCEPT_ENCODING, ContentEncoding.ACCEPT_ENCODING)
         );
         isCustomClient = true;
+        connectionManager = null;
 
         client = clientBuilder
             .setDefaultHeaders(headers)
@@ -101,49 +129,49 @@ public class NetworkHttpClient extends HttpClient {
     }
 
     /**
-     * Make a request.
+     * Get a snapshot of the connection pool, including how long callers waited to lease a connection.
      *
-     * @param request request to make
-     * @return Response of the HTTP request
+     * @return the pool statistics, or null when the client was built from a custom HttpClientBuilder
      */
-    public Response makeRequest(final Request request) {
-
-        HttpMethod method = request.getMethod();
-        RequestBuilder builder = RequestBuilder.create(method.toString())
-            .setUri(request.constructURL().toString())
-            .setVersion(HttpVersion.HTTP_1_1)
-            .setCharset(StandardCharsets.UTF_8);
-
-        if (request.requiresAuthentication()) {
-            builder.addHeader(apiUserHeader, request.getUsername());
-            builder.addHeader(apiKeyHeader, request.getPassword());
-        }
+    public ConnectionPoolStats getConnectionPoolStats() {
+        return connectionManager == null ? null : connectionManager.getStats();
+    }
 
-        for (Map.Entry<String, List<String>> entry : request.getHeaderParams().entrySet()) {
-            for (String value : entry.getValue()) {
-                builder.addHeader(entry.getKey(), value);
-            }
+    /**
+     * Also records connection lease waits when the pool is managed by this client.
+     *
+     * @param metricsRecorder metrics recorder, or null to stop recording
+     */
+    @Override
+    public void setMetricsRecorder(final MetricsRecorder metricsRecorder) {
+        super.setMetricsRecorder(metricsRecorder);
+        if (connectionManager != null) {
+            connectionManager.setMetricsRecorder(getMetricsRecorder());
         }
+    }
 
-        if (method == HttpMethod.POST) {
-            builder.addHeader(HttpHeaders.CONTENT_TYPE, "application/x-www-form-urlencoded");
-
-            for (Map.Entry<String, List<String>> entry : request.getPostParams().entrySet()) {
-                for (String value : entry.getValue()) {
-                    builder.addParameter(entry.getKey(), value);
-                }
-            }
-        }
-        builder.addHeader(HttpHeaders.USER_AGENT, HttpUtility.getUserAgentString(request.getUserAgentExtensions(), isCustomClient));
+    /**
+     * Release the pooled connections and stop any background eviction thread.
+     */
+    @Override
+    public void close() {
+        HttpClientUtils.closeQuietly(client);
+    }
 
+    /**
+     * Make a request.
+     *
+     * @param request request to make
+     * @return Response of the HTTP request
+     */
+    public Response makeRequest(final Request request) {
         HttpResponse response = null;
 
         try {
-            response = client.execute(builder.build());
-            HttpEntity entity = response.getEntity();
+            response = client.execute(HttpUtility.buildHttpRequest(request, isCustomClient));
             return new Response(
-                // Consume the entire HTTP response before returning the stream
-                entity == null ? null : new BufferedHttpEntity(entity).getContent(),
+                // Consume the entire HTTP response before the connection is released
+                BodyReader.read(ContentEncoding.decode(response)),
                 response.getStatusLine().getStatusCode(),
                 response.getAllHeaders()
             );
@@ -6,6 +6,16 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import org.openapitools.jackson.nullable.JsonNullableModule;
+import com.talkylabs.reach.cache.ResourceCaches;
+import com.talkylabs.reach.concurrent.Tasks;
+import com.talkylabs.reach.metrics.MetricsRecorder;
+import com.talkylabs.reach.resilience.CircuitBreakerRegistry;
+import com.talkylabs.reach.resilience.EndpointBulkheads;
+import com.talkylabs.reach.resilience.RateLimiter;
+import com.talkylabs.reach.tracing.Scope;
+import com.talkylabs.reach.tracing.Span;
+import com.talkylabs.reach.tracing.Tracer;
+import com.talkylabs.reach.tracing.TracingAttributes;
 import lombok.Getter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,6 +23,8 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Predicate;
 
 
@@ -25,12 +37,23 @@ public class ReachRestClient {
 
     @Getter
     private final ObjectMapper objectMapper;
+    @Getter
     private final String username;
     private final String password;
     @Getter
     private final HttpClient httpClient;
     @Getter
     private final List<String> userAgentExtensions;
+    @Getter
+    private final RateLimiter rateLimiter;
+    @Getter
+    private final Tracer tracer;
+    @Getter
+    private final RequestCoalescer requestCoalescer;
+    @Getter
+    private final ResourceCaches resourceCaches;
+    @Getter
+    private final ConditionalResponseCache responseCache;
     private static final Logger logger = LoggerFactory.getLogger(ReachRestClient.class);
 
     protected ReachRestClient(Builder b) {
@@ -39,6 +62,11 @@ public class ReachRestClient {
         this.httpClient = b.httpClient;
         this.objectMapper = createDefaultObjectMapper();
         this.userAgentExtensions = b.userAgentExtensions;
+        this.rateLimiter = b.rateLimiter;
+        this.tracer = b.tracer == null ? Tracer.NOOP : b.tracer;
+        this.requestCoalescer = b.requestCoalescer;
+        this.resourceCaches = b.resourceCaches;
+        this.responseCache = b.responseCache;
     }
     
     protected ObjectMapper createDefaultObjectMapper() {
@@ -74,25 +102,162 @@ public class ReachRestClient {
         }
 
         logRequest(request);
+        if (tracer == Tracer.NOOP) {
+            return send(request);
+        }
+
+        Span span = startSpan(request);
+        try (Scope scope = span.makeCurrent()) {
+            Response response = send(request);
+            endSpan(span, response, null);
+            return response;
+        } catch (final RuntimeException e) {
+            endSpan(span, null, e);
+            throw e;
+        }
+    }
+
+    private Response send(final Request request) {
+        return requestCoalescer == null
+            ? sendCached(request)
+            : requestCoalescer.coalesce(request, this::sendCached);
+    }
+
+    private Response sendCached(final Request request) {
+        return responseCache == null ? transmit(request) : responseCache.send(request, this::transmit);
+    }
+
+    private Response transmit(final Request request) {
         Response response = httpClient.reliableRequest(request);
+        logResponse(response);
 
-        if (logger.isDebugEnabled()) {
+        return response;
+    }
+
+    /**
+     * Make an async request to Reach.
+     *
+     * <p>
+     * The returned future is completed by the underlying {@link HttpClient}; with a non-blocking
+     * transport such as {@link AsyncNetworkHttpClient} no thread is held while the call is in flight.
+     * </p>
+     *
+     * @param request request to make
+     * @return future that resolves to the Response object
+     */
+    public CompletableFuture<Response> requestAsync(final Request request) {
+        request.setAuth(username, password);
+
+        if (userAgentExtensions != null && !userAgentExtensions.isEmpty()) {
+            request.setUserAgentExtensions(userAgentExtensions);
+        }
+
+        logRequest(request);
+        if (tracer == Tracer.NOOP) {
+            return sendAsync(request);
+        }
+
+        Span span = startSpan(request);
+        CompletableFuture<Response> future;
+        try (Scope scope = span.makeCurrent()) {
+            future = sendAsync(request);
+        } catch (final RuntimeException e) {
+            endSpan(span, null, e);
+            throw e;
+        }
+        return Tasks.forwardCancellation(future.whenComplete((response, error) -> endSpan(span, response,
+            error instanceof CompletionException && error.getCause() != null ? error.getCause() : error)), future);
+    }
+
+    private CompletableFuture<Response> sendAsync(final Request request) {
+        return requestCoalescer == null
+            ? sendCachedAsync(request)
+            : requestCoalescer.coalesceAsync(request, this::sendCachedAsync);
+    }
+
+    private CompletableFuture<Response> sendCachedAsync(final Request request) {
+        return responseCache == null
+            ? transmitAsync(request)
+            : responseCache.sendAsync(request, this::transmitAsync);
+    }
+
+    private CompletableFuture<Response> transmitAsync(final Request request) {
+        CompletableFuture<Response> future = httpClient.reliableRequestAsync(request);
+        return Tasks.forwardCancellation(future.thenApply(response -> {
+            logResponse(response);
+            return response;
+        }), future);
+    }
+
+    private Span startSpan(final Request request) {
+        Span span = tracer.startSpan(request.getOperation(), request);
+        span.setAttribute(TracingAttributes.OPERATION, request.getOperation());
+        span.setAttribute(TracingAttributes.HTTP_REQUEST_METHOD, request.getMethod().toString());
+        span.setAttribute(TracingAttributes.SERVER_ADDRESS, request.constructURL().getHost());
+        span.setAttribute(TracingAttributes.URL_TEMPLATE, request.getPathTemplate());
+
+        setHeader(request, TracingAttributes.TRACEPARENT_HEADER, span.getTraceparent());
+        setHeader(request, TracingAttributes.TRACESTATE_HEADER, span.getTracestate());
+        return span;
+    }
+
+    private static void setHeader(final Request request, final String name, final String value) {
+        // Replace rather than append, the same request may be sent more than once
+        request.getHeaderParams().remove(name);
+        if (value != null) {
+            request.addHeaderParam(name, value);
+        }
+    }
+
+    private static void endSpan(final Span span, final Response response, final Throwable error) {
+        try {
+            if (response != null) {
+                span.setAttribute(TracingAttributes.HTTP_RESPONSE_STATUS_CODE, response.getStatusCode());
+                if (response.getStatusCode() >= 500) {
+                    span.setAttribute(TracingAttributes.ERROR_TYPE, String.valueOf(response.getStatusCode()));
+                }
+                if (response.getDiagnostics() != null) {
+                    span.setAttribute(TracingAttributes.ATTEMPTS, response.getDiagnostics().getAttempts());
+                }
+            }
+            if (error != null) {
+                span.setAttribute(TracingAttributes.ERROR_TYPE, error.getClass().getName());
+                span.recordException(error);
+            }
+        } finally {
+            span.end();
+        }
+    }
+
+    private void logResponse(final Response response) {
+        if (logger.isDebugEnabled() && response != null) {
             logger.debug("status code: {}", response.getStatusCode());
             org.apache.http.Header[] responseHeaders = response.getHeaders();
-            logger.debug("response headers:");
-            for (int i = 0; i < responseHeaders.length; i++) {
-                logger.debug("responseHeader: {}", responseHeaders[i]);
+            if (responseHeaders != null) {
+                logger.debug("response headers:");
+                for (int i = 0; i < responseHeaders.length; i++) {
+                    logger.debug("responseHeader: {}", responseHeaders[i]);
+                }
             }
         }
-
-        return response;
     }
 
     public static class Builder {
         private String username;
         private String password;
         private HttpClient httpClient;
+        private ConnectionPoolConfig connectionPoolConfig;
         private List<String> userAgentExtensions;
+        private RateLimiter rateLimiter;
+        private RetryPolicy retryPolicy;
+        private CircuitBreakerRegistry circuitBreakers;
+        private EndpointBulkheads bulkheads;
+        private final List<RequestListener> requestListeners = new ArrayList<>();
+        private MetricsRecorder metricsRecorder;
+        private Tracer tracer;
+        private RequestCoalescer requestCoalescer;
+        private ResourceCaches resourceCaches;
+        private ConditionalResponseCache responseCache;
 
         /**
          * Create a new Reach Rest Client.
@@ -105,11 +270,36 @@ public class ReachRestClient {
             this.password = password;
         }
 
+        /**
+         * HTTP client used to make requests, a {@link NetworkHttpClient} by default.
+         *
+         * <p>
+         * The rate limiter, retry policy, circuit breakers, bulkheads, metrics recorder, tracer and request
+         * listeners set on this builder are installed on the HTTP client itself. Clients built on the same
+         * HTTP client therefore share them, and the last one built replaces the settings of the others;
+         * give each client its own HTTP client when they need different settings.
+         * </p>
+         *
+         * @param httpClient HTTP client
+         * @return this builder
+         */
         public Builder httpClient(final HttpClient httpClient) {
             this.httpClient = httpClient;
             return this;
         }
 
+        /**
+         * Connection pool settings for the default {@link NetworkHttpClient}.
+         * Ignored when a custom httpClient is provided.
+         *
+         * @param connectionPoolConfig pool settings
+         * @return this builder
+         */
+        public Builder connectionPoolConfig(final ConnectionPoolConfig connectionPoolConfig) {
+            this.connectionPoolConfig = connectionPoolConfig;
+            return this;
+        }
+
         public Builder userAgentExtensions(final List<String> userAgentExtensions) {
             if (userAgentExtensions != null && !userAgentExtensions.isEmpty()) {
                 this.userAgentExtensions = new ArrayList<>(userAgentExtensions);
@@ -117,6 +307,118 @@ public class ReachRestClient {
             return this;
         }
 
+        /**
+         * Throttle requests on the client side, with one permit per attempt so retries are throttled too.
+         *
+         * @param rateLimiter rate limiter, such as an {@link com.talkylabs.reach.resilience.EndpointRateLimiter}
+         * @return this builder
+         */
+        public Builder rateLimiter(final RateLimiter rateLimiter) {
+            this.rateLimiter = rateLimiter;
+            return this;
+        }
+
+        /**
+         * Retry policy installed on the HTTP client, exponential backoff with jitter by default.
+         *
+         * @param retryPolicy retry policy
+         * @return this builder
+         */
+        public Builder retryPolicy(final RetryPolicy retryPolicy) {
+            this.retryPolicy = retryPolicy;
+            return this;
+        }
+
+        /**
+         * Fail fast on endpoints that keep failing, with one circuit breaker per method and path template.
+         *
+         * @param circuitBreakers circuit breaker registry
+         * @return this builder
+         */
+        public Builder circuitBreakers(final CircuitBreakerRegistry circuitBreakers) {
+            this.circuitBreakers = circuitBreakers;
+            return this;
+        }
+
+        /**
+         * Cap concurrent calls per group of endpoints, so one kind of traffic can not starve the others.
+         *
+         * @param bulkheads bulkheads
+         * @return this builder
+         */
+        public Builder bulkheads(final EndpointBulkheads bulkheads) {
+            this.bulkheads = bulkheads;
+            return this;
+        }
+
+        /**
+         * Receive the diagnostics of every call, such as attempts, timings and status.
+         *
+         * @param requestListener listener registered on the HTTP client
+         * @return this builder
+         */
+        public Builder requestListener(final RequestListener requestListener) {
+            this.requestListeners.add(requestListener);
+            return this;
+        }
+
+        /**
+         * Record per-operation timings, retries, response sizes, deserialization time, API error codes
+         * and connection lease waits.
+         *
+         * @param metricsRecorder metrics recorder, such as an adapter to a Micrometer registry
+         * @return this builder
+         */
+        public Builder metricsRecorder(final MetricsRecorder metricsRecorder) {
+            this.metricsRecorder = metricsRecorder;
+            return this;
+        }
+
+        /**
+         * Wrap every call in a span and propagate its context to the server and to async executor threads.
+         *
+         * @param tracer tracer, such as an adapter to OpenTelemetry
+         * @return this builder
+         */
+        public Builder tracer(final Tracer tracer) {
+            this.tracer = tracer;
+            return this;
+        }
+
+        /**
+         * Share one network call between identical GET requests that are in flight at the same time.
+         *
+         * @param requestCoalescer request coalescer
+         * @return this builder
+         */
+        public Builder requestCoalescer(final RequestCoalescer requestCoalescer) {
+            this.requestCoalescer = requestCoalescer;
+            return this;
+        }
+
+        /**
+         * Cache resources that rarely change, such as configurations, in this process.
+         *
+         * @param resourceCaches resource caches
+         * @return this builder
+         */
+        public Builder resourceCaches(final ResourceCaches resourceCaches) {
+            this.resourceCaches = resourceCaches;
+            return this;
+        }
+
+        /**
+         * Keep GET responses and revalidate them with {@code ETag} and {@code Last-Modified},
+         * so unchanged resources come back as bodiless {@code 304} responses.
+         *
+         * @param responseCache response cache
+         * @return this builder
+         */
+        public Builder responseCache(final ConditionalResponseCache responseCache) {
+            this.responseCache = responseCache;
+            return this;
+        }
+
         /**
          * Build new ReachRestClient.
          *
@@ -124,7 +426,30 @@ public class ReachRestClient {
          */
         public ReachRestClient build() {
             if (this.httpClient == null) {
-                this.httpClient = new NetworkHttpClient();
+                this.httpClient = this.connectionPoolConfig == null
+                    ? new NetworkHttpClient()
+                    : new NetworkHttpClient(this.connectionPoolConfig);
+            }
+            if (this.rateLimiter != null) {
+                this.httpClient.setRateLimiter(this.rateLimiter);
+            }
+            if (this.retryPolicy != null) {
+                this.httpClient.setRetryPolicy(this.retryPolicy);
+            }
+            if (this.circuitBreakers != null) {
+                this.httpClient.setCircuitBreakers(this.circuitBreakers);
+            }
+            if (this.bulkheads != null) {
+                this.httpClient.setBulkheads(this.bulkheads);
+            }
+            if (this.metricsRecorder != null) {
+                this.httpClient.setMetricsRecorder(this.metricsRecorder);
+            }
+            if (this.tracer != null) {
+                this.httpClient.setTracer(this.tracer);
+            }
+            for (final RequestListener requestListener : this.requestListeners) {
+                this.httpClient.addRequestListener(requestListener);
             }
             return new ReachRestClient(this);
         }
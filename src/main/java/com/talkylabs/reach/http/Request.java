@@ -13,9 +13,11 @@ import java.net.URL;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.talkylabs.reach.exception.ApiException;
-import com.talkylabs.reach.exception.InvalidRequestException;
+import com.talkylabs.reach.tracing.TracingAttributes;
+import org.apache.http.HttpHeaders;
 
 public class Request {
 
@@ -33,6 +35,17 @@ public class Request {
 
     private List<String> userAgentExtensions;
 
+    private String pathTemplate;
+    private String operation;
+
+    private static final int MAX_CACHED_URLS = 1024;
+    private static final Map<String, String> ORIGINS = new ConcurrentHashMap<>();
+    private static final Map<String, String> ENCODED_BASE_URLS = new ConcurrentHashMap<>();
+
+    // The url is final, so its encoded form never changes; the full URL is reused while the query is unchanged
+    private volatile String builtUrl;
+    private volatile ConstructedUrl constructedUrl;
+
     /**
      * Create a new API request.
      *
@@ -83,6 +96,48 @@ public class Request {
         this.userAgentExtensions = userAgentExtensions;
     }
 
+    /**
+     * Get the path of the request URL, without the query string.
+     *
+     * @return the path, "/" if the URL has none
+     */
+    public String getPath() {
+        int start = url.indexOf("://");
+        start = start < 0 ? 0 : url.indexOf('/', start + 3);
+        if (start < 0) {
+            return "/";
+        }
+        int end = url.indexOf('?', start);
+        return end < 0 ? url.substring(start) : url.substring(start, end);
+    }
+
+    /**
+     * Get the endpoint's path template, such as {@code /rest/messaging/v1/create}, used to group
+     * requests to the same endpoint regardless of their path parameters.
+     *
+     * @return the path template, or the request path when none was set
+     */
+    public String getPathTemplate() {
+        return pathTemplate != null ? pathTemplate : getPath();
+    }
+
+    public void setPathTemplate(final String pathTemplate) {
+        this.pathTemplate = pathTemplate;
+    }
+
+    /**
+     * Get the name of the SDK operation behind the request, such as {@code messaging.send}.
+     *
+     * @return the operation name, or the method and path template when none was set
+     */
+    public String getOperation() {
+        return operation != null ? operation : method + " " + getPathTemplate();
+    }
+
+    public void setOperation(final String operation) {
+        this.operation = operation;
+    }
+
     public List<String> getUserAgentExtensions() {
         return this.userAgentExtensions;
     }
@@ -117,6 +172,11 @@ public class Request {
      */
     public URL constructURL() {
         String params = encodeQueryParams();
+        ConstructedUrl constructed = constructedUrl;
+        if (constructed != null && constructed.params.equals(params)) {
+            return constructed.url;
+        }
+
         String stringUri = buildURL();
 
         if (params.length() > 0) {
@@ -125,7 +185,9 @@ public class Request {
 
         try {
             URI uri = new URI(stringUri);
-            return uri.toURL();
+            URL constructedURL = uri.toURL();
+            constructedUrl = new ConstructedUrl(params, constructedURL);
+            return constructedURL;
         } catch (final URISyntaxException e) {
             throw new ApiException("Bad URI: " + e.getMessage());
         } catch (final MalformedURLException e) {
@@ -134,26 +196,126 @@ public class Request {
     }
 
     private String buildURL() {
+        String built = builtUrl;
+        if (built == null) {
+            built = buildURL(url, pathTemplate);
+            builtUrl = built;
+        }
+        return built;
+    }
+
+    /**
+     * Encode the path of a URL, keeping its origin, query and fragment as they are.
+     *
+     * <p>
+     * Origins are parsed once per origin. Paths without parameters, whose template is the path itself,
+     * are encoded once per endpoint. Other paths only pay for the segments that actually need encoding.
+     * </p>
+     */
+    private static String buildURL(final String url, final String pathTemplate) {
+        int schemeEnd = url.indexOf("://");
+        int pathStart = schemeEnd < 0 ? -1 : url.indexOf('/', schemeEnd + 3);
+        int pathEnd = firstIndexOf(url, '?', '#');
+        if (pathStart < 0 || (pathEnd >= 0 && pathEnd < pathStart)) {
+            return parseAndBuildURL(url);
+        }
+        if (pathEnd < 0) {
+            pathEnd = url.length();
+        }
+
+        String base = url.substring(0, pathEnd);
+        String path = url.substring(pathStart, pathEnd);
+        boolean cacheable = path.equals(pathTemplate);
+        String encodedBase = cacheable ? ENCODED_BASE_URLS.get(base) : null;
+        if (encodedBase == null) {
+            String origin = ORIGINS.get(url.substring(0, pathStart));
+            if (origin == null) {
+                origin = parseOrigin(url.substring(0, pathStart));
+            }
+            encodedBase = origin + encodePath(path);
+            if (cacheable && ENCODED_BASE_URLS.size() < MAX_CACHED_URLS) {
+                ENCODED_BASE_URLS.put(base, encodedBase);
+            }
+        }
+        return pathEnd == url.length() ? encodedBase : encodedBase + url.substring(pathEnd);
+    }
+
+    private static String parseOrigin(final String origin) {
+        String parsed = parseAndBuildURL(origin);
+        if (ORIGINS.size() < MAX_CACHED_URLS) {
+            ORIGINS.put(origin, parsed);
+        }
+        return parsed;
+    }
+
+    private static String parseAndBuildURL(final String url) {
         try {
             final URL parsedUrl = new URL(url);
-            String host = parsedUrl.getHost();           
+            String host = parsedUrl.getHost();
 
             String urlPort = parsedUrl.getPort() != -1 ? ":" + parsedUrl.getPort() : null;
             String protocol = parsedUrl.getProtocol() + "://";
-            String[] pathPieces = parsedUrl.getPath().split("/");
-            for (int i = 0; i < pathPieces.length; i++) {
-                pathPieces[i] = URLEncoder.encode(pathPieces[i], "UTF-8");
-            }
-            String encodedPath = String.join("/", pathPieces);
+            String encodedPath = encodePath(parsedUrl.getPath());
             String query = parsedUrl.getQuery() != null ? "?" + parsedUrl.getQuery() : null;
             String ref = parsedUrl.getRef() != null ? "#" + parsedUrl.getRef() : null;
             String credentials = parsedUrl.getUserInfo() != null ? parsedUrl.getUserInfo() + "@" : null;
             return joinIgnoreNull("", protocol, credentials, host, urlPort, encodedPath, query, ref);
-        } catch (final MalformedURLException | UnsupportedEncodingException e) {
+        } catch (final MalformedURLException e) {
             throw new ApiException("Bad URL: "+ e.getMessage());
         }
     }
 
+    private static String encodePath(final String path) {
+        String[] pathPieces = path.split("/");
+        boolean encoded = false;
+        for (int i = 0; i < pathPieces.length; i++) {
+            if (!isUrlEncoded(pathPieces[i])) {
+                pathPieces[i] = encode(pathPieces[i]);
+                encoded = true;
+            }
+        }
+        // split drops trailing empty pieces, so a trailing slash is removed either way
+        return encoded || path.endsWith("/") ? String.join("/", pathPieces) : path;
+    }
+
+    /**
+     * Whether URL encoding would leave a string unchanged.
+     */
+    private static boolean isUrlEncoded(final String piece) {
+        for (int i = 0; i < piece.length(); i++) {
+            char c = piece.charAt(i);
+            if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '.' || c == '-' || c == '*' || c == '_')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String encode(final String piece) {
+        try {
+            return URLEncoder.encode(piece, "UTF-8");
+        } catch (final UnsupportedEncodingException e) {
+            throw new ApiException("Bad URL: "+ e.getMessage());
+        }
+    }
+
+    private static int firstIndexOf(final String string, final char first, final char second) {
+        int a = string.indexOf(first);
+        int b = string.indexOf(second);
+        return a < 0 ? b : (b < 0 ? a : Math.min(a, b));
+    }
+
+    private static final class ConstructedUrl {
+        private final String params;
+        private final URL url;
+
+        private ConstructedUrl(final String params, final URL url) {
+            this.params = params;
+            this.url = url;
+        }
+    }
+
     /**
      * Add query parameters for date ranges.
      *
@@ -252,24 +414,7 @@ public class Request {
     }
 
     private static String encodeParameters(final Map<String, List<String>> params) {
-        List<String> parameters = new ArrayList<>();
-
-        for (final Map.Entry<String, List<String>> entry : params.entrySet()) {
-            try {
-                String encodedName = URLEncoder.encode(entry.getKey(), "UTF-8");
-                for (final String value : entry.getValue()) {
-                    if (value == null) {
-                        continue;
-                    }
-
-                    String encodedValue = URLEncoder.encode(value, "UTF-8");
-                    parameters.add(encodedName + "=" + encodedValue);
-                }
-            } catch (final UnsupportedEncodingException e) {
-                throw new InvalidRequestException("Couldn't encode params", entry.getKey(), e);
-            }
-        }
-        return joinIgnoreNull("&", parameters);
+        return FormEncoder.encodeToString(params);
     }
 
     private static String joinIgnoreNull(final String separator, final String... items) {
@@ -302,6 +447,32 @@ public class Request {
 
     public Map<String, List<String>> getHeaderParams() { return headerParams; }
 
+    /**
+     * Build the key of the requests that may share a response: same method, URL, username and header
+     * params. Tracing and revalidation headers differ from call to call and are left out.
+     *
+     * @return sharing key
+     */
+    String sharingKey() {
+        StringBuilder key = new StringBuilder()
+            .append(method).append(' ').append(username).append(' ').append(constructURL());
+        if (!headerParams.isEmpty()) {
+            for (final Map.Entry<String, List<String>> header : new TreeMap<>(headerParams).entrySet()) {
+                if (!isPerCallHeader(header.getKey())) {
+                    key.append(' ').append(header.getKey()).append('=').append(header.getValue());
+                }
+            }
+        }
+        return key.toString();
+    }
+
+    private static boolean isPerCallHeader(final String name) {
+        return TracingAttributes.TRACEPARENT_HEADER.equalsIgnoreCase(name)
+            || TracingAttributes.TRACESTATE_HEADER.equalsIgnoreCase(name)
+            || HttpHeaders.IF_NONE_MATCH.equalsIgnoreCase(name)
+            || HttpHeaders.IF_MODIFIED_SINCE.equalsIgnoreCase(name);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
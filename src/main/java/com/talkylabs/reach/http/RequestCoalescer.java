@@ -0,0 +1,140 @@
+package com.talkylabs.reach.http;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Collapses identical concurrent GET requests into a single call whose response is shared.
+ *
+ * <p>
+ * Requests are identical when they have the same method, URL with its query parameters, username and
+ * header params, tracing headers aside. The first caller makes the call and later callers wait for its
+ * outcome, including its exception, until it completes.
+ * Nothing is cached: a request made after the call completed goes to the network again.
+ * </p>
+ *
+ * <p>
+ * Shared responses are buffered in memory so that every caller can read the body.
+ * </p>
+ */
+public class RequestCoalescer {
+
+    private final Map<String, CompletableFuture<Response>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    /**
+     * Whether a request may share the outcome of an identical in-flight request.
+     *
+     * @param request request to check
+     * @return true for GET requests
+     */
+    public boolean isCoalescable(final Request request) {
+        return request.getMethod() == HttpMethod.GET;
+    }
+
+    /**
+     * Make a blocking call, or wait for the identical call already in flight.
+     *
+     * @param request request to make
+     * @param call    makes the network call
+     * @return the response of the call
+     */
+    public Response coalesce(final Request request, final Function<Request, Response> call) {
+        if (!isCoalescable(request)) {
+            return call.apply(request);
+        }
+
+        String key = request.sharingKey();
+        CompletableFuture<Response> future = new CompletableFuture<>();
+        CompletableFuture<Response> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            coalescedCount.incrementAndGet();
+            try {
+                return existing.join();
+            } catch (final CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+
+        try {
+            Response response = buffer(call.apply(request));
+            future.complete(response);
+            return response;
+        } catch (final RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * Make an async call, or share the future of the identical call already in flight.
+     *
+     * @param request request to make
+     * @param call    starts the network call
+     * @return future of the response of the call
+     */
+    public CompletableFuture<Response> coalesceAsync(final Request request,
+                                                     final Function<Request, CompletableFuture<Response>> call) {
+        if (!isCoalescable(request)) {
+            return call.apply(request);
+        }
+
+        String key = request.sharingKey();
+        CompletableFuture<Response> future = new CompletableFuture<>();
+        CompletableFuture<Response> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            coalescedCount.incrementAndGet();
+            // A dependent future, so one caller cancelling it does not cancel the shared call
+            return existing.thenApply(Function.identity());
+        }
+
+        CompletableFuture<Response> started;
+        try {
+            started = call.apply(request);
+        } catch (final RuntimeException e) {
+            inFlight.remove(key, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+        started.whenComplete((response, error) -> {
+            inFlight.remove(key, future);
+            if (error == null) {
+                try {
+                    future.complete(buffer(response));
+                } catch (final RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            } else {
+                future.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause()
+                    : error);
+            }
+        });
+        return future.thenApply(Function.identity());
+    }
+
+    /**
+     * Get the number of calls that shared the outcome of another call instead of going to the network.
+     *
+     * @return number of coalesced calls
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    private static Response buffer(final Response response) {
+        if (response != null) {
+            response.buffer();
+        }
+        return response;
+    }
+}
@@ -0,0 +1,150 @@
+package com.talkylabs.reach.http;
+
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What happened during a single call to {@link HttpClient#reliableRequest(Request)} or
+ * {@link HttpClient#reliableRequestAsync(Request)}, retries included.
+ *
+ * <p>
+ * Diagnostics are created once per call and never shared, so they can be read from any thread.
+ * They are attached to the returned {@link Response} and passed to every {@link RequestListener}.
+ * </p>
+ */
+public final class RequestDiagnostics {
+
+    private final String operation;
+    private final HttpMethod method;
+    private final String pathTemplate;
+    private final long startTimeMillis;
+    private final long elapsedNanos;
+    private final int attempts;
+    private final int statusCode;
+    private final long responseBytes;
+    private final Throwable error;
+
+    RequestDiagnostics(final Request request, final long startTimeMillis, final long elapsedNanos,
+                       final int attempts, final Response response, final Throwable error) {
+        this.operation = request.getOperation();
+        this.method = request.getMethod();
+        this.pathTemplate = request.getPathTemplate();
+        this.startTimeMillis = startTimeMillis;
+        this.elapsedNanos = elapsedNanos;
+        this.attempts = attempts;
+        this.statusCode = response == null ? -1 : response.getStatusCode();
+        this.responseBytes = contentLength(response);
+        this.error = error;
+    }
+
+    private static long contentLength(final Response response) {
+        if (response == null) {
+            return -1L;
+        }
+        if (response.getHeaders() == null) {
+            return response.getBodyLength();
+        }
+        for (final Header header : response.getHeaders()) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(header.getName())) {
+                try {
+                    return Long.parseLong(header.getValue().trim());
+                } catch (final NumberFormatException e) {
+                    return -1L;
+                }
+            }
+        }
+        return response.getBodyLength();
+    }
+
+    /**
+     * Get the name of the SDK operation, such as {@code messaging.send}.
+     *
+     * @return operation name, or the method and path template for requests built without one
+     */
+    public String getOperation() {
+        return operation;
+    }
+
+    public HttpMethod getMethod() {
+        return method;
+    }
+
+    /**
+     * Get the path template of the endpoint, such as {@code /rest/messaging/v1/fetch/{messageId}}.
+     *
+     * @return path template, or the plain path for requests built without one
+     */
+    public String getPathTemplate() {
+        return pathTemplate;
+    }
+
+    /**
+     * Get the wall-clock time the call started at.
+     *
+     * @return epoch milliseconds
+     */
+    public long getStartTimeMillis() {
+        return startTimeMillis;
+    }
+
+    /**
+     * Get the time spent on the call, including retries and the delays between them.
+     *
+     * @return elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    }
+
+    /**
+     * Get the number of attempts made, 1 when the first attempt was final.
+     *
+     * @return number of attempts
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * Get the status code of the final response.
+     *
+     * @return status code, or -1 when no response was received
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Get the size of the final response body as announced by the server, or as read when it was not announced.
+     *
+     * @return {@code Content-Length} or the number of bytes read, or -1 when unknown
+     */
+    public long getResponseBytes() {
+        return responseBytes;
+    }
+
+    /**
+     * Get the exception that ended the call.
+     *
+     * @return exception, or null when a response was received
+     */
+    public Throwable getError() {
+        return error;
+    }
+
+    public boolean isSuccess() {
+        return error == null && statusCode >= 200 && statusCode < 400;
+    }
+
+    @Override
+    public String toString() {
+        return operation + " -> " + (error == null ? String.valueOf(statusCode) : error.toString())
+            + " in " + getElapsedMillis() + "ms after " + attempts + " attempt(s)";
+    }
+}
@@ -0,0 +1,20 @@
+package com.talkylabs.reach.http;
+
+/**
+ * Notified once per call made through an {@link HttpClient}, after retries.
+ *
+ * <p>
+ * Listeners run on the thread that completes the call, which for async calls may be an I/O thread,
+ * so they should return quickly. Exceptions they throw are logged and otherwise ignored.
+ * </p>
+ */
+@FunctionalInterface
+public interface RequestListener {
+
+    /**
+     * Called when a call completes, successfully or not.
+     *
+     * @param diagnostics what happened during the call
+     */
+    void onRequestCompleted(RequestDiagnostics diagnostics);
+}
@@ -5,16 +5,19 @@ import org.apache.http.Header;
 import com.talkylabs.reach.exception.ApiException;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
-import java.io.UnsupportedEncodingException;
-import java.util.Scanner;
+import java.nio.charset.StandardCharsets;
 
 public class Response {
 
     private final InputStream stream;
+    private byte[] body;
     private String content;
     private final int statusCode;
     private final Header[] headers;
+    private RequestDiagnostics diagnostics;
 
     /**
      * Create a Response from content string and status code.
@@ -40,6 +43,25 @@ public class Response {
         this.headers = headers;
     }
 
+    /**
+     * Create a Response from the bytes of the body, status code, and headers.
+     *
+     * <p>
+     * The body is decoded to a string only if {@link #getContent()} is called, and
+     * {@link #getStream()} reads the bytes without copying them.
+     * </p>
+     *
+     * @param body       body bytes, not copied
+     * @param statusCode status code
+     * @param headers    headers
+     */
+    public Response(final byte[] body, final int statusCode, final Header[] headers) {
+        this.stream = null;
+        this.body = body;
+        this.statusCode = statusCode;
+        this.headers = headers;
+    }
+
     /**
      * Create a Response from input stream and status code.
      *
@@ -79,16 +101,9 @@ public class Response {
             return content;
         }
 
-        if (stream != null) {
-            Scanner scanner = new Scanner(stream, "UTF-8").useDelimiter("\\A");
-
-            if (!scanner.hasNext()) {
-                return "";
-            }
-
-            content = scanner.next();
-            scanner.close();
-
+        byte[] bytes = getBody();
+        if (bytes != null) {
+            content = new String(bytes, StandardCharsets.UTF_8);
             return content;
         }
 
@@ -98,19 +113,70 @@ public class Response {
     /**
      * Get response data as stream.
      *
+     * <p>
+     * Responses backed by bytes or a content string return a new stream on every call.
+     * </p>
+     *
      * @return the response data as a stream
      */
     public InputStream getStream() {
-        if (stream != null) {
+        if (body == null && stream != null) {
             return stream;
         }
+        byte[] bytes = getBody();
+        return new ByteArrayInputStream(bytes == null ? new byte[0] : bytes);
+    }
+
+    /**
+     * Read a stream-backed body into memory, so that it can be read more than once.
+     */
+    void buffer() {
+        getBody();
+    }
+
+    /**
+     * Get the body bytes, reading a stream-backed body into memory first.
+     *
+     * @return body bytes, not copied, or null when there is no body
+     */
+    byte[] getBodyBytes() {
+        return getBody();
+    }
+
+    private byte[] getBody() {
+        if (body == null) {
+            if (stream != null) {
+                body = readStream();
+            } else if (content != null) {
+                body = content.getBytes(StandardCharsets.UTF_8);
+            }
+        }
+        return body;
+    }
+
+    private byte[] readStream() {
         try {
-            return new ByteArrayInputStream(content.getBytes("utf-8"));
-        } catch (final UnsupportedEncodingException e) {
-            throw new ApiException("UTF-8 encoding not supported", e);
+            byte[] buffer = new byte[4096];
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            int read;
+            while ((read = stream.read(buffer)) >= 0) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } catch (final IOException e) {
+            throw new ApiException("Couldn't read response body", e);
         }
     }
 
+    /**
+     * Get the number of bytes read for the body.
+     *
+     * @return body length, or -1 when the body has not been read into memory
+     */
+    long getBodyLength() {
+        return body == null ? -1L : body.length;
+    }
+
     public int getStatusCode() {
         return statusCode;
     }
@@ -118,4 +184,18 @@ public class Response {
     public Header[] getHeaders() {
         return headers;
     }
+
+    /**
+     * Get the diagnostics of the call that produced this response.
+     *
+     * @return diagnostics, or null if the response did not come from {@link HttpClient#reliableRequest(Request)}
+     *         or {@link HttpClient#reliableRequestAsync(Request)}
+     */
+    public RequestDiagnostics getDiagnostics() {
+        return diagnostics;
+    }
+
+    void setDiagnostics(final RequestDiagnostics diagnostics) {
+        this.diagnostics = diagnostics;
+    }
 }
@@ -0,0 +1,62 @@
+package com.talkylabs.reach.http;
+
+/**
+ * Decides whether and when {@link HttpClient#reliableRequest(Request)} tries a request again.
+ */
+public interface RetryPolicy {
+
+    /**
+     * Get the delay before the next attempt.
+     *
+     * @param attempts      number of attempts made so far, starting at 1
+     * @param response      response of the last attempt, null if none was received
+     * @param elapsedMillis time spent since the first attempt started
+     * @return delay in milliseconds, or a negative value to stop and return the last response
+     */
+    long nextDelayMillis(final int attempts, final Response response, final long elapsedMillis);
+
+    /**
+     * Never retry.
+     *
+     * @return a policy that makes a single attempt
+     */
+    static RetryPolicy none() {
+        return (attempts, response, elapsedMillis) -> -1L;
+    }
+
+    /**
+     * Retry matching responses after a constant delay, the historical behavior of reliableRequest.
+     *
+     * @param retryCodes  codes used for retries, see {@link HttpClient#ANY_500} and friends
+     * @param maxAttempts max number of attempts, including the first
+     * @param delayMillis delay between attempts
+     * @return fixed delay policy
+     */
+    static RetryPolicy fixed(final int[] retryCodes, final int maxAttempts, final long delayMillis) {
+        return (attempts, response, elapsedMillis) ->
+            attempts < maxAttempts && isRetryable(response, retryCodes) ? delayMillis : -1L;
+    }
+
+    /**
+     * Check a response against retry codes. A missing response is always retryable.
+     *
+     * @param response   response to check
+     * @param retryCodes exact status codes, or {@link HttpClient#ANY_500} style status classes
+     * @return whether the response should be retried
+     */
+    static boolean isRetryable(final Response response, final int[] retryCodes) {
+        if (response == null) {
+            return true;
+        }
+
+        int statusCode = response.getStatusCode();
+        int category = (int) Math.floor(statusCode / 100.0);
+
+        for (final int retryCode : retryCodes) {
+            if (retryCode < 0 ? category == -retryCode / 100 : statusCode == retryCode) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
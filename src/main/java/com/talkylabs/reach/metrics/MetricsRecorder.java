@@ -0,0 +1,58 @@
+package com.talkylabs.reach.metrics;
+
+/**
+ * Receives the measurements taken by the SDK, to be forwarded to a metrics library such as Micrometer.
+ *
+ * <p>
+ * Tags are given as alternating keys and values, in the same form as Micrometer's
+ * {@code Tags.of(String...)}. Implementations are called on request threads, and for async calls
+ * possibly on I/O threads, so they must be thread-safe and should not block. See {@link ReachMetrics}
+ * for the names and tags recorded.
+ * </p>
+ */
+public interface MetricsRecorder {
+
+    /**
+     * Recorder that drops every measurement. The SDK skips taking measurements altogether when it is installed.
+     */
+    MetricsRecorder NOOP = new MetricsRecorder() {
+        @Override
+        public void recordTime(final String name, final long nanos, final String... tags) {
+        }
+
+        @Override
+        public void incrementCounter(final String name, final long amount, final String... tags) {
+        }
+
+        @Override
+        public void recordAmount(final String name, final double amount, final String... tags) {
+        }
+    };
+
+    /**
+     * Record a duration, like a Micrometer {@code Timer}.
+     *
+     * @param name  metric name
+     * @param nanos duration in nanoseconds
+     * @param tags  alternating tag keys and values
+     */
+    void recordTime(String name, long nanos, String... tags);
+
+    /**
+     * Increment a counter, like a Micrometer {@code Counter}.
+     *
+     * @param name   metric name
+     * @param amount amount to add
+     * @param tags   alternating tag keys and values
+     */
+    void incrementCounter(String name, long amount, String... tags);
+
+    /**
+     * Record a sample of a distribution, like a Micrometer {@code DistributionSummary}.
+     *
+     * @param name   metric name
+     * @param amount sample value
+     * @param tags   alternating tag keys and values
+     */
+    void recordAmount(String name, double amount, String... tags);
+}
@@ -0,0 +1,74 @@
+package com.talkylabs.reach.metrics;
+
+/**
+ * Names and tags of the metrics recorded by the SDK.
+ */
+public final class ReachMetrics {
+
+    /**
+     * Timer of every call, retries included. Tagged with operation, method, status and outcome.
+     */
+    public static final String REQUESTS = "reach.client.requests";
+
+    /**
+     * Counter of retried attempts. Tagged with operation.
+     */
+    public static final String RETRIES = "reach.client.retries";
+
+    /**
+     * Distribution of response body sizes in bytes, when announced by the server. Tagged with operation.
+     */
+    public static final String RESPONSE_SIZE = "reach.client.response.size";
+
+    /**
+     * Timer of response deserialization. Tagged with operation.
+     */
+    public static final String DESERIALIZATION = "reach.client.deserialization";
+
+    /**
+     * Counter of error responses returned by the API. Tagged with operation, status and code.
+     */
+    public static final String ERRORS = "reach.client.errors";
+
+    /**
+     * Timer of the wait to lease a pooled connection. Tagged with outcome.
+     */
+    public static final String POOL_LEASE_WAIT = "reach.client.pool.lease.wait";
+
+    public static final String TAG_OPERATION = "operation";
+    public static final String TAG_METHOD = "method";
+    public static final String TAG_STATUS = "status";
+    public static final String TAG_OUTCOME = "outcome";
+    public static final String TAG_CODE = "code";
+
+    public static final String OUTCOME_SUCCESS = "SUCCESS";
+    public static final String OUTCOME_CLIENT_ERROR = "CLIENT_ERROR";
+    public static final String OUTCOME_SERVER_ERROR = "SERVER_ERROR";
+    public static final String OUTCOME_ERROR = "ERROR";
+    public static final String OUTCOME_TIMEOUT = "TIMEOUT";
+
+    /**
+     * Value used for tags whose value is not known, such as the status of a call that got no response.
+     */
+    public static final String NONE = "NONE";
+
+    private ReachMetrics() {
+    }
+
+    /**
+     * Get the outcome tag of a call.
+     *
+     * @param statusCode status code, or -1 if no response was received
+     * @return outcome tag value
+     */
+    public static String outcome(final int statusCode) {
+        if (statusCode < 0) {
+            return OUTCOME_ERROR;
+        } else if (statusCode < 400) {
+            return OUTCOME_SUCCESS;
+        } else if (statusCode < 500) {
+            return OUTCOME_CLIENT_ERROR;
+        }
+        return OUTCOME_SERVER_ERROR;
+    }
+}
@@ -0,0 +1,90 @@
+package com.talkylabs.reach.metrics;
+
+import com.talkylabs.reach.exception.RestException;
+import com.talkylabs.reach.http.HttpClient;
+import com.talkylabs.reach.http.ReachRestClient;
+import com.talkylabs.reach.http.RequestDiagnostics;
+import com.talkylabs.reach.http.Response;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.InputStream;
+import java.util.function.Function;
+
+/**
+ * Measurements taken by generated operations once a response has been received.
+ */
+public final class ResponseMetrics {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResponseMetrics.class);
+
+    private ResponseMetrics() {
+    }
+
+    /**
+     * Deserialize a response body, timing it when the client records metrics.
+     *
+     * @param client       client the response was received with
+     * @param response     response to read
+     * @param deserializer reads the response body
+     * @param <T>          deserialized type
+     * @return the deserialized body
+     */
+    public static <T> T deserialize(final ReachRestClient client, final Response response,
+                                    final Function<InputStream, T> deserializer) {
+        MetricsRecorder metricsRecorder = recorderOf(client);
+        if (metricsRecorder == MetricsRecorder.NOOP) {
+            return deserializer.apply(response.getStream());
+        }
+
+        long start = System.nanoTime();
+        try {
+            return deserializer.apply(response.getStream());
+        } finally {
+            try {
+                metricsRecorder.recordTime(ReachMetrics.DESERIALIZATION, System.nanoTime() - start,
+                    ReachMetrics.TAG_OPERATION, operationOf(response));
+            } catch (final RuntimeException e) {
+                logger.warn("Metrics recorder failed", e);
+            }
+        }
+    }
+
+    /**
+     * Count an error returned by the API.
+     *
+     * @param client        client the response was received with
+     * @param response      error response
+     * @param restException error parsed from the response
+     */
+    public static void recordError(final ReachRestClient client, final Response response,
+                                   final RestException restException) {
+        MetricsRecorder metricsRecorder = recorderOf(client);
+        if (metricsRecorder == MetricsRecorder.NOOP) {
+            return;
+        }
+
+        try {
+            metricsRecorder.incrementCounter(ReachMetrics.ERRORS, 1L,
+                ReachMetrics.TAG_OPERATION, operationOf(response),
+                ReachMetrics.TAG_STATUS, String.valueOf(response.getStatusCode()),
+                ReachMetrics.TAG_CODE, restException.getCode() == null ? ReachMetrics.NONE : restException.getCode().toString());
+        } catch (final RuntimeException e) {
+            logger.warn("Metrics recorder failed", e);
+        }
+    }
+
+    private static MetricsRecorder recorderOf(final ReachRestClient client) {
+        HttpClient httpClient = client.getHttpClient();
+        if (httpClient == null || httpClient.getMetricsRecorder() == null) {
+            return MetricsRecorder.NOOP;
+        }
+        return httpClient.getMetricsRecorder();
+    }
+
+    private static String operationOf(final Response response) {
+        RequestDiagnostics diagnostics = response.getDiagnostics();
+        return diagnostics == null ? ReachMetrics.NONE : diagnostics.getOperation();
+    }
+}
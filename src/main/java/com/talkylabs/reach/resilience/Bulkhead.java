@@ -0,0 +1,100 @@
+package com.talkylabs.reach.resilience;
+
+import com.talkylabs.reach.exception.BulkheadFullException;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the number of concurrent calls to a group of endpoints, so a flood of one kind of traffic
+ * can not take every pooled connection and starve the others.
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final int maxConcurrentCalls;
+    private final long maxWaitMillis;
+    private final Semaphore permits;
+
+    /**
+     * Create a bulkhead that rejects calls right away when full.
+     *
+     * @param name               name used in error messages
+     * @param maxConcurrentCalls max number of calls in flight
+     */
+    public Bulkhead(final String name, final int maxConcurrentCalls) {
+        this(name, maxConcurrentCalls, 0L);
+    }
+
+    /**
+     * Create a bulkhead.
+     *
+     * @param name               name used in error messages
+     * @param maxConcurrentCalls max number of calls in flight
+     * @param maxWaitMillis      how long a blocking call waits for a free slot before being rejected
+     */
+    public Bulkhead(final String name, final int maxConcurrentCalls, final long maxWaitMillis) {
+        if (maxConcurrentCalls <= 0) {
+            throw new IllegalArgumentException("maxConcurrentCalls must be positive");
+        }
+        if (maxWaitMillis < 0) {
+            throw new IllegalArgumentException("maxWaitMillis must not be negative");
+        }
+        this.name = name;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxWaitMillis = maxWaitMillis;
+        this.permits = new Semaphore(maxConcurrentCalls, true);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    public long getMaxWaitMillis() {
+        return maxWaitMillis;
+    }
+
+    public int getAvailableConcurrentCalls() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * Take a slot, waiting up to {@code maxWaitMillis} for one to free up.
+     *
+     * @throws BulkheadFullException if no slot freed up in time or the thread was interrupted
+     */
+    public void acquire() {
+        boolean acquired;
+        try {
+            acquired = maxWaitMillis == 0
+                ? permits.tryAcquire()
+                : permits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BulkheadFullException("Interrupted while waiting for bulkhead " + name, e);
+        }
+        if (!acquired) {
+            throw new BulkheadFullException("Bulkhead " + name + " is full");
+        }
+    }
+
+    /**
+     * Take a slot if one is free right now. Async calls use this so they never block the caller.
+     *
+     * @return whether a slot was taken
+     */
+    public boolean tryAcquire() {
+        return permits.tryAcquire();
+    }
+
+    /**
+     * Give back a slot taken by {@link #acquire()} or {@link #tryAcquire()}.
+     */
+    public void release() {
+        permits.release();
+    }
+}
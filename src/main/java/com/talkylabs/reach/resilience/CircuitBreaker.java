@@ -0,0 +1,235 @@
+package com.talkylabs.reach.resilience;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Count-based circuit breaker for a single endpoint.
+ *
+ * <p>
+ * While closed, the outcome of the last {@code slidingWindowSize} calls is kept in a ring buffer.
+ * Once at least {@code minimumCalls} are recorded and the failure rate reaches the threshold, the
+ * circuit opens and every call is rejected for {@code openDurationMillis}. It then turns half-open
+ * and lets {@code halfOpenCalls} probes through: a single failure opens it again, and the circuit
+ * closes once they all succeed.
+ * </p>
+ *
+ * <p>
+ * Every state change starts a new generation. A permit from {@link #tryAcquirePermit()} carries the
+ * generation it was granted in, and outcomes reported against an older generation are ignored, so a
+ * slow call admitted while closed can neither close nor reopen the circuit once it has moved on.
+ * </p>
+ */
+public class CircuitBreaker {
+
+    /**
+     * Returned by {@link #tryAcquirePermit()} when the call is rejected.
+     */
+    public static final long NO_PERMIT = -1L;
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String name;
+    private final CircuitBreakerConfig config;
+    private final LongSupplier clock;
+
+    private final boolean[] window;
+    private int windowIndex;
+    private int recordedCalls;
+    private int failedCalls;
+
+    private State state = State.CLOSED;
+    private long generation;
+    private long openedAtNanos;
+    private int halfOpenPermitted;
+    private int halfOpenSucceeded;
+
+    /**
+     * Create a circuit breaker.
+     *
+     * @param name   name used in error messages, usually the endpoint key
+     * @param config thresholds
+     */
+    public CircuitBreaker(final String name, final CircuitBreakerConfig config) {
+        this(name, config, System::nanoTime);
+    }
+
+    CircuitBreaker(final String name, final CircuitBreakerConfig config, final LongSupplier clock) {
+        this.name = name;
+        this.config = config;
+        this.clock = clock;
+        this.window = new boolean[config.getSlidingWindowSize()];
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public CircuitBreakerConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Get the current state, turning an open circuit half-open if its open duration has elapsed.
+     *
+     * @return current state
+     */
+    public synchronized State getState() {
+        if (state == State.OPEN && clock.getAsLong() - openedAtNanos
+            >= TimeUnit.MILLISECONDS.toNanos(config.getOpenDurationMillis())) {
+            transitionTo(State.HALF_OPEN);
+        }
+        return state;
+    }
+
+    /**
+     * Get the failure rate over the sliding window.
+     *
+     * @return failure rate in percent, or -1 while fewer than {@code minimumCalls} are recorded
+     */
+    public synchronized float getFailureRate() {
+        if (recordedCalls < config.getMinimumCalls()) {
+            return -1f;
+        }
+        return failedCalls * 100f / recordedCalls;
+    }
+
+    /**
+     * Ask to make a call. Each granted permission must be followed by {@link #onSuccess()} or
+     * {@link #onFailure()}.
+     *
+     * @return whether the call may go through
+     */
+    public synchronized boolean tryAcquirePermission() {
+        return tryAcquirePermit() != NO_PERMIT;
+    }
+
+    /**
+     * Ask to make a call, tying its outcome to the current state. Each granted permit must be followed
+     * by {@link #onSuccess(long)}, {@link #onFailure(long)} or {@link #releasePermit(long)}.
+     *
+     * @return the permit, or {@link #NO_PERMIT} if the call may not go through
+     */
+    public synchronized long tryAcquirePermit() {
+        switch (getState()) {
+            case CLOSED:
+                return generation;
+            case HALF_OPEN:
+                if (halfOpenPermitted < config.getHalfOpenCalls()) {
+                    halfOpenPermitted++;
+                    return generation;
+                }
+                return NO_PERMIT;
+            default:
+                return NO_PERMIT;
+        }
+    }
+
+    /**
+     * Give back a permission for a call that was never made, without recording any outcome.
+     */
+    public synchronized void releasePermission() {
+        releasePermit(generation);
+    }
+
+    /**
+     * Give back a permit for a call that was never made, without recording any outcome.
+     *
+     * @param permit permit from {@link #tryAcquirePermit()}
+     */
+    public synchronized void releasePermit(final long permit) {
+        if (permit == generation && state == State.HALF_OPEN && halfOpenPermitted > 0) {
+            halfOpenPermitted--;
+        }
+    }
+
+    /**
+     * Record a successful call.
+     */
+    public synchronized void onSuccess() {
+        onSuccess(generation);
+    }
+
+    /**
+     * Record a successful call, unless the circuit changed state since its permit was granted.
+     *
+     * @param permit permit from {@link #tryAcquirePermit()}
+     */
+    public synchronized void onSuccess(final long permit) {
+        if (permit != generation) {
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(false);
+        } else if (state == State.HALF_OPEN && ++halfOpenSucceeded >= config.getHalfOpenCalls()) {
+            transitionTo(State.CLOSED);
+        }
+    }
+
+    /**
+     * Record a failed call.
+     */
+    public synchronized void onFailure() {
+        onFailure(generation);
+    }
+
+    /**
+     * Record a failed call, unless the circuit changed state since its permit was granted.
+     *
+     * @param permit permit from {@link #tryAcquirePermit()}
+     */
+    public synchronized void onFailure(final long permit) {
+        if (permit != generation) {
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(true);
+            if (recordedCalls >= config.getMinimumCalls()
+                && failedCalls * 100L >= (long) config.getFailureRateThreshold() * recordedCalls) {
+                transitionTo(State.OPEN);
+            }
+        } else if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    /**
+     * Close the circuit and forget every recorded call.
+     */
+    public synchronized void reset() {
+        transitionTo(State.CLOSED);
+    }
+
+    private void record(final boolean failure) {
+        if (recordedCalls == window.length) {
+            if (window[windowIndex]) {
+                failedCalls--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            failedCalls++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void transitionTo(final State newState) {
+        state = newState;
+        generation++;
+        halfOpenPermitted = 0;
+        halfOpenSucceeded = 0;
+        if (newState == State.OPEN) {
+            openedAtNanos = clock.getAsLong();
+        } else if (newState == State.CLOSED) {
+            windowIndex = 0;
+            recordedCalls = 0;
+            failedCalls = 0;
+        }
+    }
+}
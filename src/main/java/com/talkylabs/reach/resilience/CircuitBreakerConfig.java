@@ -0,0 +1,137 @@
+package com.talkylabs.reach.resilience;
+
+/**
+ * Thresholds shared by the circuit breakers of a {@link CircuitBreakerRegistry}.
+ */
+public class CircuitBreakerConfig {
+
+    public static final int DEFAULT_FAILURE_RATE_THRESHOLD = 50;
+    public static final int DEFAULT_SLIDING_WINDOW_SIZE = 20;
+    public static final int DEFAULT_MINIMUM_CALLS = 10;
+    public static final long DEFAULT_OPEN_DURATION_MILLIS = 30000L;
+    public static final int DEFAULT_HALF_OPEN_CALLS = 3;
+
+    private final int failureRateThreshold;
+    private final int slidingWindowSize;
+    private final int minimumCalls;
+    private final long openDurationMillis;
+    private final int halfOpenCalls;
+
+    private CircuitBreakerConfig(final Builder b) {
+        this.failureRateThreshold = b.failureRateThreshold;
+        this.slidingWindowSize = b.slidingWindowSize;
+        this.minimumCalls = b.minimumCalls;
+        this.openDurationMillis = b.openDurationMillis;
+        this.halfOpenCalls = b.halfOpenCalls;
+    }
+
+    public int getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    public int getSlidingWindowSize() {
+        return slidingWindowSize;
+    }
+
+    public int getMinimumCalls() {
+        return minimumCalls;
+    }
+
+    public long getOpenDurationMillis() {
+        return openDurationMillis;
+    }
+
+    public int getHalfOpenCalls() {
+        return halfOpenCalls;
+    }
+
+    public static class Builder {
+        private int failureRateThreshold = DEFAULT_FAILURE_RATE_THRESHOLD;
+        private int slidingWindowSize = DEFAULT_SLIDING_WINDOW_SIZE;
+        private int minimumCalls = DEFAULT_MINIMUM_CALLS;
+        private long openDurationMillis = DEFAULT_OPEN_DURATION_MILLIS;
+        private int halfOpenCalls = DEFAULT_HALF_OPEN_CALLS;
+
+        /**
+         * Failure rate, in percent of the sliding window, at which the circuit opens.
+         *
+         * @param failureRateThreshold percentage between 1 and 100
+         * @return this builder
+         */
+        public Builder failureRateThreshold(final int failureRateThreshold) {
+            if (failureRateThreshold <= 0 || failureRateThreshold > 100) {
+                throw new IllegalArgumentException("failureRateThreshold must be between 1 and 100");
+            }
+            this.failureRateThreshold = failureRateThreshold;
+            return this;
+        }
+
+        /**
+         * Number of most recent calls the failure rate is computed over.
+         *
+         * @param slidingWindowSize number of calls
+         * @return this builder
+         */
+        public Builder slidingWindowSize(final int slidingWindowSize) {
+            if (slidingWindowSize <= 0) {
+                throw new IllegalArgumentException("slidingWindowSize must be positive");
+            }
+            this.slidingWindowSize = slidingWindowSize;
+            return this;
+        }
+
+        /**
+         * Number of calls to record before the failure rate is taken into account.
+         *
+         * @param minimumCalls number of calls
+         * @return this builder
+         */
+        public Builder minimumCalls(final int minimumCalls) {
+            if (minimumCalls <= 0) {
+                throw new IllegalArgumentException("minimumCalls must be positive");
+            }
+            this.minimumCalls = minimumCalls;
+            return this;
+        }
+
+        /**
+         * Time calls are rejected for once the circuit opens, before probe calls are let through.
+         *
+         * @param openDurationMillis duration in milliseconds
+         * @return this builder
+         */
+        public Builder openDurationMillis(final long openDurationMillis) {
+            if (openDurationMillis < 0) {
+                throw new IllegalArgumentException("openDurationMillis must not be negative");
+            }
+            this.openDurationMillis = openDurationMillis;
+            return this;
+        }
+
+        /**
+         * Number of probe calls let through while half-open. The circuit closes once they all succeed.
+         *
+         * @param halfOpenCalls number of calls
+         * @return this builder
+         */
+        public Builder halfOpenCalls(final int halfOpenCalls) {
+            if (halfOpenCalls <= 0) {
+                throw new IllegalArgumentException("halfOpenCalls must be positive");
+            }
+            this.halfOpenCalls = halfOpenCalls;
+            return this;
+        }
+
+        /**
+         * Build new CircuitBreakerConfig.
+         *
+         * @return CircuitBreakerConfig instance
+         */
+        public CircuitBreakerConfig build() {
+            if (minimumCalls > slidingWindowSize) {
+                throw new IllegalArgumentException("minimumCalls can not exceed slidingWindowSize");
+            }
+            return new CircuitBreakerConfig(this);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.talkylabs.reach.resilience;
+
+import com.talkylabs.reach.http.Request;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Circuit breakers created on demand, one per method and path template,
+ * such as {@code POST /rest/messaging/v1/create}.
+ */
+public class CircuitBreakerRegistry {
+
+    private final CircuitBreakerConfig config;
+    private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+    /**
+     * Create a registry using the default thresholds.
+     */
+    public CircuitBreakerRegistry() {
+        this(new CircuitBreakerConfig.Builder().build());
+    }
+
+    /**
+     * Create a registry.
+     *
+     * @param config thresholds of every circuit breaker created by the registry
+     */
+    public CircuitBreakerRegistry(final CircuitBreakerConfig config) {
+        this.config = config;
+    }
+
+    public CircuitBreakerConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Get the circuit breaker guarding the endpoint of a request.
+     *
+     * @param request request about to be sent
+     * @return circuit breaker of the request's endpoint
+     */
+    public CircuitBreaker circuitBreakerFor(final Request request) {
+        return circuitBreaker(request.getMethod() + " " + request.getPathTemplate());
+    }
+
+    /**
+     * Get or create the circuit breaker with the given name.
+     *
+     * @param name endpoint key
+     * @return circuit breaker
+     */
+    public CircuitBreaker circuitBreaker(final String name) {
+        return circuitBreakers.computeIfAbsent(name, key -> new CircuitBreaker(key, config));
+    }
+
+    /**
+     * Get every circuit breaker created so far, keyed by name.
+     *
+     * @return unmodifiable view of the circuit breakers
+     */
+    public Map<String, CircuitBreaker> getCircuitBreakers() {
+        return Collections.unmodifiableMap(circuitBreakers);
+    }
+}
@@ -0,0 +1,83 @@
+package com.talkylabs.reach.resilience;
+
+import com.talkylabs.reach.http.HttpMethod;
+import com.talkylabs.reach.http.Request;
+
+/**
+ * Routes requests to bulkheads by HTTP method and path prefix.
+ *
+ * <p>
+ * Rules are checked in the order they were added and the first match wins, so more specific
+ * prefixes should come first. Requests matching no rule go through the default bulkhead, or are
+ * not limited if there is none.
+ * </p>
+ */
+public class EndpointBulkheads {
+
+    private final EndpointRules<Bulkhead> rules;
+    private final Bulkhead defaultBulkhead;
+
+    private EndpointBulkheads(final Builder b) {
+        this.rules = b.rules.copy();
+        this.defaultBulkhead = b.defaultBulkhead;
+    }
+
+    /**
+     * Get the bulkhead that applies to a request.
+     *
+     * @param request request about to be sent
+     * @return matching bulkhead, or null when the request is not limited
+     */
+    public Bulkhead bulkheadFor(final Request request) {
+        return rules.match(request, defaultBulkhead);
+    }
+
+    public static class Builder {
+        private final EndpointRules<Bulkhead> rules = new EndpointRules<>();
+        private Bulkhead defaultBulkhead;
+
+        /**
+         * Isolate requests with the given method whose path starts with the given prefix.
+         *
+         * @param method     HTTP method, or null for any method
+         * @param pathPrefix path prefix, such as {@code /rest/authentix/}
+         * @param bulkhead   bulkhead to go through
+         * @return this builder
+         */
+        public Builder bulkhead(final HttpMethod method, final String pathPrefix, final Bulkhead bulkhead) {
+            rules.add(method, pathPrefix, bulkhead);
+            return this;
+        }
+
+        /**
+         * Isolate requests whose path starts with the given prefix, whatever their method.
+         *
+         * @param pathPrefix path prefix
+         * @param bulkhead   bulkhead to go through
+         * @return this builder
+         */
+        public Builder bulkhead(final String pathPrefix, final Bulkhead bulkhead) {
+            return bulkhead(null, pathPrefix, bulkhead);
+        }
+
+        /**
+         * Bulkhead for requests matching no rule.
+         *
+         * @param defaultBulkhead bulkhead, or null to leave them unlimited
+         * @return this builder
+         */
+        public Builder defaultBulkhead(final Bulkhead defaultBulkhead) {
+            this.defaultBulkhead = defaultBulkhead;
+            return this;
+        }
+
+        /**
+         * Build new EndpointBulkheads.
+         *
+         * @return EndpointBulkheads instance
+         */
+        public EndpointBulkheads build() {
+            return new EndpointBulkheads(this);
+        }
+    }
+}
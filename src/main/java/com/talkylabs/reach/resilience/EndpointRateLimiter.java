@@ -0,0 +1,110 @@
+package com.talkylabs.reach.resilience;
+
+import com.talkylabs.reach.http.HttpMethod;
+import com.talkylabs.reach.http.Request;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Routes each request to the rate limiter of the first matching endpoint rule.
+ *
+ * <p>
+ * Rules match on HTTP method (or any method) and path prefix, in the order they were added, so
+ * each endpoint family gets its own bucket:
+ * </p>
+ *
+ * <pre>
+ * RateLimiter limiter = new EndpointRateLimiter.Builder()
+ *     .limit(HttpMethod.POST, "/rest/messaging/v1/create", new TokenBucketRateLimiter(50, 10))
+ *     .limit(HttpMethod.POST, "/rest/authentix/v1/", new TokenBucketRateLimiter(5, 5))
+ *     .limit(HttpMethod.GET, "/", new TokenBucketRateLimiter(20, 20))
+ *     .build();
+ * </pre>
+ *
+ * <p>
+ * Requests matching no rule go through the default limiter, or are not throttled if there is none.
+ * </p>
+ */
+public class EndpointRateLimiter implements RateLimiter {
+
+    private final EndpointRules<RateLimiter> rules;
+    private final RateLimiter defaultLimiter;
+
+    private EndpointRateLimiter(final Builder b) {
+        this.rules = b.rules.copy();
+        this.defaultLimiter = b.defaultLimiter;
+    }
+
+    /**
+     * Get the limiter that applies to a request.
+     *
+     * @param request request about to be sent
+     * @return matching limiter, or null when the request is not throttled
+     */
+    public RateLimiter limiterFor(final Request request) {
+        return rules.match(request, defaultLimiter);
+    }
+
+    @Override
+    public void acquire(final Request request) {
+        RateLimiter limiter = limiterFor(request);
+        if (limiter != null) {
+            limiter.acquire(request);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> acquireAsync(final Request request) {
+        RateLimiter limiter = limiterFor(request);
+        return limiter == null ? CompletableFuture.completedFuture(null) : limiter.acquireAsync(request);
+    }
+
+    public static class Builder {
+        private final EndpointRules<RateLimiter> rules = new EndpointRules<>();
+        private RateLimiter defaultLimiter;
+
+        /**
+         * Throttle requests with the given method whose path starts with the given prefix.
+         *
+         * @param method     HTTP method, or null for any method
+         * @param pathPrefix path prefix, such as {@code /rest/messaging/v1/create}
+         * @param limiter    limiter shared by the matching requests
+         * @return this builder
+         */
+        public Builder limit(final HttpMethod method, final String pathPrefix, final RateLimiter limiter) {
+            rules.add(method, pathPrefix, limiter);
+            return this;
+        }
+
+        /**
+         * Throttle requests of any method whose path starts with the given prefix.
+         *
+         * @param pathPrefix path prefix
+         * @param limiter    limiter shared by the matching requests
+         * @return this builder
+         */
+        public Builder limit(final String pathPrefix, final RateLimiter limiter) {
+            return limit(null, pathPrefix, limiter);
+        }
+
+        /**
+         * Throttle requests matching no rule.
+         *
+         * @param defaultLimiter limiter for unmatched requests
+         * @return this builder
+         */
+        public Builder defaultLimit(final RateLimiter defaultLimiter) {
+            this.defaultLimiter = defaultLimiter;
+            return this;
+        }
+
+        /**
+         * Build new EndpointRateLimiter.
+         *
+         * @return EndpointRateLimiter instance
+         */
+        public EndpointRateLimiter build() {
+            return new EndpointRateLimiter(this);
+        }
+    }
+}
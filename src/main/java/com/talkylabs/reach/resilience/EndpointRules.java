@@ -0,0 +1,52 @@
+package com.talkylabs.reach.resilience;
+
+import com.talkylabs.reach.http.HttpMethod;
+import com.talkylabs.reach.http.Request;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ordered method and path prefix rules, first match wins.
+ *
+ * @param <T> value attached to each rule
+ */
+final class EndpointRules<T> {
+
+    private final List<Rule<T>> rules = new ArrayList<>();
+
+    void add(final HttpMethod method, final String pathPrefix, final T value) {
+        if (pathPrefix == null || value == null) {
+            throw new IllegalArgumentException("pathPrefix and value are required");
+        }
+        rules.add(new Rule<>(method, pathPrefix, value));
+    }
+
+    T match(final Request request, final T fallback) {
+        String path = request.getPath();
+        for (final Rule<T> rule : rules) {
+            if ((rule.method == null || rule.method == request.getMethod()) && path.startsWith(rule.pathPrefix)) {
+                return rule.value;
+            }
+        }
+        return fallback;
+    }
+
+    EndpointRules<T> copy() {
+        EndpointRules<T> copy = new EndpointRules<>();
+        copy.rules.addAll(rules);
+        return copy;
+    }
+
+    private static final class Rule<T> {
+        private final HttpMethod method;
+        private final String pathPrefix;
+        private final T value;
+
+        private Rule(final HttpMethod method, final String pathPrefix, final T value) {
+            this.method = method;
+            this.pathPrefix = pathPrefix;
+            this.value = value;
+        }
+    }
+}
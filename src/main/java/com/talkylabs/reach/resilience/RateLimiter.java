@@ -0,0 +1,27 @@
+package com.talkylabs.reach.resilience;
+
+import com.talkylabs.reach.http.Request;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Client-side throttle applied by {@link com.talkylabs.reach.http.HttpClient} before each attempt, retries included.
+ */
+public interface RateLimiter {
+
+    /**
+     * Block until the request may be sent.
+     *
+     * @param request request about to be sent
+     * @throws com.talkylabs.reach.exception.ApiException if interrupted while waiting
+     */
+    void acquire(final Request request);
+
+    /**
+     * Get a future that completes once the request may be sent, without holding a thread meanwhile.
+     *
+     * @param request request about to be sent
+     * @return future completed when a permit is granted
+     */
+    CompletableFuture<Void> acquireAsync(final Request request);
+}
@@ -0,0 +1,122 @@
+package com.talkylabs.reach.resilience;
+
+import com.talkylabs.reach.concurrent.Delays;
+import com.talkylabs.reach.exception.ApiException;
+import com.talkylabs.reach.http.Request;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket refilled at a steady rate, holding at most {@code burst} permits.
+ *
+ * <p>
+ * The bucket is tracked as a single theoretical arrival time updated with compare-and-set, so
+ * acquiring a permit never takes a lock. A caller that finds the bucket empty reserves the next
+ * free slot and waits for it, which spreads bursts out evenly instead of letting them through and
+ * bouncing off the server's limit.
+ * </p>
+ */
+public class TokenBucketRateLimiter implements RateLimiter {
+
+    private final double permitsPerSecond;
+    private final int burst;
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final LongSupplier clock;
+    private final AtomicLong nextFreeNanos;
+
+    /**
+     * Create a token bucket.
+     *
+     * @param permitsPerSecond steady-state rate
+     * @param burst            max number of permits granted back to back after an idle period
+     */
+    public TokenBucketRateLimiter(final double permitsPerSecond, final int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(final double permitsPerSecond, final int burst, final LongSupplier clock) {
+        if (!(permitsPerSecond > 0)) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive");
+        }
+        if (burst <= 0) {
+            throw new IllegalArgumentException("burst must be positive");
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.intervalNanos = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.toleranceNanos = (burst - 1) * intervalNanos;
+        this.clock = clock;
+        this.nextFreeNanos = new AtomicLong(clock.getAsLong() - toleranceNanos);
+    }
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    /**
+     * Take a permit if one is available right now.
+     *
+     * @return whether a permit was taken
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            long now = clock.getAsLong();
+            long current = nextFreeNanos.get();
+            long start = Math.max(current, now - toleranceNanos);
+            if (start > now) {
+                return false;
+            }
+            if (nextFreeNanos.compareAndSet(current, start + intervalNanos)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Reserve the next permit.
+     *
+     * @return nanoseconds to wait before the reserved permit may be used
+     */
+    long reserve() {
+        while (true) {
+            long now = clock.getAsLong();
+            long current = nextFreeNanos.get();
+            long start = Math.max(current, now - toleranceNanos);
+            if (nextFreeNanos.compareAndSet(current, start + intervalNanos)) {
+                return Math.max(0L, start - now);
+            }
+        }
+    }
+
+    @Override
+    public void acquire(final Request request) {
+        long deadline = clock.getAsLong() + reserve();
+        long remaining;
+        while ((remaining = deadline - clock.getAsLong()) > 0) {
+            LockSupport.parkNanos(this, remaining);
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                throw new ApiException("Interrupted while waiting for a rate limit permit");
+            }
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> acquireAsync(final Request request) {
+        return Delays.delay(reserve(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        return "TokenBucketRateLimiter{permitsPerSecond=" + permitsPerSecond + ", burst=" + burst + "}";
+    }
+}
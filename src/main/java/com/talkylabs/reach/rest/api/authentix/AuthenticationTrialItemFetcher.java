@@ -16,6 +16,7 @@
 package com.talkylabs.reach.rest.api.authentix;
 
 import com.talkylabs.reach.base.Fetcher;
+import com.talkylabs.reach.concurrent.Tasks;
 import com.talkylabs.reach.exception.ApiConnectionException;
 import com.talkylabs.reach.exception.ApiException;
 import com.talkylabs.reach.exception.RestException;
@@ -23,8 +24,11 @@ import com.talkylabs.reach.http.HttpMethod;
 import com.talkylabs.reach.http.Request;
 import com.talkylabs.reach.http.Response;
 import com.talkylabs.reach.http.ReachRestClient;
+import com.talkylabs.reach.metrics.ResponseMetrics;
 import com.talkylabs.reach.rest.Domains;
 
+import java.util.concurrent.CompletableFuture;
+
 
 
 
@@ -38,6 +42,15 @@ public class AuthenticationTrialItemFetcher extends Fetcher<AuthenticationTrialI
 
     @Override
     public AuthenticationTrialItem fetch(final ReachRestClient client) {
+        return processResponse(client, client.request(createRequest()));
+    }
+
+    @Override
+    public CompletableFuture<AuthenticationTrialItem> fetchAsync(final ReachRestClient client) {
+        return Tasks.callAsync(() -> client.requestAsync(createRequest()), response -> processResponse(client, response));
+    }
+
+    private Request createRequest() {
         String path = "/rest/authentix/v1/authenticationTrials/{trialId}";
 
         path = path.replace("{"+"trialId"+"}", this.pathTrialId.toString());
@@ -47,8 +60,12 @@ public class AuthenticationTrialItemFetcher extends Fetcher<AuthenticationTrialI
             Domains.API.toString(),
             path
         );
-        Response response = client.request(request);
+        request.setPathTemplate("/rest/authentix/v1/authenticationTrials/{trialId}");
+        request.setOperation("authentix.authenticationTrial.fetch");
+        return request;
+    }
 
+    private AuthenticationTrialItem processResponse(final ReachRestClient client, final Response response) {
         if (response == null) {
         throw new ApiConnectionException("AuthenticationTrialItem fetch failed: Unable to connect to server");
         } else if (!ReachRestClient.SUCCESS.test(response.getStatusCode())) {
@@ -56,9 +73,10 @@ public class AuthenticationTrialItemFetcher extends Fetcher<AuthenticationTrialI
             if (restException == null) {
                 throw new ApiException("Server Error, no content");
             }
+            ResponseMetrics.recordError(client, response, restException);
             throw new ApiException(restException);
         }
 
-        return AuthenticationTrialItem.fromJson(response.getStream(), client.getObjectMapper());
+        return ResponseMetrics.deserialize(client, response, stream -> AuthenticationTrialItem.fromJson(stream, client.getObjectMapper()));
     }
 }
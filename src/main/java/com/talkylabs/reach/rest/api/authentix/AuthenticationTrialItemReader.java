@@ -17,6 +17,7 @@ package com.talkylabs.reach.rest.api.authentix;
 
 import com.talkylabs.reach.base.Reader;
 import com.talkylabs.reach.base.ResourceSet;
+import com.talkylabs.reach.concurrent.Tasks;
 import com.talkylabs.reach.exception.ApiConnectionException;
 import com.talkylabs.reach.exception.ApiException;
 import com.talkylabs.reach.exception.RestException;
@@ -24,8 +25,10 @@ import com.talkylabs.reach.http.HttpMethod;
 import com.talkylabs.reach.http.Request;
 import com.talkylabs.reach.http.Response;
 import com.talkylabs.reach.http.ReachRestClient;
+import com.talkylabs.reach.metrics.ResponseMetrics;
 import com.talkylabs.reach.rest.Domains;
 import com.talkylabs.reach.base.Page;
+import java.util.concurrent.CompletableFuture;
 import java.time.ZonedDateTime;
 
 
@@ -91,7 +94,21 @@ public class AuthenticationTrialItemReader extends Reader<AuthenticationTrialIte
         return new ResourceSet<>(this, client, firstPage(client));
     }
 
+    @Override
+    public CompletableFuture<ResourceSet<AuthenticationTrialItem>> readAsync(final ReachRestClient client) {
+        return firstPageAsync(client).thenApply(page -> new ResourceSet<>(this, client, page));
+    }
+
     public Page<AuthenticationTrialItem> firstPage(final ReachRestClient client) {
+        return pageForRequest(client, createFirstPageRequest());
+    }
+
+    @Override
+    public CompletableFuture<Page<AuthenticationTrialItem>> firstPageAsync(final ReachRestClient client) {
+        return Tasks.callAsync(() -> pageForRequestAsync(client, createFirstPageRequest()));
+    }
+
+    private Request createFirstPageRequest() {
         String path = "/rest/authentix/v1/authenticationTrials";
 
         Request request = new Request(
@@ -101,12 +118,22 @@ public class AuthenticationTrialItemReader extends Reader<AuthenticationTrialIte
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     private Page<AuthenticationTrialItem> pageForRequest(final ReachRestClient client, final Request request) {
-        Response response = client.request(request);
+        request.setPathTemplate("/rest/authentix/v1/authenticationTrials");
+        request.setOperation("authentix.authenticationTrial.read");
+        return processPageResponse(client, request, client.request(request));
+    }
 
+    private CompletableFuture<Page<AuthenticationTrialItem>> pageForRequestAsync(final ReachRestClient client, final Request request) {
+        request.setPathTemplate("/rest/authentix/v1/authenticationTrials");
+        request.setOperation("authentix.authenticationTrial.read");
+        return Tasks.callAsync(() -> client.requestAsync(request), response -> processPageResponse(client, request, response));
+    }
+
+    private Page<AuthenticationTrialItem> processPageResponse(final ReachRestClient client, final Request request, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("AuthenticationTrialItem read failed: Unable to connect to server");
         } else if (!ReachRestClient.SUCCESS.test(response.getStatusCode())) {
@@ -114,16 +141,18 @@ public class AuthenticationTrialItemReader extends Reader<AuthenticationTrialIte
             if (restException == null) {
                 throw new ApiException("Server Error, no content");
             }
+            ResponseMetrics.recordError(client, response, restException);
             throw new ApiException(restException);
         }
 
-        return Page.fromJson(
+        return ResponseMetrics.deserialize(client, response, stream -> Page.fromJson(
             request.getUrlStringWithoutPaginationInfo(),
             "authenticationTrials",
-            response.getContent(),
+            stream,
             AuthenticationTrialItem.class,
-            client.getObjectMapper()
-        );
+            client.getObjectMapper(),
+            isLazyPaging()
+        ));
     }
 
     @Override
@@ -154,6 +183,16 @@ public class AuthenticationTrialItemReader extends Reader<AuthenticationTrialIte
 
         return pageForRequest(client, request);
     }
+
+    @Override
+    public CompletableFuture<Page<AuthenticationTrialItem>> getPageAsync(final String targetUrl, final ReachRestClient client) {
+        Request request = new Request(
+            HttpMethod.GET,
+            targetUrl
+        );
+
+        return pageForRequestAsync(client, request);
+    }
     private void addQueryParams(final Request request) {
         if (dest != null) {
     
@@ -16,6 +16,7 @@
 package com.talkylabs.reach.rest.api.authentix;
 
 import com.talkylabs.reach.base.Fetcher;
+import com.talkylabs.reach.concurrent.Tasks;
 import com.talkylabs.reach.exception.ApiConnectionException;
 import com.talkylabs.reach.exception.ApiException;
 import com.talkylabs.reach.exception.RestException;
@@ -23,8 +24,11 @@ import com.talkylabs.reach.http.HttpMethod;
 import com.talkylabs.reach.http.Request;
 import com.talkylabs.reach.http.Response;
 import com.talkylabs.reach.http.ReachRestClient;
+import com.talkylabs.reach.metrics.ResponseMetrics;
 import com.talkylabs.reach.rest.Domains;
 
+import java.util.concurrent.CompletableFuture;
+
 import java.time.ZonedDateTime;
 
 
@@ -82,6 +86,15 @@ public class AuthenticationTrialStatItemFetcher extends Fetcher<AuthenticationTr
 
     @Override
     public AuthenticationTrialStatItem fetch(final ReachRestClient client) {
+        return processResponse(client, client.request(createRequest()));
+    }
+
+    @Override
+    public CompletableFuture<AuthenticationTrialStatItem> fetchAsync(final ReachRestClient client) {
+        return Tasks.callAsync(() -> client.requestAsync(createRequest()), response -> processResponse(client, response));
+    }
+
+    private Request createRequest() {
         String path = "/rest/authentix/v1/authenticationTrialStats";
 
 
@@ -90,9 +103,13 @@ public class AuthenticationTrialStatItemFetcher extends Fetcher<AuthenticationTr
             Domains.API.toString(),
             path
         );
+        request.setPathTemplate("/rest/authentix/v1/authenticationTrialStats");
+        request.setOperation("authentix.authenticationTrialStat.fetch");
         addQueryParams(request);
-        Response response = client.request(request);
+        return request;
+    }
 
+    private AuthenticationTrialStatItem processResponse(final ReachRestClient client, final Response response) {
         if (response == null) {
         throw new ApiConnectionException("AuthenticationTrialStatItem fetch failed: Unable to connect to server");
         } else if (!ReachRestClient.SUCCESS.test(response.getStatusCode())) {
@@ -100,10 +117,11 @@ public class AuthenticationTrialStatItemFetcher extends Fetcher<AuthenticationTr
             if (restException == null) {
                 throw new ApiException("Server Error, no content");
             }
+            ResponseMetrics.recordError(client, response, restException);
             throw new ApiException(restException);
         }
 
-        return AuthenticationTrialStatItem.fromJson(response.getStream(), client.getObjectMapper());
+        return ResponseMetrics.deserialize(client, response, stream -> AuthenticationTrialStatItem.fromJson(stream, client.getObjectMapper()));
     }
     private void addQueryParams(final Request request) {
         if (dest != null) {
@@ -16,6 +16,7 @@
 package com.talkylabs.reach.rest.api.authentix;
 
 import com.talkylabs.reach.base.Creator;
+import com.talkylabs.reach.concurrent.Tasks;
 import com.talkylabs.reach.exception.ApiConnectionException;
 import com.talkylabs.reach.exception.ApiException;
 import com.talkylabs.reach.exception.RestException;
@@ -23,8 +24,12 @@ import com.talkylabs.reach.http.HttpMethod;
 import com.talkylabs.reach.http.Request;
 import com.talkylabs.reach.http.Response;
 import com.talkylabs.reach.http.ReachRestClient;
+import com.talkylabs.reach.metrics.ResponseMetrics;
+import com.talkylabs.reach.cache.ResourceCaches;
 import com.talkylabs.reach.rest.Domains;
 
+import java.util.concurrent.CompletableFuture;
+
 
 
 
@@ -86,7 +91,16 @@ public class ConfigurationItemCreator extends Creator<ConfigurationItem>{
     }
 
     @Override
-    public ConfigurationItem create(final ReachRestClient client){
+    public ConfigurationItem create(final ReachRestClient client) {
+        return processResponse(client, client.request(createRequest()));
+    }
+
+    @Override
+    public CompletableFuture<ConfigurationItem> createAsync(final ReachRestClient client) {
+        return Tasks.callAsync(() -> client.requestAsync(createRequest()), response -> processResponse(client, response));
+    }
+
+    private Request createRequest() {
         String path = "/rest/authentix/v1/configurations";
 
         path = path.replace("{"+"serviceName"+"}", this.serviceName.toString());
@@ -96,8 +110,13 @@ public class ConfigurationItemCreator extends Creator<ConfigurationItem>{
             Domains.API.toString(),
             path
         );
+        request.setPathTemplate("/rest/authentix/v1/configurations");
+        request.setOperation("authentix.configuration.create");
         addPostParams(request);
-        Response response = client.request(request);
+        return request;
+    }
+
+    private ConfigurationItem processResponse(final ReachRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("ConfigurationItem creation failed: Unable to connect to server");
         } else if (!ReachRestClient.SUCCESS.test(response.getStatusCode())) {
@@ -105,10 +124,12 @@ public class ConfigurationItemCreator extends Creator<ConfigurationItem>{
             if (restException == null) {
                 throw new ApiException("Server Error, no content");
             }
+            ResponseMetrics.recordError(client, response, restException);
             throw new ApiException(restException);
         }
 
-        return ConfigurationItem.fromJson(response.getStream(), client.getObjectMapper());
+        ResourceCaches.invalidate(client, ConfigurationItem.class, null);
+        return ResponseMetrics.deserialize(client, response, stream -> ConfigurationItem.fromJson(stream, client.getObjectMapper()));
     }
     private void addPostParams(final Request request) {
         if (serviceName != null) {
@@ -16,6 +16,7 @@
 package com.talkylabs.reach.rest.api.authentix;
 
 import com.talkylabs.reach.base.Deleter;
+import com.talkylabs.reach.concurrent.Tasks;
 import com.talkylabs.reach.exception.ApiConnectionException;
 import com.talkylabs.reach.exception.ApiException;
 import com.talkylabs.reach.exception.RestException;
@@ -23,8 +24,12 @@ import com.talkylabs.reach.http.HttpMethod;
 import com.talkylabs.reach.http.Request;
 import com.talkylabs.reach.http.Response;
 import com.talkylabs.reach.http.ReachRestClient;
+import com.talkylabs.reach.metrics.ResponseMetrics;
+import com.talkylabs.reach.cache.ResourceCaches;
 import com.talkylabs.reach.rest.Domains;
 
+import java.util.concurrent.CompletableFuture;
+
 
 
 public class ConfigurationItemDeleter extends Deleter<ConfigurationItem> {
@@ -37,6 +42,15 @@ public class ConfigurationItemDeleter extends Deleter<ConfigurationItem> {
 
     @Override
     public boolean delete(final ReachRestClient client) {
+        return processResponse(client, client.request(createRequest()));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> deleteAsync(final ReachRestClient client) {
+        return Tasks.callAsync(() -> client.requestAsync(createRequest()), response -> processResponse(client, response));
+    }
+
+    private Request createRequest() {
         String path = "/rest/authentix/v1/configurations/{configurationId}";
 
         path = path.replace("{"+"configurationId"+"}", this.pathConfigurationId.toString());
@@ -46,8 +60,12 @@ public class ConfigurationItemDeleter extends Deleter<ConfigurationItem> {
             Domains.API.toString(),
             path
         );
-        Response response = client.request(request);
+        request.setPathTemplate("/rest/authentix/v1/configurations/{configurationId}");
+        request.setOperation("authentix.configuration.delete");
+        return request;
+    }
 
+    private boolean processResponse(final ReachRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("ConfigurationItem delete failed: Unable to connect to server");
         } else if (!ReachRestClient.SUCCESS.test(response.getStatusCode())) {
@@ -55,8 +73,10 @@ public class ConfigurationItemDeleter extends Deleter<ConfigurationItem> {
             if (restException == null) {
                 throw new ApiException("Server Error, no content");
             }
+            ResponseMetrics.recordError(client, response, restException);
             throw new ApiException(restException);
         }
+        ResourceCaches.invalidate(client, ConfigurationItem.class, pathConfigurationId);
         return response.getStatusCode() == 204;
     }
 }
@@ -16,6 +16,7 @@
 package com.talkylabs.reach.rest.api.authentix;
 
 import com.talkylabs.reach.base.Fetcher;
+import com.talkylabs.reach.concurrent.Tasks;
 import com.talkylabs.reach.exception.ApiConnectionException;
 import com.talkylabs.reach.exception.ApiException;
 import com.talkylabs.reach.exception.RestException;
@@ -23,8 +24,13 @@ import com.talkylabs.reach.http.HttpMethod;
 import com.talkylabs.reach.http.Request;
 import com.talkylabs.reach.http.Response;
 import com.talkylabs.reach.http.ReachRestClient;
+import com.talkylabs.reach.metrics.ResponseMetrics;
+import com.talkylabs.reach.cache.ResourceCache;
+import com.talkylabs.reach.cache.ResourceCaches;
 import com.talkylabs.reach.rest.Domains;
 
+import java.util.concurrent.CompletableFuture;
+
 
 
 
@@ -38,6 +44,25 @@ public class ConfigurationItemFetcher extends Fetcher<ConfigurationItem> {
 
     @Override
     public ConfigurationItem fetch(final ReachRestClient client) {
+        ResourceCache<String, ConfigurationItem> cache = ResourceCaches.itemCache(client, ConfigurationItem.class);
+        if (cache == null) {
+            return processResponse(client, client.request(createRequest()));
+        }
+        return cache.get(ResourceCaches.key(client, pathConfigurationId),
+            () -> processResponse(client, client.request(createRequest())));
+    }
+
+    @Override
+    public CompletableFuture<ConfigurationItem> fetchAsync(final ReachRestClient client) {
+        ResourceCache<String, ConfigurationItem> cache = ResourceCaches.itemCache(client, ConfigurationItem.class);
+        if (cache == null) {
+            return Tasks.callAsync(() -> client.requestAsync(createRequest()), response -> processResponse(client, response));
+        }
+        return cache.getAsync(ResourceCaches.key(client, pathConfigurationId),
+            () -> Tasks.callAsync(() -> client.requestAsync(createRequest()), response -> processResponse(client, response)));
+    }
+
+    private Request createRequest() {
         String path = "/rest/authentix/v1/configurations/{configurationId}";
 
         path = path.replace("{"+"configurationId"+"}", this.pathConfigurationId.toString());
@@ -47,8 +72,12 @@ public class ConfigurationItemFetcher extends Fetcher<ConfigurationItem> {
             Domains.API.toString(),
             path
         );
-        Response response = client.request(request);
+        request.setPathTemplate("/rest/authentix/v1/configurations/{configurationId}");
+        request.setOperation("authentix.configuration.fetch");
+        return request;
+    }
 
+    private ConfigurationItem processResponse(final ReachRestClient client, final Response response) {
         if (response == null) {
         throw new ApiConnectionException("ConfigurationItem fetch failed: Unable to connect to server");
         } else if (!ReachRestClient.SUCCESS.test(response.getStatusCode())) {
@@ -56,9 +85,10 @@ public class ConfigurationItemFetcher extends Fetcher<ConfigurationItem> {
             if (restException == null) {
                 throw new ApiException("Server Error, no content");
             }
+            ResponseMetrics.recordError(client, response, restException);
             throw new ApiException(restException);
         }
 
-        return ConfigurationItem.fromJson(response.getStream(), client.getObjectMapper());
+        return ResponseMetrics.deserialize(client, response, stream -> ConfigurationItem.fromJson(stream, client.getObjectMapper()));
     }
 }
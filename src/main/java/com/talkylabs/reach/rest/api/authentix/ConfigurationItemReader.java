@@ -17,6 +17,7 @@ package com.talkylabs.reach.rest.api.authentix;
 
 import com.talkylabs.reach.base.Reader;
 import com.talkylabs.reach.base.ResourceSet;
+import com.talkylabs.reach.concurrent.Tasks;
 import com.talkylabs.reach.exception.ApiConnectionException;
 import com.talkylabs.reach.exception.ApiException;
 import com.talkylabs.reach.exception.RestException;
@@ -24,8 +25,12 @@ import com.talkylabs.reach.http.HttpMethod;
 import com.talkylabs.reach.http.Request;
 import com.talkylabs.reach.http.Response;
 import com.talkylabs.reach.http.ReachRestClient;
+import com.talkylabs.reach.metrics.ResponseMetrics;
+import com.talkylabs.reach.cache.ResourceCache;
+import com.talkylabs.reach.cache.ResourceCaches;
 import com.talkylabs.reach.rest.Domains;
 import com.talkylabs.reach.base.Page;
+import java.util.concurrent.CompletableFuture;
 
 
 
@@ -45,7 +50,21 @@ public class ConfigurationItemReader extends Reader<ConfigurationItem> {
         return new ResourceSet<>(this, client, firstPage(client));
     }
 
+    @Override
+    public CompletableFuture<ResourceSet<ConfigurationItem>> readAsync(final ReachRestClient client) {
+        return firstPageAsync(client).thenApply(page -> new ResourceSet<>(this, client, page));
+    }
+
     public Page<ConfigurationItem> firstPage(final ReachRestClient client) {
+        return pageForRequest(client, createFirstPageRequest());
+    }
+
+    @Override
+    public CompletableFuture<Page<ConfigurationItem>> firstPageAsync(final ReachRestClient client) {
+        return Tasks.callAsync(() -> pageForRequestAsync(client, createFirstPageRequest()));
+    }
+
+    private Request createFirstPageRequest() {
         String path = "/rest/authentix/v1/configurations";
 
         Request request = new Request(
@@ -55,12 +74,37 @@ public class ConfigurationItemReader extends Reader<ConfigurationItem> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     private Page<ConfigurationItem> pageForRequest(final ReachRestClient client, final Request request) {
-        Response response = client.request(request);
+        request.setPathTemplate("/rest/authentix/v1/configurations");
+        request.setOperation("authentix.configuration.read");
+        ResourceCache<String, Page<ConfigurationItem>> cache = pageCache(client);
+        if (cache == null) {
+            return processPageResponse(client, request, client.request(request));
+        }
+        return cache.get(ResourceCaches.key(client, request.constructURL().toString()),
+            () -> processPageResponse(client, request, client.request(request)));
+    }
 
+    private CompletableFuture<Page<ConfigurationItem>> pageForRequestAsync(final ReachRestClient client, final Request request) {
+        request.setPathTemplate("/rest/authentix/v1/configurations");
+        request.setOperation("authentix.configuration.read");
+        ResourceCache<String, Page<ConfigurationItem>> cache = pageCache(client);
+        if (cache == null) {
+            return Tasks.callAsync(() -> client.requestAsync(request), response -> processPageResponse(client, request, response));
+        }
+        return Tasks.callAsync(() -> cache.getAsync(ResourceCaches.key(client, request.constructURL().toString()),
+            () -> Tasks.callAsync(() -> client.requestAsync(request), response -> processPageResponse(client, request, response))));
+    }
+
+    private ResourceCache<String, Page<ConfigurationItem>> pageCache(final ReachRestClient client) {
+        // Lazy pages decode their records on a single pass, so they can not be shared
+        return isLazyPaging() ? null : ResourceCaches.pageCache(client, ConfigurationItem.class);
+    }
+
+    private Page<ConfigurationItem> processPageResponse(final ReachRestClient client, final Request request, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("ConfigurationItem read failed: Unable to connect to server");
         } else if (!ReachRestClient.SUCCESS.test(response.getStatusCode())) {
@@ -68,16 +112,18 @@ public class ConfigurationItemReader extends Reader<ConfigurationItem> {
             if (restException == null) {
                 throw new ApiException("Server Error, no content");
             }
+            ResponseMetrics.recordError(client, response, restException);
             throw new ApiException(restException);
         }
 
-        return Page.fromJson(
+        return ResponseMetrics.deserialize(client, response, stream -> Page.fromJson(
             request.getUrlStringWithoutPaginationInfo(),
             "configurations",
-            response.getContent(),
+            stream,
             ConfigurationItem.class,
-            client.getObjectMapper()
-        );
+            client.getObjectMapper(),
+            isLazyPaging()
+        ));
     }
 
     @Override
@@ -108,6 +154,16 @@ public class ConfigurationItemReader extends Reader<ConfigurationItem> {
 
         return pageForRequest(client, request);
     }
+
+    @Override
+    public CompletableFuture<Page<ConfigurationItem>> getPageAsync(final String targetUrl, final ReachRestClient client) {
+        Request request = new Request(
+            HttpMethod.GET,
+            targetUrl
+        );
+
+        return pageForRequestAsync(client, request);
+    }
     private void addQueryParams(final Request request) {
         if (pageSize != null) {
     
@@ -16,6 +16,7 @@
 package com.talkylabs.reach.rest.api.authentix;
 
 import com.talkylabs.reach.base.Updater;
+import com.talkylabs.reach.concurrent.Tasks;
 import com.talkylabs.reach.exception.ApiConnectionException;
 import com.talkylabs.reach.exception.ApiException;
 import com.talkylabs.reach.exception.RestException;
@@ -23,8 +24,12 @@ import com.talkylabs.reach.http.HttpMethod;
 import com.talkylabs.reach.http.Request;
 import com.talkylabs.reach.http.Response;
 import com.talkylabs.reach.http.ReachRestClient;
+import com.talkylabs.reach.metrics.ResponseMetrics;
+import com.talkylabs.reach.cache.ResourceCaches;
 import com.talkylabs.reach.rest.Domains;
 
+import java.util.concurrent.CompletableFuture;
+
 
 
 
@@ -87,7 +92,16 @@ public class ConfigurationItemUpdater extends Updater<ConfigurationItem>{
     }
 
     @Override
-    public ConfigurationItem update(final ReachRestClient client){
+    public ConfigurationItem update(final ReachRestClient client) {
+        return processResponse(client, client.request(createRequest()));
+    }
+
+    @Override
+    public CompletableFuture<ConfigurationItem> updateAsync(final ReachRestClient client) {
+        return Tasks.callAsync(() -> client.requestAsync(createRequest()), response -> processResponse(client, response));
+    }
+
+    private Request createRequest() {
         String path = "/rest/authentix/v1/configurations/{configurationId}";
 
         path = path.replace("{"+"configurationId"+"}", this.pathConfigurationId.toString());
@@ -97,8 +111,13 @@ public class ConfigurationItemUpdater extends Updater<ConfigurationItem>{
             Domains.API.toString(),
             path
         );
+        request.setPathTemplate("/rest/authentix/v1/configurations/{configurationId}");
+        request.setOperation("authentix.configuration.update");
         addPostParams(request);
-        Response response = client.request(request);
+        return request;
+    }
+
+    private ConfigurationItem processResponse(final ReachRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("ConfigurationItem update failed: Unable to connect to server");
         } else if (!ReachRestClient.SUCCESS.test(response.getStatusCode())) {
@@ -106,10 +125,12 @@ public class ConfigurationItemUpdater extends Updater<ConfigurationItem>{
             if (restException == null) {
                 throw new ApiException("Server Error, no content");
             }
+            ResponseMetrics.recordError(client, response, restException);
             throw new ApiException(restException);
         }
 
-        return ConfigurationItem.fromJson(response.getStream(), client.getObjectMapper());
+        ResourceCaches.invalidate(client, ConfigurationItem.class, pathConfigurationId);
+        return ResponseMetrics.deserialize(client, response, stream -> ConfigurationItem.fromJson(stream, client.getObjectMapper()));
     }
     private void addPostParams(final Request request) {
         if (serviceName != null) {
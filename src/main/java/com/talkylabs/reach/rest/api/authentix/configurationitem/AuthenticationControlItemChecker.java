@@ -16,6 +16,7 @@
 package com.talkylabs.reach.rest.api.authentix.configurationitem;
 
 import com.talkylabs.reach.base.Checker;
+import com.talkylabs.reach.concurrent.Tasks;
 import com.talkylabs.reach.exception.ApiConnectionException;
 import com.talkylabs.reach.exception.ApiException;
 import com.talkylabs.reach.exception.RestException;
@@ -23,8 +24,11 @@ import com.talkylabs.reach.http.HttpMethod;
 import com.talkylabs.reach.http.Request;
 import com.talkylabs.reach.http.Response;
 import com.talkylabs.reach.http.ReachRestClient;
+import com.talkylabs.reach.metrics.ResponseMetrics;
 import com.talkylabs.reach.rest.Domains;
 
+import java.util.concurrent.CompletableFuture;
+
 
 
 
@@ -57,7 +61,16 @@ public class AuthenticationControlItemChecker extends Checker<AuthenticationCont
     }
 
     @Override
-    public AuthenticationControlItem check(final ReachRestClient client){
+    public AuthenticationControlItem check(final ReachRestClient client) {
+        return processResponse(client, client.request(createRequest()));
+    }
+
+    @Override
+    public CompletableFuture<AuthenticationControlItem> checkAsync(final ReachRestClient client) {
+        return Tasks.callAsync(() -> client.requestAsync(createRequest()), response -> processResponse(client, response));
+    }
+
+    private Request createRequest() {
         String path = "/rest/authentix/v1/configurations/{configurationId}/authentication-controls";
 
         path = path.replace("{"+"configurationId"+"}", this.pathConfigurationId.toString());
@@ -67,8 +80,13 @@ public class AuthenticationControlItemChecker extends Checker<AuthenticationCont
             Domains.API.toString(),
             path
         );
+        request.setPathTemplate("/rest/authentix/v1/configurations/{configurationId}/authentication-controls");
+        request.setOperation("authentix.control.check");
         addPostParams(request);
-        Response response = client.request(request);
+        return request;
+    }
+
+    private AuthenticationControlItem processResponse(final ReachRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("AuthenticationControlItem send operation failed: Unable to connect to server");
         } else if (!ReachRestClient.SUCCESS.test(response.getStatusCode())) {
@@ -76,10 +94,11 @@ public class AuthenticationControlItemChecker extends Checker<AuthenticationCont
             if (restException == null) {
                 throw new ApiException("Server Error, no content");
             }
+            ResponseMetrics.recordError(client, response, restException);
             throw new ApiException(restException);
         }
 
-        return AuthenticationControlItem.fromJson(response.getStream(), client.getObjectMapper());
+        return ResponseMetrics.deserialize(client, response, stream -> AuthenticationControlItem.fromJson(stream, client.getObjectMapper()));
     }
     private void addPostParams(final Request request) {
         if (dest != null) {
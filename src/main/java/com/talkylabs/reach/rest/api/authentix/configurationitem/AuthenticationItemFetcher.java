@@ -16,6 +16,7 @@
 package com.talkylabs.reach.rest.api.authentix.configurationitem;
 
 import com.talkylabs.reach.base.Fetcher;
+import com.talkylabs.reach.concurrent.Tasks;
 import com.talkylabs.reach.exception.ApiConnectionException;
 import com.talkylabs.reach.exception.ApiException;
 import com.talkylabs.reach.exception.RestException;
@@ -23,8 +24,11 @@ import com.talkylabs.reach.http.HttpMethod;
 import com.talkylabs.reach.http.Request;
 import com.talkylabs.reach.http.Response;
 import com.talkylabs.reach.http.ReachRestClient;
+import com.talkylabs.reach.metrics.ResponseMetrics;
 import com.talkylabs.reach.rest.Domains;
 
+import java.util.concurrent.CompletableFuture;
+
 
 
 
@@ -40,6 +44,15 @@ public class AuthenticationItemFetcher extends Fetcher<AuthenticationItem> {
 
     @Override
     public AuthenticationItem fetch(final ReachRestClient client) {
+        return processResponse(client, client.request(createRequest()));
+    }
+
+    @Override
+    public CompletableFuture<AuthenticationItem> fetchAsync(final ReachRestClient client) {
+        return Tasks.callAsync(() -> client.requestAsync(createRequest()), response -> processResponse(client, response));
+    }
+
+    private Request createRequest() {
         String path = "/rest/authentix/v1/configurations/{configurationId}/authentications/{authenticationId}";
 
         path = path.replace("{"+"configurationId"+"}", this.pathConfigurationId.toString());
@@ -50,8 +63,12 @@ public class AuthenticationItemFetcher extends Fetcher<AuthenticationItem> {
             Domains.API.toString(),
             path
         );
-        Response response = client.request(request);
+        request.setPathTemplate("/rest/authentix/v1/configurations/{configurationId}/authentications/{authenticationId}");
+        request.setOperation("authentix.authentication.fetch");
+        return request;
+    }
 
+    private AuthenticationItem processResponse(final ReachRestClient client, final Response response) {
         if (response == null) {
         throw new ApiConnectionException("AuthenticationItem fetch failed: Unable to connect to server");
         } else if (!ReachRestClient.SUCCESS.test(response.getStatusCode())) {
@@ -59,9 +76,10 @@ public class AuthenticationItemFetcher extends Fetcher<AuthenticationItem> {
             if (restException == null) {
                 throw new ApiException("Server Error, no content");
             }
+            ResponseMetrics.recordError(client, response, restException);
             throw new ApiException(restException);
         }
 
-        return AuthenticationItem.fromJson(response.getStream(), client.getObjectMapper());
+        return ResponseMetrics.deserialize(client, response, stream -> AuthenticationItem.fromJson(stream, client.getObjectMapper()));
     }
 }
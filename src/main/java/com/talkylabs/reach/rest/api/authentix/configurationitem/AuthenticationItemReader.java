@@ -17,6 +17,7 @@ package com.talkylabs.reach.rest.api.authentix.configurationitem;
 
 import com.talkylabs.reach.base.Reader;
 import com.talkylabs.reach.base.ResourceSet;
+import com.talkylabs.reach.concurrent.Tasks;
 import com.talkylabs.reach.exception.ApiConnectionException;
 import com.talkylabs.reach.exception.ApiException;
 import com.talkylabs.reach.exception.RestException;
@@ -24,8 +25,10 @@ import com.talkylabs.reach.http.HttpMethod;
 import com.talkylabs.reach.http.Request;
 import com.talkylabs.reach.http.Response;
 import com.talkylabs.reach.http.ReachRestClient;
+import com.talkylabs.reach.metrics.ResponseMetrics;
 import com.talkylabs.reach.rest.Domains;
 import com.talkylabs.reach.base.Page;
+import java.util.concurrent.CompletableFuture;
 
 
 
@@ -47,7 +50,21 @@ public class AuthenticationItemReader extends Reader<AuthenticationItem> {
         return new ResourceSet<>(this, client, firstPage(client));
     }
 
+    @Override
+    public CompletableFuture<ResourceSet<AuthenticationItem>> readAsync(final ReachRestClient client) {
+        return firstPageAsync(client).thenApply(page -> new ResourceSet<>(this, client, page));
+    }
+
     public Page<AuthenticationItem> firstPage(final ReachRestClient client) {
+        return pageForRequest(client, createFirstPageRequest());
+    }
+
+    @Override
+    public CompletableFuture<Page<AuthenticationItem>> firstPageAsync(final ReachRestClient client) {
+        return Tasks.callAsync(() -> pageForRequestAsync(client, createFirstPageRequest()));
+    }
+
+    private Request createFirstPageRequest() {
         String path = "/rest/authentix/v1/configurations/{configurationId}/authentications";
         path = path.replace("{"+"configurationId"+"}", this.pathConfigurationId.toString());
 
@@ -58,12 +75,22 @@ public class AuthenticationItemReader extends Reader<AuthenticationItem> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     private Page<AuthenticationItem> pageForRequest(final ReachRestClient client, final Request request) {
-        Response response = client.request(request);
+        request.setPathTemplate("/rest/authentix/v1/configurations/{configurationId}/authentications");
+        request.setOperation("authentix.authentication.read");
+        return processPageResponse(client, request, client.request(request));
+    }
 
+    private CompletableFuture<Page<AuthenticationItem>> pageForRequestAsync(final ReachRestClient client, final Request request) {
+        request.setPathTemplate("/rest/authentix/v1/configurations/{configurationId}/authentications");
+        request.setOperation("authentix.authentication.read");
+        return Tasks.callAsync(() -> client.requestAsync(request), response -> processPageResponse(client, request, response));
+    }
+
+    private Page<AuthenticationItem> processPageResponse(final ReachRestClient client, final Request request, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("AuthenticationItem read failed: Unable to connect to server");
         } else if (!ReachRestClient.SUCCESS.test(response.getStatusCode())) {
@@ -71,16 +98,18 @@ public class AuthenticationItemReader extends Reader<AuthenticationItem> {
             if (restException == null) {
                 throw new ApiException("Server Error, no content");
             }
+            ResponseMetrics.recordError(client, response, restException);
             throw new ApiException(restException);
         }
 
-        return Page.fromJson(
+        return ResponseMetrics.deserialize(client, response, stream -> Page.fromJson(
             request.getUrlStringWithoutPaginationInfo(),
             "authentications",
-            response.getContent(),
+            stream,
             AuthenticationItem.class,
-            client.getObjectMapper()
-        );
+            client.getObjectMapper(),
+            isLazyPaging()
+        ));
     }
 
     @Override
@@ -111,6 +140,16 @@ public class AuthenticationItemReader extends Reader<AuthenticationItem> {
 
         return pageForRequest(client, request);
     }
+
+    @Override
+    public CompletableFuture<Page<AuthenticationItem>> getPageAsync(final String targetUrl, final ReachRestClient client) {
+        Request request = new Request(
+            HttpMethod.GET,
+            targetUrl
+        );
+
+        return pageForRequestAsync(client, request);
+    }
     private void addQueryParams(final Request request) {
         if (pageSize != null) {
     
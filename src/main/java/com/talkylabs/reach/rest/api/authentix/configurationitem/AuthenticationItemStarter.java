@@ -16,6 +16,7 @@
 package com.talkylabs.reach.rest.api.authentix.configurationitem;
 
 import com.talkylabs.reach.base.Starter;
+import com.talkylabs.reach.concurrent.Tasks;
 import com.talkylabs.reach.exception.ApiConnectionException;
 import com.talkylabs.reach.exception.ApiException;
 import com.talkylabs.reach.exception.RestException;
@@ -23,8 +24,11 @@ import com.talkylabs.reach.http.HttpMethod;
 import com.talkylabs.reach.http.Request;
 import com.talkylabs.reach.http.Response;
 import com.talkylabs.reach.http.ReachRestClient;
+import com.talkylabs.reach.metrics.ResponseMetrics;
 import com.talkylabs.reach.rest.Domains;
 
+import java.util.concurrent.CompletableFuture;
+
 
 
 
@@ -74,7 +78,16 @@ public class AuthenticationItemStarter extends Starter<AuthenticationItem>{
     }
 
     @Override
-    public AuthenticationItem start(final ReachRestClient client){
+    public AuthenticationItem start(final ReachRestClient client) {
+        return processResponse(client, client.request(createRequest()));
+    }
+
+    @Override
+    public CompletableFuture<AuthenticationItem> startAsync(final ReachRestClient client) {
+        return Tasks.callAsync(() -> client.requestAsync(createRequest()), response -> processResponse(client, response));
+    }
+
+    private Request createRequest() {
         String path = "/rest/authentix/v1/configurations/{configurationId}/authentications";
 
         path = path.replace("{"+"configurationId"+"}", this.pathConfigurationId.toString());
@@ -86,8 +99,13 @@ public class AuthenticationItemStarter extends Starter<AuthenticationItem>{
             Domains.API.toString(),
             path
         );
+        request.setPathTemplate("/rest/authentix/v1/configurations/{configurationId}/authentications");
+        request.setOperation("authentix.authentication.start");
         addPostParams(request);
-        Response response = client.request(request);
+        return request;
+    }
+
+    private AuthenticationItem processResponse(final ReachRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("AuthenticationItem start operation failed: Unable to connect to server");
         } else if (!ReachRestClient.SUCCESS.test(response.getStatusCode())) {
@@ -95,10 +113,11 @@ public class AuthenticationItemStarter extends Starter<AuthenticationItem>{
             if (restException == null) {
                 throw new ApiException("Server Error, no content");
             }
+            ResponseMetrics.recordError(client, response, restException);
             throw new ApiException(restException);
         }
 
-        return AuthenticationItem.fromJson(response.getStream(), client.getObjectMapper());
+        return ResponseMetrics.deserialize(client, response, stream -> AuthenticationItem.fromJson(stream, client.getObjectMapper()));
     }
     private void addPostParams(final Request request) {
         if (dest != null) {
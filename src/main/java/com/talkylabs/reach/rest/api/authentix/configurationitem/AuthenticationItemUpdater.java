@@ -16,6 +16,7 @@
 package com.talkylabs.reach.rest.api.authentix.configurationitem;
 
 import com.talkylabs.reach.base.Updater;
+import com.talkylabs.reach.concurrent.Tasks;
 import com.talkylabs.reach.exception.ApiConnectionException;
 import com.talkylabs.reach.exception.ApiException;
 import com.talkylabs.reach.exception.RestException;
@@ -23,8 +24,11 @@ import com.talkylabs.reach.http.HttpMethod;
 import com.talkylabs.reach.http.Request;
 import com.talkylabs.reach.http.Response;
 import com.talkylabs.reach.http.ReachRestClient;
+import com.talkylabs.reach.metrics.ResponseMetrics;
 import com.talkylabs.reach.rest.Domains;
 
+import java.util.concurrent.CompletableFuture;
+
 
 
 
@@ -45,7 +49,16 @@ public class AuthenticationItemUpdater extends Updater<AuthenticationItem>{
     }
 
     @Override
-    public AuthenticationItem update(final ReachRestClient client){
+    public AuthenticationItem update(final ReachRestClient client) {
+        return processResponse(client, client.request(createRequest()));
+    }
+
+    @Override
+    public CompletableFuture<AuthenticationItem> updateAsync(final ReachRestClient client) {
+        return Tasks.callAsync(() -> client.requestAsync(createRequest()), response -> processResponse(client, response));
+    }
+
+    private Request createRequest() {
         String path = "/rest/authentix/v1/configurations/{configurationId}/authentications/{authenticationId}";
 
         path = path.replace("{"+"configurationId"+"}", this.pathConfigurationId.toString());
@@ -57,8 +70,13 @@ public class AuthenticationItemUpdater extends Updater<AuthenticationItem>{
             Domains.API.toString(),
             path
         );
+        request.setPathTemplate("/rest/authentix/v1/configurations/{configurationId}/authentications/{authenticationId}");
+        request.setOperation("authentix.authentication.update");
         addPostParams(request);
-        Response response = client.request(request);
+        return request;
+    }
+
+    private AuthenticationItem processResponse(final ReachRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("AuthenticationItem update failed: Unable to connect to server");
         } else if (!ReachRestClient.SUCCESS.test(response.getStatusCode())) {
@@ -66,10 +84,11 @@ public class AuthenticationItemUpdater extends Updater<AuthenticationItem>{
             if (restException == null) {
                 throw new ApiException("Server Error, no content");
             }
+            ResponseMetrics.recordError(client, response, restException);
             throw new ApiException(restException);
         }
 
-        return AuthenticationItem.fromJson(response.getStream(), client.getObjectMapper());
+        return ResponseMetrics.deserialize(client, response, stream -> AuthenticationItem.fromJson(stream, client.getObjectMapper()));
     }
     private void addPostParams(final Request request) {
         if (status != null) {
@@ -60,6 +60,10 @@ public class MessagingItem extends Resource {
         return new MessagingItemSender(dest, src, body);
     }
 
+    public static MessagingItemBatchSender batchSender(){
+        return new MessagingItemBatchSender();
+    }
+
     public static MessagingItemUnscheduler unscheduler(final String messageId){
         return new MessagingItemUnscheduler(messageId);
     }
@@ -0,0 +1,125 @@
+package com.talkylabs.reach.rest.api.messaging;
+
+import com.talkylabs.reach.base.BatchSender;
+import com.talkylabs.reach.base.Sender;
+import com.talkylabs.reach.converter.Promoter;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Sends many messages with bounded concurrency, tagging them all with one bulk identifier.
+ *
+ * <p>
+ * If no bulk identifier is set, a random one is generated on creation so the whole batch can later be
+ * listed with {@link MessagingItemReader#setBulkIdentifier(String)}.
+ * </p>
+ */
+public class MessagingItemBatchSender extends BatchSender<MessagingItemBatchSender.Message, MessagingItem> {
+    private String bulkIdentifier = UUID.randomUUID().toString();
+    private ZonedDateTime scheduledTime;
+    private URI statusCallback;
+    private BigDecimal maxPrice;
+    private Integer validityPeriod;
+
+    public MessagingItemBatchSender() {
+    }
+
+    @Override
+    public MessagingItemBatchSender maxConcurrency(final int maxConcurrency) {
+        super.maxConcurrency(maxConcurrency);
+        return this;
+    }
+
+    @Override
+    public MessagingItemBatchSender add(final Message message) {
+        super.add(message);
+        return this;
+    }
+
+    @Override
+    public MessagingItemBatchSender addAll(final Collection<? extends Message> messages) {
+        super.addAll(messages);
+        return this;
+    }
+
+    public MessagingItemBatchSender add(final String dest, final String src, final String body) {
+        add(new Message(dest, src, body));
+        return this;
+    }
+
+    public MessagingItemBatchSender setBulkIdentifier(final String bulkIdentifier) {
+        this.bulkIdentifier = Objects.requireNonNull(bulkIdentifier, "bulkIdentifier");
+        return this;
+    }
+    public MessagingItemBatchSender setScheduledTime(final ZonedDateTime scheduledTime) {
+        this.scheduledTime = scheduledTime;
+        return this;
+    }
+    public MessagingItemBatchSender setStatusCallback(final URI statusCallback) {
+        this.statusCallback = statusCallback;
+        return this;
+    }
+
+    public MessagingItemBatchSender setStatusCallback(final String statusCallback) {
+        return setStatusCallback(Promoter.uriFromString(statusCallback));
+    }
+    public MessagingItemBatchSender setMaxPrice(final BigDecimal maxPrice) {
+        this.maxPrice = maxPrice;
+        return this;
+    }
+    public MessagingItemBatchSender setValidityPeriod(final Integer validityPeriod) {
+        this.validityPeriod = validityPeriod;
+        return this;
+    }
+
+    public String getBulkIdentifier() {
+        return bulkIdentifier;
+    }
+
+    @Override
+    protected Sender<MessagingItem> sender(final Message message) {
+        return new MessagingItemSender(message.getDest(), message.getSrc(), message.getBody())
+            .setBulkIdentifier(bulkIdentifier)
+            .setScheduledTime(scheduledTime)
+            .setStatusCallback(statusCallback)
+            .setMaxPrice(maxPrice)
+            .setValidityPeriod(validityPeriod);
+    }
+
+    /**
+     * A single message of the batch.
+     */
+    public static final class Message {
+        private final String dest;
+        private final String src;
+        private final String body;
+
+        public Message(final String dest, final String src, final String body) {
+            this.dest = dest;
+            this.src = src;
+            this.body = body;
+        }
+
+        public String getDest() {
+            return dest;
+        }
+
+        public String getSrc() {
+            return src;
+        }
+
+        public String getBody() {
+            return body;
+        }
+
+        @Override
+        public String toString() {
+            return "Message{dest=" + dest + ", src=" + src + "}";
+        }
+    }
+}
@@ -16,6 +16,7 @@
 package com.talkylabs.reach.rest.api.messaging;
 
 import com.talkylabs.reach.base.Deleter;
+import com.talkylabs.reach.concurrent.Tasks;
 import com.talkylabs.reach.exception.ApiConnectionException;
 import com.talkylabs.reach.exception.ApiException;
 import com.talkylabs.reach.exception.RestException;
@@ -23,8 +24,11 @@ import com.talkylabs.reach.http.HttpMethod;
 import com.talkylabs.reach.http.Request;
 import com.talkylabs.reach.http.Response;
 import com.talkylabs.reach.http.ReachRestClient;
+import com.talkylabs.reach.metrics.ResponseMetrics;
 import com.talkylabs.reach.rest.Domains;
 
+import java.util.concurrent.CompletableFuture;
+
 
 
 public class MessagingItemDeleter extends Deleter<MessagingItem> {
@@ -41,6 +45,15 @@ public class MessagingItemDeleter extends Deleter<MessagingItem> {
 
     @Override
     public boolean delete(final ReachRestClient client) {
+        return processResponse(client, client.request(createRequest()));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> deleteAsync(final ReachRestClient client) {
+        return Tasks.callAsync(() -> client.requestAsync(createRequest()), response -> processResponse(client, response));
+    }
+
+    private Request createRequest() {
         String path = "/rest/messaging/v1/delete";
 
         path = path.replace("{"+"messageId"+"}", this.messageId.toString());
@@ -50,9 +63,13 @@ public class MessagingItemDeleter extends Deleter<MessagingItem> {
             Domains.API.toString(),
             path
         );
+        request.setPathTemplate("/rest/messaging/v1/delete");
+        request.setOperation("messaging.delete");
         addQueryParams(request);
-        Response response = client.request(request);
+        return request;
+    }
 
+    private boolean processResponse(final ReachRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("MessagingItem delete failed: Unable to connect to server");
         } else if (!ReachRestClient.SUCCESS.test(response.getStatusCode())) {
@@ -60,6 +77,7 @@ public class MessagingItemDeleter extends Deleter<MessagingItem> {
             if (restException == null) {
                 throw new ApiException("Server Error, no content");
             }
+            ResponseMetrics.recordError(client, response, restException);
             throw new ApiException(restException);
         }
         return response.getStatusCode() == 204;
@@ -16,6 +16,7 @@
 package com.talkylabs.reach.rest.api.messaging;
 
 import com.talkylabs.reach.base.Fetcher;
+import com.talkylabs.reach.concurrent.Tasks;
 import com.talkylabs.reach.exception.ApiConnectionException;
 import com.talkylabs.reach.exception.ApiException;
 import com.talkylabs.reach.exception.RestException;
@@ -23,8 +24,11 @@ import com.talkylabs.reach.http.HttpMethod;
 import com.talkylabs.reach.http.Request;
 import com.talkylabs.reach.http.Response;
 import com.talkylabs.reach.http.ReachRestClient;
+import com.talkylabs.reach.metrics.ResponseMetrics;
 import com.talkylabs.reach.rest.Domains;
 
+import java.util.concurrent.CompletableFuture;
+
 
 
 
@@ -42,6 +46,15 @@ public class MessagingItemFetcher extends Fetcher<MessagingItem> {
 
     @Override
     public MessagingItem fetch(final ReachRestClient client) {
+        return processResponse(client, client.request(createRequest()));
+    }
+
+    @Override
+    public CompletableFuture<MessagingItem> fetchAsync(final ReachRestClient client) {
+        return Tasks.callAsync(() -> client.requestAsync(createRequest()), response -> processResponse(client, response));
+    }
+
+    private Request createRequest() {
         String path = "/rest/messaging/v1/fetch";
 
         path = path.replace("{"+"messageId"+"}", this.messageId.toString());
@@ -51,9 +64,13 @@ public class MessagingItemFetcher extends Fetcher<MessagingItem> {
             Domains.API.toString(),
             path
         );
+        request.setPathTemplate("/rest/messaging/v1/fetch");
+        request.setOperation("messaging.fetch");
         addQueryParams(request);
-        Response response = client.request(request);
+        return request;
+    }
 
+    private MessagingItem processResponse(final ReachRestClient client, final Response response) {
         if (response == null) {
         throw new ApiConnectionException("MessagingItem fetch failed: Unable to connect to server");
         } else if (!ReachRestClient.SUCCESS.test(response.getStatusCode())) {
@@ -61,10 +78,11 @@ public class MessagingItemFetcher extends Fetcher<MessagingItem> {
             if (restException == null) {
                 throw new ApiException("Server Error, no content");
             }
+            ResponseMetrics.recordError(client, response, restException);
             throw new ApiException(restException);
         }
 
-        return MessagingItem.fromJson(response.getStream(), client.getObjectMapper());
+        return ResponseMetrics.deserialize(client, response, stream -> MessagingItem.fromJson(stream, client.getObjectMapper()));
     }
     private void addQueryParams(final Request request) {
         if (messageId != null) {
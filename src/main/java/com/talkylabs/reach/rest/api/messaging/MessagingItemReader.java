@@ -17,6 +17,7 @@ package com.talkylabs.reach.rest.api.messaging;
 
 import com.talkylabs.reach.base.Reader;
 import com.talkylabs.reach.base.ResourceSet;
+import com.talkylabs.reach.concurrent.Tasks;
 import com.talkylabs.reach.exception.ApiConnectionException;
 import com.talkylabs.reach.exception.ApiException;
 import com.talkylabs.reach.exception.RestException;
@@ -24,8 +25,10 @@ import com.talkylabs.reach.http.HttpMethod;
 import com.talkylabs.reach.http.Request;
 import com.talkylabs.reach.http.Response;
 import com.talkylabs.reach.http.ReachRestClient;
+import com.talkylabs.reach.metrics.ResponseMetrics;
 import com.talkylabs.reach.rest.Domains;
 import com.talkylabs.reach.base.Page;
+import java.util.concurrent.CompletableFuture;
 import java.time.ZonedDateTime;
 
 
@@ -76,7 +79,21 @@ public class MessagingItemReader extends Reader<MessagingItem> {
         return new ResourceSet<>(this, client, firstPage(client));
     }
 
+    @Override
+    public CompletableFuture<ResourceSet<MessagingItem>> readAsync(final ReachRestClient client) {
+        return firstPageAsync(client).thenApply(page -> new ResourceSet<>(this, client, page));
+    }
+
     public Page<MessagingItem> firstPage(final ReachRestClient client) {
+        return pageForRequest(client, createFirstPageRequest());
+    }
+
+    @Override
+    public CompletableFuture<Page<MessagingItem>> firstPageAsync(final ReachRestClient client) {
+        return Tasks.callAsync(() -> pageForRequestAsync(client, createFirstPageRequest()));
+    }
+
+    private Request createFirstPageRequest() {
         String path = "/rest/messaging/v1/list";
 
         Request request = new Request(
@@ -86,12 +103,22 @@ public class MessagingItemReader extends Reader<MessagingItem> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     private Page<MessagingItem> pageForRequest(final ReachRestClient client, final Request request) {
-        Response response = client.request(request);
+        request.setPathTemplate("/rest/messaging/v1/list");
+        request.setOperation("messaging.read");
+        return processPageResponse(client, request, client.request(request));
+    }
 
+    private CompletableFuture<Page<MessagingItem>> pageForRequestAsync(final ReachRestClient client, final Request request) {
+        request.setPathTemplate("/rest/messaging/v1/list");
+        request.setOperation("messaging.read");
+        return Tasks.callAsync(() -> client.requestAsync(request), response -> processPageResponse(client, request, response));
+    }
+
+    private Page<MessagingItem> processPageResponse(final ReachRestClient client, final Request request, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("MessagingItem read failed: Unable to connect to server");
         } else if (!ReachRestClient.SUCCESS.test(response.getStatusCode())) {
@@ -99,16 +126,18 @@ public class MessagingItemReader extends Reader<MessagingItem> {
             if (restException == null) {
                 throw new ApiException("Server Error, no content");
             }
+            ResponseMetrics.recordError(client, response, restException);
             throw new ApiException(restException);
         }
 
-        return Page.fromJson(
+        return ResponseMetrics.deserialize(client, response, stream -> Page.fromJson(
             request.getUrlStringWithoutPaginationInfo(),
             "messages",
-            response.getContent(),
+            stream,
             MessagingItem.class,
-            client.getObjectMapper()
-        );
+            client.getObjectMapper(),
+            isLazyPaging()
+        ));
     }
 
     @Override
@@ -139,6 +168,16 @@ public class MessagingItemReader extends Reader<MessagingItem> {
 
         return pageForRequest(client, request);
     }
+
+    @Override
+    public CompletableFuture<Page<MessagingItem>> getPageAsync(final String targetUrl, final ReachRestClient client) {
+        Request request = new Request(
+            HttpMethod.GET,
+            targetUrl
+        );
+
+        return pageForRequestAsync(client, request);
+    }
     private void addQueryParams(final Request request) {
         if (dest != null) {
     
@@ -16,6 +16,7 @@
 package com.talkylabs.reach.rest.api.messaging;
 
 import com.talkylabs.reach.base.Sender;
+import com.talkylabs.reach.concurrent.Tasks;
 import com.talkylabs.reach.converter.Promoter;
 import com.talkylabs.reach.exception.ApiConnectionException;
 import com.talkylabs.reach.exception.ApiException;
@@ -24,7 +25,9 @@ import com.talkylabs.reach.http.HttpMethod;
 import com.talkylabs.reach.http.Request;
 import com.talkylabs.reach.http.Response;
 import com.talkylabs.reach.http.ReachRestClient;
+import com.talkylabs.reach.metrics.ResponseMetrics;
 import com.talkylabs.reach.rest.Domains;
+import java.util.concurrent.CompletableFuture;
 import java.math.BigDecimal;
 import java.time.ZonedDateTime;
 import java.math.BigDecimal;
@@ -88,7 +91,16 @@ public class MessagingItemSender extends Sender<MessagingItem>{
     }
 
     @Override
-    public MessagingItem send(final ReachRestClient client){
+    public MessagingItem send(final ReachRestClient client) {
+        return processResponse(client, client.request(createRequest()));
+    }
+
+    @Override
+    public CompletableFuture<MessagingItem> sendAsync(final ReachRestClient client) {
+        return Tasks.callAsync(() -> client.requestAsync(createRequest()), response -> processResponse(client, response));
+    }
+
+    private Request createRequest() {
         String path = "/rest/messaging/v1/create";
 
         path = path.replace("{"+"dest"+"}", this.dest.toString());
@@ -100,8 +112,13 @@ public class MessagingItemSender extends Sender<MessagingItem>{
             Domains.API.toString(),
             path
         );
+        request.setPathTemplate("/rest/messaging/v1/create");
+        request.setOperation("messaging.send");
         addPostParams(request);
-        Response response = client.request(request);
+        return request;
+    }
+
+    private MessagingItem processResponse(final ReachRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("MessagingItem send operation failed: Unable to connect to server");
         } else if (!ReachRestClient.SUCCESS.test(response.getStatusCode())) {
@@ -109,10 +126,11 @@ public class MessagingItemSender extends Sender<MessagingItem>{
             if (restException == null) {
                 throw new ApiException("Server Error, no content");
             }
+            ResponseMetrics.recordError(client, response, restException);
             throw new ApiException(restException);
         }
 
-        return MessagingItem.fromJson(response.getStream(), client.getObjectMapper());
+        return ResponseMetrics.deserialize(client, response, stream -> MessagingItem.fromJson(stream, client.getObjectMapper()));
     }
     private void addPostParams(final Request request) {
         if (dest != null) {
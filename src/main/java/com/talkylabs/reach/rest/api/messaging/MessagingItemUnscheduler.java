@@ -16,6 +16,7 @@
 package com.talkylabs.reach.rest.api.messaging;
 
 import com.talkylabs.reach.base.Unscheduler;
+import com.talkylabs.reach.concurrent.Tasks;
 import com.talkylabs.reach.exception.ApiConnectionException;
 import com.talkylabs.reach.exception.ApiException;
 import com.talkylabs.reach.exception.RestException;
@@ -23,8 +24,11 @@ import com.talkylabs.reach.http.HttpMethod;
 import com.talkylabs.reach.http.Request;
 import com.talkylabs.reach.http.Response;
 import com.talkylabs.reach.http.ReachRestClient;
+import com.talkylabs.reach.metrics.ResponseMetrics;
 import com.talkylabs.reach.rest.Domains;
 
+import java.util.concurrent.CompletableFuture;
+
 
 
 
@@ -41,7 +45,16 @@ public class MessagingItemUnscheduler extends Unscheduler<MessagingItem>{
     }
 
     @Override
-    public MessagingItem unschedule(final ReachRestClient client){
+    public MessagingItem unschedule(final ReachRestClient client) {
+        return processResponse(client, client.request(createRequest()));
+    }
+
+    @Override
+    public CompletableFuture<MessagingItem> unscheduleAsync(final ReachRestClient client) {
+        return Tasks.callAsync(() -> client.requestAsync(createRequest()), response -> processResponse(client, response));
+    }
+
+    private Request createRequest() {
         String path = "/rest/messaging/v1/unschedule";
 
         path = path.replace("{"+"messageId"+"}", this.messageId.toString());
@@ -51,8 +64,13 @@ public class MessagingItemUnscheduler extends Unscheduler<MessagingItem>{
             Domains.API.toString(),
             path
         );
+        request.setPathTemplate("/rest/messaging/v1/unschedule");
+        request.setOperation("messaging.unschedule");
         addPostParams(request);
-        Response response = client.request(request);
+        return request;
+    }
+
+    private MessagingItem processResponse(final ReachRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("MessagingItem unschedule failed: Unable to connect to server");
         } else if (!ReachRestClient.SUCCESS.test(response.getStatusCode())) {
@@ -60,10 +78,11 @@ public class MessagingItemUnscheduler extends Unscheduler<MessagingItem>{
             if (restException == null) {
                 throw new ApiException("Server Error, no content");
             }
+            ResponseMetrics.recordError(client, response, restException);
             throw new ApiException(restException);
         }
 
-        return MessagingItem.fromJson(response.getStream(), client.getObjectMapper());
+        return ResponseMetrics.deserialize(client, response, stream -> MessagingItem.fromJson(stream, client.getObjectMapper()));
     }
     private void addPostParams(final Request request) {
         if (messageId != null) {
@@ -16,6 +16,7 @@
 package com.talkylabs.reach.rest.api.messaging;
 
 import com.talkylabs.reach.base.Updater;
+import com.talkylabs.reach.concurrent.Tasks;
 import com.talkylabs.reach.exception.ApiConnectionException;
 import com.talkylabs.reach.exception.ApiException;
 import com.talkylabs.reach.exception.RestException;
@@ -23,8 +24,11 @@ import com.talkylabs.reach.http.HttpMethod;
 import com.talkylabs.reach.http.Request;
 import com.talkylabs.reach.http.Response;
 import com.talkylabs.reach.http.ReachRestClient;
+import com.talkylabs.reach.metrics.ResponseMetrics;
 import com.talkylabs.reach.rest.Domains;
 
+import java.util.concurrent.CompletableFuture;
+
 
 
 
@@ -47,7 +51,16 @@ public class MessagingItemUpdater extends Updater<MessagingItem>{
     }
 
     @Override
-    public MessagingItem update(final ReachRestClient client){
+    public MessagingItem update(final ReachRestClient client) {
+        return processResponse(client, client.request(createRequest()));
+    }
+
+    @Override
+    public CompletableFuture<MessagingItem> updateAsync(final ReachRestClient client) {
+        return Tasks.callAsync(() -> client.requestAsync(createRequest()), response -> processResponse(client, response));
+    }
+
+    private Request createRequest() {
         String path = "/rest/messaging/v1/update";
 
         path = path.replace("{"+"messageId"+"}", this.messageId.toString());
@@ -58,8 +71,13 @@ public class MessagingItemUpdater extends Updater<MessagingItem>{
             Domains.API.toString(),
             path
         );
+        request.setPathTemplate("/rest/messaging/v1/update");
+        request.setOperation("messaging.update");
         addPostParams(request);
-        Response response = client.request(request);
+        return request;
+    }
+
+    private MessagingItem processResponse(final ReachRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("MessagingItem update failed: Unable to connect to server");
         } else if (!ReachRestClient.SUCCESS.test(response.getStatusCode())) {
@@ -67,10 +85,11 @@ public class MessagingItemUpdater extends Updater<MessagingItem>{
             if (restException == null) {
                 throw new ApiException("Server Error, no content");
             }
+            ResponseMetrics.recordError(client, response, restException);
             throw new ApiException(restException);
         }
 
-        return MessagingItem.fromJson(response.getStream(), client.getObjectMapper());
+        return ResponseMetrics.deserialize(client, response, stream -> MessagingItem.fromJson(stream, client.getObjectMapper()));
     }
     private void addPostParams(final Request request) {
         if (messageId != null) {
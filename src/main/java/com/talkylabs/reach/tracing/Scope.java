@@ -0,0 +1,12 @@
+package com.talkylabs.reach.tracing;
+
+/**
+ * Restores the previously current context when closed.
+ */
+public interface Scope extends AutoCloseable {
+
+    Scope NOOP = () -> { };
+
+    @Override
+    void close();
+}
@@ -0,0 +1,68 @@
+package com.talkylabs.reach.tracing;
+
+/**
+ * Span wrapping a single Reach call, retries included.
+ */
+public interface Span extends TraceContext {
+
+    Span NOOP = new Span() {
+        @Override
+        public void setAttribute(final String key, final String value) {
+        }
+
+        @Override
+        public void setAttribute(final String key, final long value) {
+        }
+
+        @Override
+        public void recordException(final Throwable exception) {
+        }
+
+        @Override
+        public void end() {
+        }
+
+        @Override
+        public String getTraceparent() {
+            return null;
+        }
+
+        @Override
+        public Scope makeCurrent() {
+            return Scope.NOOP;
+        }
+    };
+
+    void setAttribute(String key, String value);
+
+    void setAttribute(String key, long value);
+
+    /**
+     * Record the exception that ended the call and mark the span as failed.
+     *
+     * @param exception exception thrown by the call
+     */
+    void recordException(Throwable exception);
+
+    /**
+     * End the span. Called exactly once, after the call completed.
+     */
+    void end();
+
+    /**
+     * Get the W3C {@code traceparent} header value identifying this span, such as
+     * {@code 00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01}.
+     *
+     * @return header value, or null to send no header
+     */
+    String getTraceparent();
+
+    /**
+     * Get the W3C {@code tracestate} header value to send along with {@link #getTraceparent()}.
+     *
+     * @return header value, or null to send no header
+     */
+    default String getTracestate() {
+        return null;
+    }
+}
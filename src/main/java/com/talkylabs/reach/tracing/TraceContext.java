@@ -0,0 +1,16 @@
+package com.talkylabs.reach.tracing;
+
+/**
+ * Trace context captured on one thread, to be made current on another.
+ */
+public interface TraceContext {
+
+    TraceContext NOOP = () -> Scope.NOOP;
+
+    /**
+     * Make this context current on the calling thread until the returned scope is closed.
+     *
+     * @return scope restoring the previous context when closed
+     */
+    Scope makeCurrent();
+}
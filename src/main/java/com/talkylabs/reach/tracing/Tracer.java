@@ -0,0 +1,46 @@
+package com.talkylabs.reach.tracing;
+
+import com.talkylabs.reach.http.Request;
+
+/**
+ * Creates the spans wrapping Reach calls, to be backed by a tracing library such as OpenTelemetry.
+ *
+ * <p>
+ * A span is started for every call made through {@link com.talkylabs.reach.http.ReachRestClient}, as a
+ * child of the caller's current context. Its W3C {@code traceparent} is sent to the server, and the span
+ * is made current while the call runs, including on the Reach executor threads used by async calls.
+ * </p>
+ */
+public interface Tracer {
+
+    /**
+     * Tracer that creates no spans. The SDK skips tracing altogether when it is installed.
+     */
+    Tracer NOOP = new Tracer() {
+        @Override
+        public Span startSpan(final String name, final Request request) {
+            return Span.NOOP;
+        }
+
+        @Override
+        public TraceContext currentContext() {
+            return TraceContext.NOOP;
+        }
+    };
+
+    /**
+     * Start a client span as a child of the current context.
+     *
+     * @param name    span name, the SDK operation such as {@code messaging.send}
+     * @param request request about to be sent
+     * @return started span
+     */
+    Span startSpan(String name, Request request);
+
+    /**
+     * Capture the current context so it can be restored on another thread.
+     *
+     * @return current context
+     */
+    TraceContext currentContext();
+}
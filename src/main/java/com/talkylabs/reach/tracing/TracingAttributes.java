@@ -0,0 +1,22 @@
+package com.talkylabs.reach.tracing;
+
+/**
+ * Attributes and headers set on the spans of Reach calls, following the OpenTelemetry HTTP conventions
+ * where one exists.
+ */
+public final class TracingAttributes {
+
+    public static final String OPERATION = "reach.operation";
+    public static final String ATTEMPTS = "reach.attempts";
+    public static final String HTTP_REQUEST_METHOD = "http.request.method";
+    public static final String HTTP_RESPONSE_STATUS_CODE = "http.response.status_code";
+    public static final String SERVER_ADDRESS = "server.address";
+    public static final String URL_TEMPLATE = "url.template";
+    public static final String ERROR_TYPE = "error.type";
+
+    public static final String TRACEPARENT_HEADER = "traceparent";
+    public static final String TRACESTATE_HEADER = "tracestate";
+
+    private TracingAttributes() {
+    }
+}
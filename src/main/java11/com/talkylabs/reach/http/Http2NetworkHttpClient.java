@@ -0,0 +1,189 @@
+package com.talkylabs.reach.http;
+
+import com.talkylabs.reach.Reach;
+import com.talkylabs.reach.exception.ApiException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
+import org.apache.http.message.BasicHeader;
+
+/**
+ * HTTP client built on {@link java.net.http.HttpClient}, available on Java 11 and later.
+ *
+ * <p>
+ * Requests prefer HTTP/2, so many concurrent calls are multiplexed over a few connections instead of
+ * each holding a pooled socket. Servers that only speak HTTP/1.1 are still supported. Async calls
+ * complete their futures from the JDK client's own executor, without blocking a thread per call.
+ * </p>
+ */
+public class Http2NetworkHttpClient extends HttpClient {
+
+    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofMillis(CONNECTION_TIMEOUT);
+    private static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofMillis(SOCKET_TIMEOUT);
+
+    protected final java.net.http.HttpClient client;
+
+    private final Duration requestTimeout;
+    private final boolean isCustomClient;
+
+    /**
+     * Create a new HTTP/2 Client.
+     */
+    public Http2NetworkHttpClient() {
+        this(DEFAULT_CONNECT_TIMEOUT, DEFAULT_REQUEST_TIMEOUT);
+    }
+
+    /**
+     * Create a new HTTP/2 Client with custom timeouts.
+     *
+     * @param connectTimeout time allowed to open a connection
+     * @param requestTimeout time allowed for each request, until the response headers are received
+     */
+    public Http2NetworkHttpClient(final Duration connectTimeout, final Duration requestTimeout) {
+        this.client = java.net.http.HttpClient.newBuilder()
+            .version(java.net.http.HttpClient.Version.HTTP_2)
+            .connectTimeout(connectTimeout)
+            .followRedirects(java.net.http.HttpClient.Redirect.NEVER)
+            .build();
+        this.requestTimeout = requestTimeout;
+        this.isCustomClient = false;
+    }
+
+    /**
+     * Create a new HTTP/2 Client using a custom JDK client.
+     *
+     * @param client         a java.net.http.HttpClient.
+     * @param requestTimeout time allowed for each request, or null for no limit
+     */
+    public Http2NetworkHttpClient(final java.net.http.HttpClient client, final Duration requestTimeout) {
+        this.client = client;
+        this.requestTimeout = requestTimeout;
+        this.isCustomClient = true;
+    }
+
+    /**
+     * Make a request, blocking until the response is received.
+     *
+     * @param request request to make
+     * @return Response of the HTTP request
+     */
+    @Override
+    public Response makeRequest(final Request request) {
+        try {
+            return toResponse(client.send(buildHttpRequest(request), HttpResponse.BodyHandlers.ofByteArray()));
+        } catch (final IOException e) {
+            throw new ApiException(e.getMessage(), e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException("Interrupted while waiting for a response", e);
+        }
+    }
+
+    /**
+     * Make an async request.
+     *
+     * @param request request to make
+     * @return future completed by the JDK client with the Response of the HTTP request
+     */
+    @Override
+    public CompletableFuture<Response> makeRequestAsync(final Request request) {
+        final HttpRequest httpRequest;
+        try {
+            httpRequest = buildHttpRequest(request);
+        } catch (final RuntimeException e) {
+            CompletableFuture<Response> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+
+        return client.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofByteArray())
+            .handle((response, error) -> {
+                if (error == null) {
+                    return toResponse(response);
+                }
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause()
+                    : error;
+                throw new CompletionException(new ApiException(cause.getMessage(), cause));
+            });
+    }
+
+    private HttpRequest buildHttpRequest(final Request request) {
+        HttpMethod method = request.getMethod();
+        HttpRequest.Builder builder;
+        try {
+            builder = HttpRequest.newBuilder(request.constructURL().toURI());
+        } catch (final URISyntaxException e) {
+            throw new ApiException("Bad URI: " + e.getMessage());
+        }
+
+        if (requestTimeout != null) {
+            builder.timeout(requestTimeout);
+        }
+
+        builder.header("X-Reach-Client", "java-" + Reach.VERSION)
+            .header(HttpHeaders.ACCEPT, "application/json")
+            .header(HttpHeaders.ACCEPT_ENCODING, ContentEncoding.ACCEPT_ENCODING)
+            .header(HttpHeaders.USER_AGENT,
+                HttpUtility.getUserAgentString(request.getUserAgentExtensions(), isCustomClient));
+
+        if (request.requiresAuthentication()) {
+            builder.header(HttpUtility.API_USER_HEADER, request.getUsername());
+            builder.header(HttpUtility.API_KEY_HEADER, request.getPassword());
+        }
+
+        for (Map.Entry<String, List<String>> entry : request.getHeaderParams().entrySet()) {
+            for (String value : entry.getValue()) {
+                builder.header(entry.getKey(), value);
+            }
+        }
+
+        if (method == HttpMethod.POST) {
+            builder.header(HttpHeaders.CONTENT_TYPE, "application/x-www-form-urlencoded");
+            builder.POST(HttpRequest.BodyPublishers.ofByteArray(FormEncoder.encode(request.getPostParams())));
+        } else {
+            builder.method(method.toString(), HttpRequest.BodyPublishers.noBody());
+        }
+
+        return builder.build();
+    }
+
+    private static Response toResponse(final HttpResponse<byte[]> response) {
+        String encoding = response.headers().firstValue(HttpHeaders.CONTENT_ENCODING).orElse(null);
+        boolean decoded = ContentEncoding.isDecoded(encoding);
+
+        List<Header> headers = new ArrayList<>();
+        response.headers().map().forEach((name, values) -> {
+            for (String value : values) {
+                Header header = new BasicHeader(name, value);
+                if (!decoded || !ContentEncoding.isEncodingHeader(header)) {
+                    headers.add(header);
+                }
+            }
+        });
+
+        byte[] body = response.body();
+        if (decoded && body != null) {
+            try (InputStream stream = ContentEncoding.decode(new ByteArrayInputStream(body), encoding)) {
+                body = BodyReader.read(stream);
+            } catch (final IOException e) {
+                throw new ApiException("Couldn't decode " + encoding + " response: " + e.getMessage(), e);
+            }
+        }
+        return new Response(body, response.statusCode(), headers.toArray(new Header[0]));
+    }
+}
@@ -12,6 +12,8 @@ import java.util.concurrent.Executors;
 
 import org.mockito.MockitoAnnotations;
 
+import com.talkylabs.reach.concurrent.ExecutorConfig;
+import com.talkylabs.reach.concurrent.ReachExecutorService;
 import com.talkylabs.reach.exception.ApiException;
 import com.talkylabs.reach.exception.AuthenticationException;
 import com.talkylabs.reach.http.HttpMethod;
@@ -42,7 +44,7 @@ public class ReachTest {
 
     @BeforeEach
     public void init() {
-        MockitoAnnotations.initMocks(this);
+        MockitoAnnotations.openMocks(this);
     }
 
     @Test
@@ -128,5 +130,30 @@ public class ReachTest {
         Assertions.assertEquals(reachRestClient, Reach.getRestClient());
     }
 
-    
+    @Test
+    public void testSetExecutorConfig() {
+        ExecutorConfig config = new ExecutorConfig.Builder().corePoolSize(2).maxPoolSize(4).queueCapacity(10).build();
+        Reach.setExecutorConfig(config);
+
+        ReachExecutorService executorService = (ReachExecutorService) Reach.getExecutorService();
+        Assertions.assertEquals(4, executorService.getMaximumPoolSize());
+        Assertions.assertEquals(config, Reach.getExecutorConfig());
+
+        Reach.destroy();
+        Assertions.assertTrue(executorService.isShutdown());
+        Reach.setExecutorConfig(new ExecutorConfig.Builder().build());
+    }
+
+    @Test
+    public void testSetExecutorConfigOnlyShutsDownOwnExecutor() {
+        ExecutorService custom = Executors.newCachedThreadPool();
+        Reach.setExecutorService(custom);
+        Reach.setExecutorConfig(new ExecutorConfig.Builder().build());
+        Assertions.assertFalse(custom.isShutdown());
+        custom.shutdownNow();
+
+        ExecutorService created = Reach.getExecutorService();
+        Reach.setExecutorConfig(new ExecutorConfig.Builder().build());
+        Assertions.assertTrue(created.isShutdown());
+    }
 }
@@ -0,0 +1,169 @@
+package com.talkylabs.reach.base;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talkylabs.reach.exception.ApiException;
+import com.talkylabs.reach.http.ReachRestClient;
+import com.talkylabs.reach.http.Request;
+import com.talkylabs.reach.http.Response;
+import com.talkylabs.reach.rest.api.messaging.MessagingItem;
+import com.talkylabs.reach.rest.api.messaging.MessagingItemBatchSender;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+public class BatchSenderTest {
+
+    @Mock
+    ReachRestClient client;
+
+    private final List<Request> requests = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    public void init() {
+        MockitoAnnotations.openMocks(this);
+        when(client.getObjectMapper()).thenReturn(new ObjectMapper());
+        when(client.requestAsync(any(Request.class))).thenAnswer(invocation -> {
+            Request request = invocation.getArgument(0);
+            requests.add(request);
+            String dest = request.getPostParams().get("dest").get(0);
+            if (dest.startsWith("bad")) {
+                return CompletableFuture.completedFuture(new Response("", 400));
+            }
+            return CompletableFuture.completedFuture(new Response("{\"messageId\":\"id-" + dest + "\"}", 200));
+        });
+    }
+
+    @Test
+    public void testMessagingBatch() {
+        MessagingItemBatchSender sender = MessagingItem.batchSender()
+            .add("+1000", "src", "hello")
+            .add("bad-1", "src", "hello")
+            .add("+1002", "src", "hello");
+
+        BatchResult<MessagingItemBatchSender.Message, MessagingItem> result = sender.send(client);
+
+        Assertions.assertEquals(3, result.getCount());
+        Assertions.assertEquals(2, result.getSuccessCount());
+        Assertions.assertEquals(1, result.getFailureCount());
+        Assertions.assertEquals("id-+1000", result.getResults().get(0).getMessageId());
+        Assertions.assertEquals("id-+1002", result.getResults().get(1).getMessageId());
+
+        BatchResult.Outcome<MessagingItemBatchSender.Message, MessagingItem> failure = result.getFailures().get(0);
+        Assertions.assertEquals("bad-1", failure.getItem().getDest());
+        Assertions.assertTrue(failure.getFailure() instanceof ApiException);
+
+        Assertions.assertNotNull(sender.getBulkIdentifier());
+        for (Request request : requests) {
+            Assertions.assertEquals(
+                Collections.singletonList(sender.getBulkIdentifier()),
+                request.getPostParams().get("bulkIdentifier")
+            );
+        }
+    }
+
+    @Test
+    public void testSendDrainsTheQueue() {
+        MessagingItemBatchSender sender = MessagingItem.batchSender()
+            .maxConcurrency(2)
+            .add("+1000", "src", "hello")
+            .add("+1001", "src", "hello");
+
+        Assertions.assertEquals(2, sender.send(client).getCount());
+        Assertions.assertTrue(sender.getItems().isEmpty());
+
+        Assertions.assertEquals(0, sender.send(client).getCount());
+        Assertions.assertEquals(2, requests.size());
+    }
+
+    @Test
+    public void testResultToStringIgnoresDefaultLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.GERMANY);
+        try {
+            String summary = MessagingItem.batchSender().add("+1000", "src", "hello").send(client).toString();
+            Assertions.assertTrue(summary.matches(".*throughput=\\d+\\.\\d/s, p50=\\d+\\.\\dms, p99=\\d+\\.\\dms}"), summary);
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void testMessagingBatchFromStream() {
+        MessagingItemBatchSender sender = MessagingItem.batchSender().setBulkIdentifier("campaign-1");
+
+        BatchResult<MessagingItemBatchSender.Message, MessagingItem> result = sender.send(
+            IntStream.range(0, 50).mapToObj(i -> new MessagingItemBatchSender.Message("+" + i, "src", "hi")),
+            client
+        );
+
+        Assertions.assertEquals(50, result.getSuccessCount());
+        Assertions.assertEquals("id-+49", result.getOutcomes().get(49).getResult().getMessageId());
+        Assertions.assertEquals("campaign-1", requests.get(0).getPostParams().get("bulkIdentifier").get(0));
+        Assertions.assertTrue(result.getLatencyPercentileMillis(99) >= result.getLatencyPercentileMillis(50));
+        Assertions.assertTrue(result.getMaxLatencyMillis() >= result.getAverageLatencyMillis());
+    }
+
+    @Test
+    public void testConcurrencyIsBounded() {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        BatchSender<Integer, MessagingItem> sender = new BatchSender<Integer, MessagingItem>() {
+            @Override
+            protected Sender<MessagingItem> sender(final Integer item) {
+                return new Sender<MessagingItem>() {
+                    @Override
+                    public MessagingItem send(final ReachRestClient client) {
+                        throw new UnsupportedOperationException();
+                    }
+
+                    @Override
+                    public CompletableFuture<MessagingItem> sendAsync(final ReachRestClient client) {
+                        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                        return CompletableFuture.supplyAsync(() -> {
+                            try {
+                                Thread.sleep(2);
+                            } catch (final InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                            inFlight.decrementAndGet();
+                            if (item % 10 == 0) {
+                                throw new ApiException("failed " + item);
+                            }
+                            return null;
+                        }, executor);
+                    }
+                };
+            }
+        };
+
+        try {
+            BatchResult<Integer, MessagingItem> result = sender.maxConcurrency(3)
+                .send(IntStream.range(0, 40).boxed(), client);
+
+            Assertions.assertEquals(40, result.getCount());
+            Assertions.assertEquals(4, result.getFailureCount());
+            Assertions.assertTrue(result.getFailures().get(0).getFailure() instanceof ApiException);
+            Assertions.assertTrue(maxInFlight.get() <= 3);
+            Assertions.assertTrue(result.getThroughput() > 0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.talkylabs.reach.base;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talkylabs.reach.exception.ApiConnectionException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+
+public class PageTest {
+
+    private static final String URL = "https://api.reach.talkylabs.com/rest/messaging/v1/list";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private static InputStream stream(final String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @SuppressWarnings("rawtypes")
+    public void testFromJsonStream() {
+        String json = "{\"page\":2,\"pageSize\":2,\"totalPages\":5,\"outOfPageRange\":false,"
+            + "\"messages\":[{\"id\":\"a\"},{\"id\":\"b\",\"nested\":{\"x\":[1,2]}}]}";
+
+        Page<Map> page = Page.fromJson(URL, "messages", stream(json), Map.class, mapper);
+
+        Assertions.assertEquals(2, page.getRecords().size());
+        Assertions.assertEquals("a", page.getRecords().get(0).get("id"));
+        Assertions.assertEquals("b", page.getRecords().get(1).get("id"));
+        Assertions.assertEquals(2, page.getPageSize());
+        Assertions.assertEquals(5, page.getTotalPages());
+        Assertions.assertEquals(URL + "?pageSize=2&page=2", page.getUrl());
+        Assertions.assertTrue(page.hasNextPage());
+    }
+
+    @Test
+    @SuppressWarnings("rawtypes")
+    public void testFromJsonMetadataAfterRecordsAndUnknownFields() {
+        String json = "{\"messages\":[{\"id\":\"a\"}],\"meta\":{\"pageSize\":99,\"list\":[{}]},"
+            + "\"page\":1,\"totalPages\":3,\"outOfPageRange\":false}";
+
+        Page<Map> page = Page.fromJson(URL, "messages", stream(json), Map.class, mapper);
+
+        Assertions.assertEquals(1, page.getRecords().size());
+        Assertions.assertEquals(1, page.getPageSize());
+        Assertions.assertEquals(3, page.getTotalPages());
+        Assertions.assertEquals(URL + "?pageSize=1&page=1", page.getUrl());
+        Assertions.assertTrue(page.hasNextPage());
+    }
+
+    @Test
+    @SuppressWarnings("rawtypes")
+    public void testFromJsonDefaults() {
+        Page<Map> page = Page.fromJson(URL, "messages", "{\"messages\":[],\"page\":null}", Map.class, mapper);
+
+        Assertions.assertTrue(page.getRecords().isEmpty());
+        Assertions.assertEquals(0, page.getPageSize());
+        Assertions.assertEquals(1, page.getTotalPages());
+        Assertions.assertFalse(page.hasPreviousPage());
+        Assertions.assertFalse(page.hasNextPage());
+    }
+
+    @Test
+    public void testFromJsonMalformed() {
+        Assertions.assertThrows(ApiConnectionException.class,
+            () -> Page.fromJson(URL, "messages", stream("{\"messages\":[{\"id\":"), Map.class, mapper));
+        Assertions.assertThrows(ApiConnectionException.class,
+            () -> Page.fromJson(URL, "messages", "[]", Map.class, mapper));
+    }
+
+    @Test
+    @SuppressWarnings("rawtypes")
+    public void testLazyIteration() {
+        String json = "{\"messages\":[{\"id\":\"a\"},{\"id\":\"b\"},{\"id\":\"c\"}],"
+            + "\"page\":0,\"pageSize\":3,\"totalPages\":2,\"outOfPageRange\":false}";
+
+        Page<Map> page = Page.fromJson(URL, "messages", stream(json), Map.class, mapper, true);
+        Assertions.assertTrue(page.isLazy());
+
+        Iterator<Map> records = page.iterator();
+        Assertions.assertEquals("a", records.next().get("id"));
+        Assertions.assertTrue(page.isLazy());
+        Assertions.assertEquals("b", records.next().get("id"));
+        Assertions.assertEquals("c", records.next().get("id"));
+        Assertions.assertFalse(records.hasNext());
+
+        Assertions.assertFalse(page.isLazy());
+        Assertions.assertEquals(3, page.getPageSize());
+        Assertions.assertTrue(page.hasNextPage());
+        Assertions.assertTrue(page.getRecords().isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings("rawtypes")
+    public void testLazyMetadataBuffersRemainingRecords() {
+        String json = "{\"messages\":[{\"id\":\"a\"},{\"id\":\"b\"},{\"id\":\"c\"}],\"totalPages\":1}";
+
+        Page<Map> page = Page.fromJson(URL, "messages", stream(json), Map.class, mapper, true);
+        Iterator<Map> records = page.iterator();
+        Assertions.assertEquals("a", records.next().get("id"));
+
+        Assertions.assertEquals(3, page.getPageSize());
+        Assertions.assertFalse(page.hasNextPage());
+        Assertions.assertFalse(page.isLazy());
+
+        Assertions.assertEquals("b", records.next().get("id"));
+        Assertions.assertEquals("c", records.next().get("id"));
+        Assertions.assertFalse(records.hasNext());
+    }
+
+    @Test
+    @SuppressWarnings("rawtypes")
+    public void testLazyWithoutRecords() {
+        Page<Map> page = Page.fromJson(URL, "messages", stream("{\"page\":0}"), Map.class, mapper, true);
+
+        Assertions.assertFalse(page.isLazy());
+        Assertions.assertFalse(page.iterator().hasNext());
+        Assertions.assertEquals(0, page.getPageSize());
+    }
+
+    @Test
+    @SuppressWarnings("rawtypes")
+    public void testLazyMalformedRecord() {
+        Page<Map> page = Page.fromJson(URL, "messages", stream("{\"messages\":[{\"id\":\"a\"},{\"id\""),
+            Map.class, mapper, true);
+        Iterator<Map> records = page.iterator();
+
+        Assertions.assertEquals("a", records.next().get("id"));
+        Assertions.assertThrows(ApiConnectionException.class, records::hasNext);
+    }
+}
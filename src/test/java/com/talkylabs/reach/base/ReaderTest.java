@@ -6,11 +6,17 @@ import org.junit.jupiter.api.*;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import com.talkylabs.reach.exception.ApiException;
 import com.talkylabs.reach.http.ReachRestClient;
 import com.talkylabs.reach.rest.api.messaging.MessagingItem;
 import com.talkylabs.reach.rest.api.messaging.MessagingItemReader;
 
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.mockito.Mockito.when;
 
@@ -24,7 +30,7 @@ public class ReaderTest {
 
     @BeforeEach
     public void init() {
-        MockitoAnnotations.initMocks(this);
+        MockitoAnnotations.openMocks(this);
     }
 
     @Test
@@ -97,4 +103,59 @@ public class ReaderTest {
         Assertions.assertEquals(3, set.getPageLimit());
     }
 
+    @Test
+    public void testReadParallelOrdered() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            StubReader reader = new StubReader(6).executor(executor);
+            List<MessagingItem> items = reader.readParallel(client, 3, true);
+
+            Assertions.assertEquals(12, items.size());
+            for (int i = 0; i < items.size(); i++) {
+                Assertions.assertEquals("m" + (i / 2) + "-" + (i % 2), items.get(i).getMessageId());
+            }
+            Assertions.assertEquals(5, reader.asyncRequests.size());
+            Assertions.assertTrue(reader.maxInFlight.get() <= 3);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testReadParallelUnorderedHonorsLimit() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            StubReader reader = new StubReader(20).executor(executor);
+            reader.limit(7).pageSize(2);
+            List<MessagingItem> items = reader.readParallel(client, 4, false);
+
+            Assertions.assertEquals(7, items.size());
+            Assertions.assertEquals("m0-0", items.get(0).getMessageId());
+            Assertions.assertEquals(3, reader.asyncRequests.size());
+
+            Set<String> ids = new HashSet<>();
+            for (final MessagingItem item : items) {
+                ids.add(item.getMessageId());
+            }
+            Set<String> expected = new HashSet<>();
+            for (int i = 0; i < 7; i++) {
+                expected.add("m" + (i / 2) + "-" + (i % 2));
+            }
+            Assertions.assertEquals(expected, ids);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testReadParallelFailure() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            StubReader reader = new StubReader(5).executor(executor).failingPage(2);
+            Assertions.assertThrows(ApiException.class, () -> reader.readParallel(client, 2, true));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> reader.readParallel(client, 0, true));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
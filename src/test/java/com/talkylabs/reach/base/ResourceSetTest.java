@@ -0,0 +1,249 @@
+package com.talkylabs.reach.base;
+
+import com.talkylabs.reach.http.HttpClient;
+import com.talkylabs.reach.http.ReachRestClient;
+import com.talkylabs.reach.http.Request;
+import com.talkylabs.reach.http.Response;
+import com.talkylabs.reach.resilience.RateLimiter;
+import com.talkylabs.reach.rest.api.messaging.MessagingItem;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+public class ResourceSetTest {
+
+    /**
+     * Hands out page futures that never complete on their own, so cancellation can be observed.
+     */
+    private static final class PendingReader extends StubReader {
+        final List<CompletableFuture<Page<MessagingItem>>> pending = new ArrayList<>();
+
+        PendingReader(final int totalPages) {
+            super(totalPages);
+        }
+
+        @Override
+        public CompletableFuture<Page<MessagingItem>> getPageAsync(final String targetUrl, final ReachRestClient client) {
+            CompletableFuture<Page<MessagingItem>> future = new CompletableFuture<>();
+            pending.add(future);
+            return future;
+        }
+    }
+
+    private static List<String> ids(final ResourceSet<MessagingItem> set) {
+        List<String> ids = new ArrayList<>();
+        for (MessagingItem item : set) {
+            ids.add(item.getMessageId());
+        }
+        return ids;
+    }
+
+    @Test
+    public void testSequentialPaging() {
+        StubReader reader = new StubReader(3);
+        ResourceSet<MessagingItem> set = reader.read(null);
+
+        Assertions.assertEquals(6, ids(set).size());
+        Assertions.assertEquals(2, reader.syncRequests.get());
+        Assertions.assertTrue(reader.asyncRequests.isEmpty());
+    }
+
+    @Test
+    public void testPrefetchIsBoundedByDepth() {
+        StubReader reader = new StubReader(5);
+        ResourceSet<MessagingItem> set = reader.read(null).setPrefetchDepth(2);
+
+        Assertions.assertEquals(2, set.getPrefetchDepth());
+        Assertions.assertEquals(2, reader.asyncRequests.size());
+
+        List<String> ids = ids(set);
+        Assertions.assertEquals(10, ids.size());
+        Assertions.assertEquals("m0-0", ids.get(0));
+        Assertions.assertEquals("m4-1", ids.get(9));
+        Assertions.assertEquals(0, reader.syncRequests.get());
+        Assertions.assertEquals(4, reader.asyncRequests.size());
+        Assertions.assertEquals(1, reader.asyncRequests.get(0).intValue());
+        Assertions.assertEquals(4, reader.asyncRequests.get(3).intValue());
+    }
+
+    @Test
+    public void testPrefetchRespectsPageLimit() {
+        StubReader reader = new StubReader(10);
+        reader.limit(5).pageSize(2);
+        ResourceSet<MessagingItem> set = reader.read(null).setPrefetchDepth(4);
+
+        Assertions.assertEquals(5, ids(set).size());
+        Assertions.assertEquals(2, reader.asyncRequests.size());
+    }
+
+    @Test
+    public void testCloseCancelsPrefetchedPages() {
+        PendingReader reader = new PendingReader(5);
+        ResourceSet<MessagingItem> set = reader.read(null).setPrefetchDepth(2);
+        Assertions.assertEquals(2, reader.pending.size());
+
+        set.close();
+
+        Assertions.assertTrue(reader.pending.stream().allMatch(CompletableFuture::isCancelled));
+        Assertions.assertEquals(0, set.getPrefetchDepth());
+        // The set is still readable, one synchronous page at a time
+        Assertions.assertEquals(10, ids(set).size());
+        Assertions.assertEquals(4, reader.syncRequests.get());
+    }
+
+    @Test
+    public void testCloseStopsPrefetchedRequests() {
+        AtomicInteger requests = new AtomicInteger();
+        HttpClient transport = new HttpClient() {
+            @Override
+            public Response makeRequest(final Request request) {
+                requests.incrementAndGet();
+                return new Response("{\"messages\":[{\"messageId\":\"m0\"},{\"messageId\":\"m1\"}],"
+                    + "\"page\":0,\"pageSize\":2,\"totalPages\":5,\"outOfPageRange\":false}", 200);
+            }
+        };
+        // Hold prefetched pages at the rate limiter so close() always runs before they are sent
+        List<CompletableFuture<Void>> permits = new CopyOnWriteArrayList<>();
+        RateLimiter rateLimiter = new RateLimiter() {
+            @Override
+            public void acquire(final Request request) {
+            }
+
+            @Override
+            public CompletableFuture<Void> acquireAsync(final Request request) {
+                CompletableFuture<Void> permit = new CompletableFuture<>();
+                permits.add(permit);
+                return permit;
+            }
+        };
+        ReachRestClient client = new ReachRestClient.Builder("user", "key")
+            .httpClient(transport)
+            .rateLimiter(rateLimiter)
+            .build();
+
+        ResourceSet<MessagingItem> set = MessagingItem.reader().read(client).setPrefetchDepth(2);
+        Assertions.assertEquals(1, requests.get());
+        Assertions.assertEquals(2, permits.size());
+
+        set.close();
+        Assertions.assertTrue(permits.stream().allMatch(CompletableFuture::isCancelled));
+        permits.forEach(permit -> permit.complete(null));
+        Assertions.assertEquals(1, requests.get());
+    }
+
+    @Test
+    public void testLoweringPrefetchDepthCancelsExtraPages() {
+        PendingReader reader = new PendingReader(5);
+        ResourceSet<MessagingItem> set = reader.read(null).setPrefetchDepth(3);
+
+        set.setPrefetchDepth(1);
+
+        Assertions.assertFalse(reader.pending.get(0).isCancelled());
+        Assertions.assertTrue(reader.pending.get(1).isCancelled());
+        Assertions.assertTrue(reader.pending.get(2).isCancelled());
+    }
+
+    @Test
+    public void testNegativePrefetchDepth() {
+        ResourceSet<MessagingItem> set = new StubReader(1).read(null);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> set.setPrefetchDepth(-1));
+    }
+
+    @Test
+    public void testStream() {
+        StubReader reader = new StubReader(5);
+        List<String> ids = reader.read(null).stream().map(MessagingItem::getMessageId).collect(Collectors.toList());
+
+        Assertions.assertEquals(10, ids.size());
+        Assertions.assertEquals("m0-0", ids.get(0));
+        Assertions.assertEquals("m4-1", ids.get(9));
+    }
+
+    @Test
+    public void testParallelStreamHonorsLimit() {
+        StubReader reader = new StubReader(8);
+        reader.limit(13).pageSize(2);
+        List<String> ids = reader.read(null).parallelStream()
+            .map(MessagingItem::getMessageId)
+            .collect(Collectors.toList());
+
+        Assertions.assertEquals(13, ids.size());
+        Assertions.assertEquals("m0-0", ids.get(0));
+        Assertions.assertEquals("m6-0", ids.get(12));
+        Assertions.assertEquals(6, reader.syncRequests.get());
+    }
+
+    @Test
+    public void testSpliteratorSplitsAtPageBoundaries() {
+        Spliterator<MessagingItem> spliterator = new StubReader(5).read(null).spliterator();
+        Assertions.assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+        Assertions.assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        Assertions.assertEquals(10, spliterator.estimateSize());
+
+        Spliterator<MessagingItem> prefix = spliterator.trySplit();
+        Assertions.assertNotNull(prefix);
+        Assertions.assertEquals(6, prefix.estimateSize());
+        Assertions.assertEquals(4, spliterator.estimateSize());
+
+        List<String> ids = new ArrayList<>();
+        spliterator.forEachRemaining(item -> ids.add(item.getMessageId()));
+        Assertions.assertEquals("m3-0", ids.get(0));
+        Assertions.assertEquals(4, ids.size());
+
+        ids.clear();
+        prefix.forEachRemaining(item -> ids.add(item.getMessageId()));
+        Assertions.assertEquals("m0-0", ids.get(0));
+        Assertions.assertEquals(6, ids.size());
+    }
+
+    @Test
+    public void testSpliteratorSizedOnLastPage() {
+        Spliterator<MessagingItem> spliterator = new StubReader(1).read(null).spliterator();
+
+        Assertions.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        Assertions.assertEquals(2, spliterator.getExactSizeIfKnown());
+        Assertions.assertNull(spliterator.trySplit());
+    }
+
+    @Test
+    public void testSpliteratorOnPartlyIteratedLazyPage() {
+        StubReader reader = new StubReader(3);
+        reader.lazyPaging(true);
+        Page<MessagingItem> first = StubReader.page(0, 3, true);
+        ResourceSet<MessagingItem> set = new ResourceSet<>(reader, null, first);
+        Assertions.assertEquals("m0-0", set.iterator().next().getMessageId());
+
+        Spliterator<MessagingItem> spliterator = set.spliterator();
+        Assertions.assertTrue(first.isLazy());
+        Assertions.assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+
+        List<String> ids = new ArrayList<>();
+        Assertions.assertTrue(spliterator.tryAdvance(item -> ids.add(item.getMessageId())));
+        Assertions.assertTrue(first.isLazy());
+        Assertions.assertEquals(4, spliterator.estimateSize());
+
+        spliterator.forEachRemaining(item -> ids.add(item.getMessageId()));
+        Assertions.assertEquals(5, ids.size());
+        Assertions.assertEquals("m0-1", ids.get(0));
+        Assertions.assertEquals("m2-1", ids.get(4));
+    }
+
+    @Test
+    public void testSpliteratorEstimatesLazyPageFromPageSize() {
+        StubReader reader = new StubReader(2);
+        reader.lazyPaging(true);
+        Page<MessagingItem> first = StubReader.page(0, 2, true);
+        ResourceSet<MessagingItem> set = new ResourceSet<>(reader, null, first);
+        Assertions.assertEquals("m0-0", set.iterator().next().getMessageId());
+
+        // One record left on the current page and one full page to fetch
+        Assertions.assertEquals(3, set.spliterator().estimateSize());
+    }
+}
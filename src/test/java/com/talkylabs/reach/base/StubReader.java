@@ -0,0 +1,125 @@
+package com.talkylabs.reach.base;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talkylabs.reach.exception.ApiException;
+import com.talkylabs.reach.http.ReachRestClient;
+import com.talkylabs.reach.rest.api.messaging.MessagingItem;
+import org.junit.jupiter.api.Assertions;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Serves a fixed number of two-record pages and records which ones were requested and how.
+ */
+class StubReader extends Reader<MessagingItem> {
+
+    private static final String URL = "https://api.reach.talkylabs.com/rest/messaging/v1/list";
+    private static final Pattern PAGE = Pattern.compile("[?&]page=(\\d+)");
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    final List<Integer> asyncRequests = Collections.synchronizedList(new ArrayList<>());
+    final AtomicInteger inFlight = new AtomicInteger();
+    final AtomicInteger maxInFlight = new AtomicInteger();
+    final AtomicInteger syncRequests = new AtomicInteger();
+
+    private final int totalPages;
+    private Executor executor;
+    private int failingPage = -1;
+
+    StubReader(final int totalPages) {
+        this.totalPages = totalPages;
+    }
+
+    /**
+     * Serve async pages from the given executor, later pages finishing first.
+     */
+    StubReader executor(final Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    StubReader failingPage(final int failingPage) {
+        this.failingPage = failingPage;
+        return this;
+    }
+
+    static Page<MessagingItem> page(final int number, final int totalPages) {
+        return page(number, totalPages, false);
+    }
+
+    static Page<MessagingItem> page(final int number, final int totalPages, final boolean lazy) {
+        String json = "{\"messages\":[{\"messageId\":\"m" + number + "-0\"},{\"messageId\":\"m" + number + "-1\"}],"
+            + "\"page\":" + number + ",\"pageSize\":2,\"totalPages\":" + totalPages + ",\"outOfPageRange\":false}";
+        InputStream stream = new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+        return Page.fromJson(URL, "messages", stream, MessagingItem.class, MAPPER, lazy);
+    }
+
+    private Page<MessagingItem> pageFor(final String url) {
+        Matcher matcher = PAGE.matcher(url);
+        Assertions.assertTrue(matcher.find());
+        int number = Integer.parseInt(matcher.group(1));
+        if (number == failingPage) {
+            throw new ApiException("page " + number + " failed");
+        }
+        return page(number, totalPages, isLazyPaging());
+    }
+
+    @Override
+    public ResourceSet<MessagingItem> read(final ReachRestClient client) {
+        return new ResourceSet<>(this, client, firstPage(client));
+    }
+
+    @Override
+    public Page<MessagingItem> firstPage(final ReachRestClient client) {
+        return page(0, totalPages, isLazyPaging());
+    }
+
+    @Override
+    public Page<MessagingItem> getPage(final String targetUrl, final ReachRestClient client) {
+        syncRequests.incrementAndGet();
+        return pageFor(targetUrl);
+    }
+
+    @Override
+    public CompletableFuture<Page<MessagingItem>> getPageAsync(final String targetUrl, final ReachRestClient client) {
+        if (executor == null) {
+            Page<MessagingItem> result = pageFor(targetUrl);
+            asyncRequests.add(result.getCurrentPage());
+            return CompletableFuture.completedFuture(result);
+        }
+
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                Page<MessagingItem> result = pageFor(targetUrl);
+                Thread.sleep(5L * (totalPages - result.getCurrentPage()));
+                asyncRequests.add(result.getCurrentPage());
+                return result;
+            } catch (final InterruptedException e) {
+                throw new IllegalStateException(e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }, executor);
+    }
+
+    @Override
+    public Page<MessagingItem> nextPage(final Page<MessagingItem> page, final ReachRestClient client) {
+        return getPage(page.getNextPageUrl(null), client);
+    }
+
+    @Override
+    public Page<MessagingItem> previousPage(final Page<MessagingItem> page, final ReachRestClient client) {
+        return getPage(page.getPreviousPageUrl(null), client);
+    }
+}
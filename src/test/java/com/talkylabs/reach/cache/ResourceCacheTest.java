@@ -0,0 +1,157 @@
+package com.talkylabs.reach.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talkylabs.reach.http.ReachRestClient;
+import com.talkylabs.reach.http.Request;
+import com.talkylabs.reach.http.Response;
+import com.talkylabs.reach.rest.api.authentix.ConfigurationItem;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ResourceCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private ResourceCache<String, String> cache(final CacheConfig config) {
+        return new ResourceCache<>(config, now::get);
+    }
+
+    @Test
+    public void testReadThroughAndExpiry() {
+        ResourceCache<String, String> cache = cache(new CacheConfig.Builder().ttlMillis(1000).build());
+        AtomicInteger loads = new AtomicInteger();
+
+        Assertions.assertEquals("v1", cache.get("a", () -> "v" + loads.incrementAndGet()));
+        Assertions.assertEquals("v1", cache.get("a", () -> "v" + loads.incrementAndGet()));
+        now.set(1000);
+        Assertions.assertEquals("v2", cache.get("a", () -> "v" + loads.incrementAndGet()));
+
+        CacheStats stats = cache.getStats();
+        Assertions.assertEquals(1, stats.getHitCount());
+        Assertions.assertEquals(2, stats.getMissCount());
+        Assertions.assertEquals(1, stats.getEvictionCount());
+        Assertions.assertEquals(1, stats.getSize());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() {
+        ResourceCache<String, String> cache = cache(new CacheConfig.Builder().maximumSize(2).build());
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.get("a");
+        cache.put("c", "3");
+
+        Assertions.assertEquals("1", cache.get("a"));
+        Assertions.assertNull(cache.get("b"));
+        Assertions.assertEquals(1, cache.getStats().getEvictionCount());
+    }
+
+    @Test
+    public void testRefreshAhead() {
+        ResourceCache<String, String> cache = cache(new CacheConfig.Builder().ttlMillis(1000).refreshAheadMillis(200).build());
+        CompletableFuture<String> reload = new CompletableFuture<>();
+        cache.put("a", "old");
+
+        now.set(900);
+        Assertions.assertEquals("old", cache.getAsync("a", () -> reload).join());
+        Assertions.assertEquals("old", cache.getAsync("a", () -> {
+            throw new IllegalStateException("refresh already in flight");
+        }).join());
+        reload.complete("new");
+
+        now.set(1500);
+        Assertions.assertEquals("new", cache.get("a"));
+        Assertions.assertEquals(1, cache.getStats().getRefreshCount());
+    }
+
+    @Test
+    public void testLoadersRunOutsideTheLock() {
+        ResourceCache<String, String> cache = cache(new CacheConfig.Builder().ttlMillis(1000).refreshAheadMillis(200).build());
+        cache.put("a", "old");
+        now.set(900);
+
+        Assertions.assertEquals("old", cache.getAsync("a", () -> {
+            Assertions.assertFalse(Thread.holdsLock(cache));
+            return CompletableFuture.completedFuture("new");
+        }).join());
+        Assertions.assertEquals("new", cache.get("a"));
+        Assertions.assertEquals("b", cache.get("b", () -> {
+            Assertions.assertFalse(Thread.holdsLock(cache));
+            return "b";
+        }));
+    }
+
+    @Test
+    public void testInvalidationWinsOverInFlightLoad() {
+        ResourceCache<String, String> cache = cache(new CacheConfig.Builder().build());
+        CompletableFuture<String> load = new CompletableFuture<>();
+
+        CompletableFuture<String> value = cache.getAsync("a", () -> load);
+        cache.invalidate("a");
+        load.complete("stale");
+
+        Assertions.assertEquals("stale", value.join());
+        Assertions.assertNull(cache.get("a"));
+    }
+
+    @Test
+    public void testConfigurationItemCache() {
+        ResourceCaches caches = new ResourceCaches.Builder()
+            .cache(ConfigurationItem.class, new CacheConfig.Builder().build())
+            .build();
+        ReachRestClient client = mock(ReachRestClient.class);
+        when(client.getResourceCaches()).thenReturn(caches);
+        when(client.getObjectMapper()).thenReturn(new ObjectMapper());
+        when(client.request(any(Request.class))).thenAnswer(invocation -> new Response(
+            "{\"configurationId\":\"CI1\",\"serviceName\":\"otp\"}", 200));
+
+        Assertions.assertEquals("otp", ConfigurationItem.fetcher("CI1").fetch(client).getServiceName());
+        Assertions.assertEquals("otp", ConfigurationItem.fetcher("CI1").fetch(client).getServiceName());
+        verify(client, times(1)).request(any(Request.class));
+
+        ConfigurationItem.updater("CI1").update(client);
+        ConfigurationItem.fetcher("CI1").fetch(client);
+        verify(client, times(3)).request(any(Request.class));
+
+        CacheStats stats = caches.itemCache(ConfigurationItem.class).getStats();
+        Assertions.assertEquals(1, stats.getHitCount());
+        Assertions.assertEquals(2, stats.getMissCount());
+    }
+
+    @Test
+    public void testCachedItemsAreKeptPerUser() {
+        ResourceCaches caches = new ResourceCaches.Builder()
+            .cache(ConfigurationItem.class, new CacheConfig.Builder().build())
+            .build();
+        ReachRestClient alice = client(caches, "alice", "alice-otp");
+        ReachRestClient bob = client(caches, "bob", "bob-otp");
+
+        Assertions.assertEquals("alice-otp", ConfigurationItem.fetcher("CI1").fetch(alice).getServiceName());
+        Assertions.assertEquals("bob-otp", ConfigurationItem.fetcher("CI1").fetch(bob).getServiceName());
+        Assertions.assertEquals("alice-otp", ConfigurationItem.fetcher("CI1").fetch(alice).getServiceName());
+        Assertions.assertEquals(2, caches.itemCache(ConfigurationItem.class).size());
+
+        ConfigurationItem.deleter("CI1").delete(alice);
+        Assertions.assertEquals(0, caches.itemCache(ConfigurationItem.class).size());
+    }
+
+    private static ReachRestClient client(final ResourceCaches caches, final String username, final String serviceName) {
+        ReachRestClient client = mock(ReachRestClient.class);
+        when(client.getResourceCaches()).thenReturn(caches);
+        when(client.getUsername()).thenReturn(username);
+        when(client.getObjectMapper()).thenReturn(new ObjectMapper());
+        when(client.request(any(Request.class))).thenAnswer(invocation -> new Response(
+            "{\"configurationId\":\"CI1\",\"serviceName\":\"" + serviceName + "\"}", 200));
+        return client;
+    }
+}
@@ -0,0 +1,120 @@
+package com.talkylabs.reach.concurrent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class ReachExecutorServiceTest {
+
+    private ReachExecutorService executor;
+
+    @AfterEach
+    public void tearDown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testNamedDaemonThreads() throws Exception {
+        executor = new ReachExecutorService(new ExecutorConfig.Builder().threadNamePrefix("test-").build());
+        AtomicReference<Thread> thread = new AtomicReference<>();
+
+        executor.submit(() -> thread.set(Thread.currentThread())).get(5, TimeUnit.SECONDS);
+
+        Assertions.assertTrue(thread.get().getName().startsWith("test-"));
+        Assertions.assertTrue(thread.get().isDaemon());
+    }
+
+    @Test
+    public void testAbortPolicyCountsRejections() throws Exception {
+        executor = new ReachExecutorService(new ExecutorConfig.Builder()
+            .corePoolSize(1)
+            .maxPoolSize(1)
+            .queueCapacity(1)
+            .saturationPolicy(SaturationPolicy.ABORT)
+            .build());
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        executor.execute(() -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        started.await(5, TimeUnit.SECONDS);
+        executor.execute(() -> awaitQuietly(release));
+
+        Assertions.assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> { }));
+        Assertions.assertEquals(1, executor.getActiveCount());
+        Assertions.assertEquals(1, executor.getQueuedCount());
+        Assertions.assertEquals(1, executor.getRejectedCount());
+
+        CompletableFuture<String> rejected = Tasks.supplyAsync(() -> "never", executor);
+        Assertions.assertTrue(rejected.isCompletedExceptionally());
+        CompletionException e = Assertions.assertThrows(CompletionException.class, rejected::join);
+        Assertions.assertTrue(e.getCause() instanceof RejectedExecutionException);
+        release.countDown();
+    }
+
+    @Test
+    public void testAbortIsTheDefaultPolicy() {
+        Assertions.assertEquals(SaturationPolicy.ABORT, new ExecutorConfig.Builder().build().getSaturationPolicy());
+    }
+
+    @Test
+    public void testCallerRunsWhenSaturated() throws Exception {
+        executor = new ReachExecutorService(new ExecutorConfig.Builder()
+            .corePoolSize(1)
+            .maxPoolSize(1)
+            .queueCapacity(0)
+            .saturationPolicy(SaturationPolicy.CALLER_RUNS)
+            .build());
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        started.await(5, TimeUnit.SECONDS);
+
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        executor.execute(() -> thread.set(Thread.currentThread()));
+
+        Assertions.assertEquals(Thread.currentThread(), thread.get());
+        Assertions.assertEquals(1, executor.getRejectedCount());
+        release.countDown();
+    }
+
+    @Test
+    public void testShutdownGracefully() {
+        executor = new ReachExecutorService(new ExecutorConfig.Builder().shutdownTimeoutMillis(100).build());
+        CountDownLatch never = new CountDownLatch(1);
+        executor.execute(() -> awaitQuietly(never));
+
+        executor.shutdownGracefully();
+
+        Assertions.assertTrue(executor.isShutdown());
+    }
+
+    @Test
+    public void testInvalidConfig() {
+        Assertions.assertThrows(IllegalArgumentException.class, () ->
+            new ExecutorConfig.Builder().corePoolSize(10).maxPoolSize(5).build()
+        );
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.talkylabs.reach.concurrent;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class VirtualThreadsTest {
+
+    private static boolean isJava21OrLater() {
+        String version = System.getProperty("java.specification.version");
+        return !version.startsWith("1.") && Integer.parseInt(version) >= 21;
+    }
+
+    @Test
+    public void testSupportMatchesRuntime() {
+        Assertions.assertEquals(isJava21OrLater(), VirtualThreads.isSupported());
+    }
+
+    @Test
+    public void testExecutorRunsOnVirtualThreads() throws Exception {
+        if (!VirtualThreads.isSupported()) {
+            Assertions.assertThrows(UnsupportedOperationException.class, () -> VirtualThreads.newExecutor("vt-"));
+            Assertions.assertThrows(UnsupportedOperationException.class, () ->
+                new ExecutorConfig.Builder().mode(ExecutorMode.VIRTUAL_THREADS).build()
+            );
+            return;
+        }
+
+        ExecutorService executor = VirtualThreads.newExecutor("vt-");
+        try {
+            Thread thread = executor.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+            Assertions.assertTrue((Boolean) Thread.class.getMethod("isVirtual").invoke(thread));
+            Assertions.assertTrue(thread.getName().startsWith("vt-"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
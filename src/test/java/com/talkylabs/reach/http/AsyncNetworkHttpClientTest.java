@@ -0,0 +1,148 @@
+package com.talkylabs.reach.http;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.talkylabs.reach.concurrent.ExecutorConfig;
+import com.talkylabs.reach.exception.ApiException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+public class AsyncNetworkHttpClientTest {
+
+    private MockWebServer server;
+    private AsyncNetworkHttpClient client;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        client = new AsyncNetworkHttpClient();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        client.close();
+        server.shutdown();
+    }
+
+    @Test
+    public void testGetAsync() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(200).setBody("frobozz"));
+        Request request = new Request(HttpMethod.GET, server.url("/hello").toString());
+        request.addQueryParam("foo", "bar");
+        request.setAuth("user", "key");
+
+        Response response = client.makeRequestAsync(request).get(5, TimeUnit.SECONDS);
+
+        Assertions.assertEquals(200, response.getStatusCode());
+        Assertions.assertEquals("frobozz", response.getContent());
+        RecordedRequest recorded = server.takeRequest();
+        Assertions.assertEquals("/hello?foo=bar", recorded.getPath());
+        Assertions.assertEquals("user", recorded.getHeader("ApiUser"));
+        Assertions.assertEquals("key", recorded.getHeader("ApiKey"));
+    }
+
+    @Test
+    public void testPostBlocking() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(201).setBody("created"));
+        Request request = new Request(HttpMethod.POST, server.url("/create").toString());
+        request.addPostParam("body", "hello world");
+
+        Response response = client.makeRequest(request);
+
+        Assertions.assertEquals(201, response.getStatusCode());
+        Assertions.assertEquals("created", response.getContent());
+        Assertions.assertEquals("body=hello+world", server.takeRequest().getBody().readUtf8());
+    }
+
+    @Test
+    public void testReliableRequestAsyncRetries() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(500));
+        server.enqueue(new MockResponse().setResponseCode(200).setBody("ok"));
+        Request request = new Request(HttpMethod.GET, server.url("/retry").toString());
+
+        Response response = client.reliableRequestAsync(request).get(5, TimeUnit.SECONDS);
+
+        Assertions.assertEquals(200, response.getStatusCode());
+        Assertions.assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    public void testCompletesOffTheIoDispatchThreads() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(200).setBody("ok")
+            .setBodyDelay(100, TimeUnit.MILLISECONDS));
+        Request request = new Request(HttpMethod.GET, server.url("/hello").toString());
+
+        String thread = client.makeRequestAsync(request)
+            .thenApply(response -> Thread.currentThread().getName())
+            .get(5, TimeUnit.SECONDS);
+
+        Assertions.assertTrue(thread.startsWith(ExecutorConfig.DEFAULT_THREAD_NAME_PREFIX), thread);
+    }
+
+    @Test
+    public void testIdleConnectionsAreEvicted() throws Exception {
+        AsyncNetworkHttpClient pooled = new AsyncNetworkHttpClient(HttpClient.DEFAULT_REQUEST_CONFIG,
+            AsyncNetworkHttpClient.DEFAULT_IO_REACTOR_CONFIG,
+            new ConnectionPoolConfig.Builder().timeToLiveMillis(60000).maxIdleTimeMillis(100).build());
+        try {
+            for (int i = 0; i < 3; i++) {
+                server.enqueue(new MockResponse().setResponseCode(200).setBody("ok"));
+            }
+            Request request = new Request(HttpMethod.GET, server.url("/hello").toString());
+
+            pooled.makeRequest(request);
+            pooled.makeRequest(request);
+            Thread.sleep(500);
+            pooled.makeRequest(request);
+
+            Assertions.assertEquals(0, server.takeRequest().getSequenceNumber());
+            Assertions.assertEquals(1, server.takeRequest().getSequenceNumber());
+            Assertions.assertEquals(0, server.takeRequest().getSequenceNumber());
+        } finally {
+            pooled.close();
+        }
+    }
+
+    @Test
+    public void testGzipResponse() throws Exception {
+        Buffer body = new Buffer();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(body.outputStream())) {
+            gzip.write("{\"messages\":[]}".getBytes(StandardCharsets.UTF_8));
+        }
+        server.enqueue(new MockResponse().setResponseCode(200).setBody(body).addHeader("Content-Encoding", "gzip"));
+        Request request = new Request(HttpMethod.GET, server.url("/list").toString());
+
+        Response response = client.makeRequestAsync(request).get(5, TimeUnit.SECONDS);
+
+        Assertions.assertEquals("{\"messages\":[]}", response.getContent());
+        Assertions.assertTrue(Arrays.stream(response.getHeaders())
+            .noneMatch(header -> header.getName().equalsIgnoreCase("Content-Encoding")));
+        Assertions.assertEquals("gzip, deflate", server.takeRequest().getHeader("Accept-Encoding"));
+    }
+
+    @Test
+    public void testConnectionFailure() throws IOException {
+        Request request = new Request(HttpMethod.GET, server.url("/down").toString());
+        server.shutdown();
+
+        CompletableFuture<Response> future = client.makeRequestAsync(request);
+
+        CompletionException e = Assertions.assertThrows(CompletionException.class, future::join);
+        Assertions.assertTrue(e.getCause() instanceof ApiException);
+        Assertions.assertThrows(ApiException.class, () -> client.makeRequest(request));
+    }
+}
@@ -0,0 +1,125 @@
+package com.talkylabs.reach.http;
+
+import com.talkylabs.reach.cache.CacheConfig;
+import org.apache.http.Header;
+import org.apache.http.message.BasicHeader;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ConditionalResponseCacheTest {
+
+    private static final String URL = "https://api.reach.talkylabs.com/rest/authentix/v1/configurations/CI1";
+
+    private final AtomicLong now = new AtomicLong();
+    private final ConditionalResponseCache cache =
+        new ConditionalResponseCache(new CacheConfig.Builder().build(), now::get);
+    private final List<Request> sent = new ArrayList<>();
+
+    private Response call(final Request request, final Response response) {
+        return cache.send(request, r -> {
+            sent.add(r);
+            return response;
+        });
+    }
+
+    @Test
+    public void testRevalidatesWithEtag() {
+        Response first = call(new Request(HttpMethod.GET, URL), new Response("{\"a\":1}", 200, new Header[] {
+            new BasicHeader("ETag", "\"v1\"")
+        }));
+        Assertions.assertEquals("{\"a\":1}", first.getContent());
+
+        Response second = call(new Request(HttpMethod.GET, URL), new Response("", 304, new Header[0]));
+
+        Assertions.assertEquals(200, second.getStatusCode());
+        Assertions.assertEquals("{\"a\":1}", second.getContent());
+        Assertions.assertEquals(Collections.singletonList("\"v1\""), sent.get(1).getHeaderParams().get("If-None-Match"));
+        Assertions.assertNull(sent.get(0).getHeaderParams().get("If-None-Match"));
+        Assertions.assertEquals(1, cache.getNotModifiedCount());
+    }
+
+    @Test
+    public void testServesFreshResponsesWithoutCalling() {
+        call(new Request(HttpMethod.GET, URL), new Response("cached", 200, new Header[] {
+            new BasicHeader("Cache-Control", "private, max-age=60"),
+            new BasicHeader("Last-Modified", "Wed, 21 Oct 2026 07:28:00 GMT")
+        }));
+
+        now.set(59000);
+        Assertions.assertEquals("cached", call(new Request(HttpMethod.GET, URL), null).getContent());
+        Assertions.assertEquals(1, sent.size());
+        Assertions.assertEquals(1, cache.getFreshHitCount());
+
+        now.set(60000);
+        call(new Request(HttpMethod.GET, URL), new Response("new", 200, new Header[0]));
+        Assertions.assertEquals(2, sent.size());
+        Assertions.assertEquals(Collections.singletonList("Wed, 21 Oct 2026 07:28:00 GMT"),
+            sent.get(1).getHeaderParams().get("If-Modified-Since"));
+    }
+
+    @Test
+    public void testNoStoreAndWritesAreNotCached() {
+        call(new Request(HttpMethod.GET, URL), new Response("secret", 200, new Header[] {
+            new BasicHeader("ETag", "\"v1\""),
+            new BasicHeader("Cache-Control", "no-store")
+        }));
+        call(new Request(HttpMethod.GET, URL), new Response("x", 200, new Header[] {
+            new BasicHeader("ETag", "\"v2\"")
+        }));
+        Assertions.assertNull(sent.get(1).getHeaderParams().get("If-None-Match"));
+
+        call(new Request(HttpMethod.POST, URL), new Response("{}", 200));
+        call(new Request(HttpMethod.GET, URL), new Response("y", 200));
+        Assertions.assertNull(sent.get(3).getHeaderParams().get("If-None-Match"));
+    }
+
+    @Test
+    public void testWriteDuringReadWins() {
+        CompletableFuture<Response> read = new CompletableFuture<>();
+        CompletableFuture<Response> response = cache.sendAsync(new Request(HttpMethod.GET, URL), r -> read);
+        call(new Request(HttpMethod.POST, URL), new Response("{}", 200));
+        read.complete(new Response("stale", 200, new Header[] {
+            new BasicHeader("ETag", "\"v1\"")
+        }));
+
+        Assertions.assertEquals("stale", response.join().getContent());
+        Assertions.assertEquals(0, cache.getStats().getSize());
+    }
+
+    @Test
+    public void testResponsesAreKeptPerUser() {
+        Request alice = new Request(HttpMethod.GET, URL);
+        alice.setAuth("alice", "secret");
+        call(alice, new Response("alice", 200, new Header[] {
+            new BasicHeader("Cache-Control", "max-age=60")
+        }));
+
+        Request bob = new Request(HttpMethod.GET, URL);
+        bob.setAuth("bob", "secret");
+        Assertions.assertEquals("bob", call(bob, new Response("bob", 200)).getContent());
+        Assertions.assertEquals(2, sent.size());
+
+        Request aliceAgain = new Request(HttpMethod.GET, URL);
+        aliceAgain.setAuth("alice", "secret");
+        Assertions.assertEquals("alice", call(aliceAgain, null).getContent());
+        Assertions.assertEquals(2, sent.size());
+    }
+
+    @Test
+    public void testAsyncRevalidation() {
+        call(new Request(HttpMethod.GET, URL), new Response("body", 200, new Header[] {
+            new BasicHeader("ETag", "\"v1\"")
+        }));
+
+        Response response = cache.sendAsync(new Request(HttpMethod.GET, URL),
+            r -> CompletableFuture.completedFuture(new Response("", 304, new Header[0]))).join();
+
+        Assertions.assertEquals("body", response.getContent());
+    }
+}
@@ -0,0 +1,61 @@
+package com.talkylabs.reach.http;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpVersion;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.protocol.BasicHttpContext;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ConnectionPoolConfigTest {
+
+    @Test
+    public void testDefaults() {
+        ConnectionPoolConfig config = new ConnectionPoolConfig.Builder().build();
+        Assertions.assertEquals(ConnectionPoolConfig.DEFAULT_MAX_PER_ROUTE, config.getMaxPerRoute());
+        Assertions.assertEquals(ConnectionPoolConfig.DEFAULT_MAX_TOTAL, config.getMaxTotal());
+        Assertions.assertEquals(-1L, config.getTimeToLiveMillis());
+        Assertions.assertFalse(config.isEvictExpiredConnections());
+    }
+
+    @Test
+    public void testMaxPerRouteExceedsMaxTotal() {
+        Assertions.assertThrows(IllegalArgumentException.class, () ->
+            new ConnectionPoolConfig.Builder().maxPerRoute(30).maxTotal(20).build()
+        );
+    }
+
+    @Test
+    public void testNonPositiveMaxTotal() {
+        Assertions.assertThrows(IllegalArgumentException.class, () ->
+            new ConnectionPoolConfig.Builder().maxTotal(0)
+        );
+    }
+
+    @Test
+    public void testValidateAfterInactivityOverflow() {
+        Assertions.assertThrows(IllegalArgumentException.class, () ->
+            new ConnectionPoolConfig.Builder().validateAfterInactivityMillis(Integer.MAX_VALUE + 1L)
+        );
+    }
+
+    @Test
+    public void testKeepAliveFallsBackToConfiguredValue() {
+        ConnectionPoolConfig config = new ConnectionPoolConfig.Builder().keepAliveMillis(5000).build();
+        HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+
+        Assertions.assertEquals(5000L, config.getKeepAliveStrategy().getKeepAliveDuration(response, new BasicHttpContext()));
+    }
+
+    @Test
+    public void testKeepAliveCapsServerHint() {
+        ConnectionPoolConfig config = new ConnectionPoolConfig.Builder().keepAliveMillis(5000).build();
+        HttpResponse shortHint = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+        shortHint.addHeader("Keep-Alive", "timeout=2");
+        HttpResponse longHint = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+        longHint.addHeader("Keep-Alive", "timeout=60");
+
+        Assertions.assertEquals(2000L, config.getKeepAliveStrategy().getKeepAliveDuration(shortHint, new BasicHttpContext()));
+        Assertions.assertEquals(5000L, config.getKeepAliveStrategy().getKeepAliveDuration(longHint, new BasicHttpContext()));
+    }
+}
@@ -0,0 +1,86 @@
+package com.talkylabs.reach.http;
+
+import org.apache.http.Header;
+import org.apache.http.message.BasicHeader;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+public class ExponentialBackoffRetryPolicyTest {
+
+    private static final long NOW = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    private static Response response(final int status, final Header... headers) {
+        return new Response("", status, headers);
+    }
+
+    private static ExponentialBackoffRetryPolicy.Builder builder() {
+        return new ExponentialBackoffRetryPolicy.Builder().clock(() -> NOW);
+    }
+
+    @Test
+    public void testFullJitterBounds() {
+        ExponentialBackoffRetryPolicy policy = builder().baseDelayMillis(100).maxDelayMillis(350).maxAttempts(10).build();
+
+        for (int i = 0; i < 200; i++) {
+            long first = policy.nextDelayMillis(1, response(503), 0);
+            long third = policy.nextDelayMillis(3, response(503), 0);
+            long capped = policy.nextDelayMillis(8, response(503), 0);
+            Assertions.assertTrue(first >= 0 && first <= 100);
+            Assertions.assertTrue(third >= 0 && third <= 350);
+            Assertions.assertTrue(capped >= 0 && capped <= 350);
+        }
+    }
+
+    @Test
+    public void testStopsOnSuccessAndMaxAttempts() {
+        ExponentialBackoffRetryPolicy policy = builder().maxAttempts(3).build();
+
+        Assertions.assertEquals(-1, policy.nextDelayMillis(1, response(200), 0));
+        Assertions.assertEquals(-1, policy.nextDelayMillis(1, response(404), 0));
+        Assertions.assertTrue(policy.nextDelayMillis(1, null, 0) >= 0);
+        Assertions.assertTrue(policy.nextDelayMillis(2, response(500), 0) >= 0);
+        Assertions.assertEquals(-1, policy.nextDelayMillis(3, response(500), 0));
+    }
+
+    @Test
+    public void testRetryAfterSeconds() {
+        ExponentialBackoffRetryPolicy policy = builder().build();
+        Assertions.assertEquals(2000, policy.nextDelayMillis(1, response(429, new BasicHeader("Retry-After", "2")), 0));
+        Assertions.assertEquals(3000, policy.nextDelayMillis(1, response(429, new BasicHeader("RateLimit-Reset", "3")), 0));
+    }
+
+    @Test
+    public void testRetryAfterHttpDateAndEpochReset() {
+        ExponentialBackoffRetryPolicy policy = builder().build();
+        String date = DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.ofEpochMilli(NOW + 5000).atOffset(ZoneOffset.UTC));
+        long epochReset = (NOW + 7000) / 1000;
+
+        Assertions.assertEquals(5000, policy.nextDelayMillis(1, response(503, new BasicHeader("Retry-After", date)), 0));
+        Assertions.assertEquals(7000, policy.nextDelayMillis(1,
+            response(429, new BasicHeader("X-RateLimit-Reset", Long.toString(epochReset))), 0));
+    }
+
+    @Test
+    public void testDeadline() {
+        ExponentialBackoffRetryPolicy policy = builder().deadlineMillis(10000).build();
+        Response throttled = response(429, new BasicHeader("Retry-After", "5"));
+
+        Assertions.assertEquals(5000, policy.nextDelayMillis(1, throttled, 4000));
+        Assertions.assertEquals(-1, policy.nextDelayMillis(1, throttled, 6000));
+    }
+
+    @Test
+    public void testFixedPolicy() {
+        RetryPolicy policy = RetryPolicy.fixed(new int[] {HttpClient.ANY_500, 418}, 3, 100);
+
+        Assertions.assertEquals(100, policy.nextDelayMillis(1, response(502), 0));
+        Assertions.assertEquals(100, policy.nextDelayMillis(2, response(418), 0));
+        Assertions.assertEquals(-1, policy.nextDelayMillis(3, response(502), 0));
+        Assertions.assertEquals(-1, policy.nextDelayMillis(1, response(429), 0));
+        Assertions.assertEquals(-1, RetryPolicy.none().nextDelayMillis(1, null, 0));
+    }
+}
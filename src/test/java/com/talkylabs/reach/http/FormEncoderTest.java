@@ -0,0 +1,53 @@
+package com.talkylabs.reach.http;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class FormEncoderTest {
+
+    @Test
+    public void testMatchesUrlEncoder() throws Exception {
+        String[] values = {"plain", "hello world", "a+b=c&d", "~!'()", "café", "€100", "😀",
+            "bad\ud83d", "\ude00bad", "/path?x#y", ""};
+        for (String value : values) {
+            Map<String, List<String>> params = Collections.singletonMap("k y", Collections.singletonList(value));
+            Assertions.assertEquals(
+                URLEncoder.encode("k y", "UTF-8") + "=" + URLEncoder.encode(value, "UTF-8"),
+                FormEncoder.encodeToString(params)
+            );
+        }
+    }
+
+    @Test
+    public void testEncodesMultipleParams() {
+        Map<String, List<String>> params = new LinkedHashMap<>();
+        params.put("dest", Arrays.asList("+1000", "+1001"));
+        params.put("message", Collections.singletonList("hi there"));
+        params.put("empty", Collections.singletonList(null));
+
+        byte[] body = FormEncoder.encode(params);
+
+        Assertions.assertEquals("dest=%2B1000&dest=%2B1001&message=hi+there", new String(body, StandardCharsets.US_ASCII));
+        Assertions.assertEquals("", FormEncoder.encodeToString(Collections.emptyMap()));
+    }
+
+    @Test
+    public void testLargeBodies() {
+        char[] chars = new char[100000];
+        Arrays.fill(chars, 'é');
+        String value = new String(chars);
+
+        byte[] body = FormEncoder.encode(Collections.singletonMap("v", Collections.singletonList(value)));
+
+        Assertions.assertEquals(2 + 6 * chars.length, body.length);
+        Assertions.assertEquals("v=a", FormEncoder.encodeToString(Collections.singletonMap("v", Collections.singletonList("a"))));
+    }
+}
@@ -0,0 +1,117 @@
+package com.talkylabs.reach.http;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.talkylabs.reach.exception.ApiException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Runs on Java 11+ only, where the multi-release class is on the test classpath.
+ */
+public class Http2NetworkHttpClientTest {
+
+    private MockWebServer server;
+    private HttpClient client;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        Class<?> clientClass;
+        try {
+            clientClass = Class.forName("com.talkylabs.reach.http.Http2NetworkHttpClient");
+        } catch (final ClassNotFoundException e) {
+            clientClass = null;
+        }
+        Assumptions.assumeTrue(clientClass != null, "Http2NetworkHttpClient requires Java 11+");
+
+        server = new MockWebServer();
+        server.start();
+        client = (HttpClient) clientClass.getConstructor().newInstance();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        if (server != null) {
+            server.shutdown();
+        }
+    }
+
+    @Test
+    public void testGet() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(200).setBody("frobozz").addHeader("X-Test", "yes"));
+        Request request = new Request(HttpMethod.GET, server.url("/hello").toString());
+        request.addQueryParam("foo", "bar");
+        request.setAuth("user", "key");
+
+        Response response = client.makeRequest(request);
+
+        Assertions.assertEquals(200, response.getStatusCode());
+        Assertions.assertEquals("frobozz", response.getContent());
+        Assertions.assertTrue(Arrays.stream(response.getHeaders())
+            .anyMatch(header -> header.getName().equalsIgnoreCase("X-Test") && header.getValue().equals("yes")));
+        RecordedRequest recorded = server.takeRequest();
+        Assertions.assertEquals("/hello?foo=bar", recorded.getPath());
+        Assertions.assertEquals("user", recorded.getHeader("ApiUser"));
+        Assertions.assertEquals("key", recorded.getHeader("ApiKey"));
+        Assertions.assertTrue(recorded.getHeader("User-Agent").startsWith("reach-java/"));
+    }
+
+    @Test
+    public void testPostAsync() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(201).setBody("created"));
+        Request request = new Request(HttpMethod.POST, server.url("/create").toString());
+        request.addPostParam("body", "hello world");
+
+        Response response = client.makeRequestAsync(request).get(5, TimeUnit.SECONDS);
+
+        Assertions.assertEquals(201, response.getStatusCode());
+        Assertions.assertEquals("created", response.getContent());
+        RecordedRequest recorded = server.takeRequest();
+        Assertions.assertEquals("body=hello+world", recorded.getBody().readUtf8());
+        Assertions.assertEquals("application/x-www-form-urlencoded", recorded.getHeader("Content-Type"));
+    }
+
+    @Test
+    public void testGzipResponse() throws Exception {
+        Buffer body = new Buffer();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(body.outputStream())) {
+            gzip.write("{\"messages\":[]}".getBytes(StandardCharsets.UTF_8));
+        }
+        server.enqueue(new MockResponse().setResponseCode(200).setBody(body).addHeader("Content-Encoding", "gzip"));
+        Request request = new Request(HttpMethod.GET, server.url("/list").toString());
+
+        Response response = client.makeRequestAsync(request).get(5, TimeUnit.SECONDS);
+
+        Assertions.assertEquals("{\"messages\":[]}", response.getContent());
+        Assertions.assertTrue(Arrays.stream(response.getHeaders())
+            .noneMatch(header -> header.getName().equalsIgnoreCase("Content-Encoding")));
+        Assertions.assertEquals("gzip, deflate", server.takeRequest().getHeader("Accept-Encoding"));
+    }
+
+    @Test
+    public void testConnectionFailure() throws IOException {
+        Request request = new Request(HttpMethod.GET, server.url("/down").toString());
+        server.shutdown();
+        server = null;
+
+        CompletableFuture<Response> future = client.makeRequestAsync(request);
+
+        CompletionException e = Assertions.assertThrows(CompletionException.class, future::join);
+        Assertions.assertTrue(e.getCause() instanceof ApiException);
+        Assertions.assertThrows(ApiException.class, () -> client.makeRequest(request));
+    }
+}
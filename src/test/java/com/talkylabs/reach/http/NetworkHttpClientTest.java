@@ -1,10 +1,15 @@
 package com.talkylabs.reach.http;
 
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okio.Buffer;
+import org.apache.http.Header;
 import org.apache.http.HttpEntity;
 import org.apache.http.StatusLine;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.message.BasicHeader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Assertions;
@@ -13,13 +18,27 @@ import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
 
 import com.talkylabs.reach.exception.ApiConnectionException;
+import com.talkylabs.reach.exception.ApiException;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
-
-import static org.mockito.Matchers.any;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 public class NetworkHttpClientTest {
@@ -50,7 +69,7 @@ public class NetworkHttpClientTest {
     @BeforeEach
     public void setUp() {
 
-        MockitoAnnotations.initMocks(this);
+        MockitoAnnotations.openMocks(this);
         doReturn(mockClient).when(mockBuilder).build();
         client = new NetworkHttpClient(mockBuilder);
     }
@@ -118,9 +137,13 @@ public class NetworkHttpClientTest {
 
         NetworkHttpClient clientSpy = spy(client);
         doReturn(new Response("", ReachRestClient.HTTP_STATUS_CODE_NO_CONTENT)).when(clientSpy).makeRequest(request);
-        clientSpy.reliableRequest(request);
-        Assertions.assertNotNull(clientSpy.getLastRequest());
-        Assertions.assertNotNull(clientSpy.getLastResponse());
+        List<RequestDiagnostics> notified = new ArrayList<>();
+        clientSpy.addRequestListener(notified::add);
+
+        Response response = clientSpy.reliableRequest(request);
+        Assertions.assertNotNull(response.getDiagnostics());
+        Assertions.assertEquals(Collections.singletonList(response.getDiagnostics()), notified);
+        Assertions.assertEquals(ReachRestClient.HTTP_STATUS_CODE_NO_CONTENT, notified.get(0).getStatusCode());
     }
 
     @Test
@@ -128,8 +151,13 @@ public class NetworkHttpClientTest {
         Request request = new Request(HttpMethod.GET, "http://foo.com/hello");
         NetworkHttpClient clientSpy = spy(client);
         doReturn(null).when(clientSpy).makeRequest(request);
-        clientSpy.reliableRequest(request);
-        Assertions.assertNull(clientSpy.getLastResponse());
+        List<RequestDiagnostics> notified = new ArrayList<>();
+        clientSpy.addRequestListener(notified::add);
+
+        Assertions.assertNull(clientSpy.reliableRequest(request, RetryPolicy.fixed(HttpClient.RETRY_CODES, 3, 1)));
+        Assertions.assertEquals(1, notified.size());
+        Assertions.assertEquals(3, notified.get(0).getAttempts());
+        Assertions.assertEquals(-1, notified.get(0).getStatusCode());
     }
 
     @Test
@@ -141,6 +169,101 @@ public class NetworkHttpClientTest {
         mockedNetworkHttpClient.reliableRequest(request);
     }
 
+    @Test
+    public void testReliableRequestUsesRetryPolicy() {
+        Request request = new Request(HttpMethod.GET, "http://foo.com/hello");
+        NetworkHttpClient clientSpy = spy(client);
+        doReturn(new Response("", 503)).doReturn(new Response("", 503)).doReturn(new Response("", 200))
+            .when(clientSpy).makeRequest(request);
+        clientSpy.setRetryPolicy(RetryPolicy.fixed(HttpClient.RETRY_CODES, 5, 1));
+
+        Response response = clientSpy.reliableRequest(request);
+
+        Assertions.assertEquals(200, response.getStatusCode());
+        verify(clientSpy, times(3)).makeRequest(request);
+    }
+
+    @Test
+    public void testReliableRequestRestoresInterrupt() {
+        Request request = new Request(HttpMethod.GET, "http://foo.com/hello");
+        NetworkHttpClient clientSpy = spy(client);
+        doReturn(new Response("", 503)).when(clientSpy).makeRequest(request);
+
+        Thread.currentThread().interrupt();
+        try {
+            Response response = clientSpy.reliableRequest(request, RetryPolicy.fixed(HttpClient.RETRY_CODES, 5, 1000));
+            Assertions.assertEquals(503, response.getStatusCode());
+            Assertions.assertTrue(Thread.currentThread().isInterrupted());
+            verify(clientSpy, times(1)).makeRequest(request);
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    public void testReliableRequestDiagnostics() {
+        Request request = new Request(HttpMethod.GET, "http://foo.com/rest/messaging/v1/fetch/MM1");
+        request.setPathTemplate("/rest/messaging/v1/fetch/{messageId}");
+        NetworkHttpClient clientSpy = spy(client);
+        doReturn(new Response("", 503)).doReturn(new Response("", 200, new Header[] {
+            new BasicHeader("Content-Length", "42")
+        })).when(clientSpy).makeRequest(request);
+        List<RequestDiagnostics> notified = new ArrayList<>();
+        clientSpy.addRequestListener(notified::add);
+
+        Response response = clientSpy.reliableRequest(request, RetryPolicy.fixed(HttpClient.RETRY_CODES, 5, 1));
+
+        RequestDiagnostics diagnostics = response.getDiagnostics();
+        Assertions.assertEquals(Collections.singletonList(diagnostics), notified);
+        Assertions.assertEquals(HttpMethod.GET, diagnostics.getMethod());
+        Assertions.assertEquals("/rest/messaging/v1/fetch/{messageId}", diagnostics.getPathTemplate());
+        Assertions.assertEquals(2, diagnostics.getAttempts());
+        Assertions.assertEquals(200, diagnostics.getStatusCode());
+        Assertions.assertEquals(42, diagnostics.getResponseBytes());
+        Assertions.assertTrue(diagnostics.isSuccess());
+        Assertions.assertTrue(diagnostics.getElapsedNanos() > 0);
+    }
+
+    @Test
+    public void testReliableRequestAsyncDiagnosticsOnFailure() {
+        Request request = new Request(HttpMethod.POST, "http://foo.com/rest/messaging/v1/create");
+        NetworkHttpClient clientSpy = spy(client);
+        doThrow(new ApiConnectionException("down")).when(clientSpy).makeRequest(request);
+        List<RequestDiagnostics> notified = new ArrayList<>();
+        clientSpy.addRequestListener(notified::add);
+        clientSpy.addRequestListener(diagnostics -> {
+            throw new IllegalStateException("ignored");
+        });
+
+        Assertions.assertThrows(CompletionException.class,
+            () -> clientSpy.reliableRequestAsync(request, RetryPolicy.none()).join());
+
+        Assertions.assertEquals(1, notified.size());
+        Assertions.assertEquals(1, notified.get(0).getAttempts());
+        Assertions.assertEquals(-1, notified.get(0).getStatusCode());
+        Assertions.assertTrue(notified.get(0).getError() instanceof ApiConnectionException);
+        Assertions.assertFalse(notified.get(0).isSuccess());
+    }
+
+    @Test
+    public void testReliableRequestAsyncRetriesOffTheTimerThread() {
+        Request request = new Request(HttpMethod.GET, "http://foo.com/rest/messaging/v1/fetch/MM1");
+        List<String> threads = new CopyOnWriteArrayList<>();
+        HttpClient httpClient = new NetworkHttpClient() {
+            @Override
+            public CompletableFuture<Response> makeRequestAsync(final Request request) {
+                threads.add(Thread.currentThread().getName());
+                return CompletableFuture.completedFuture(new Response("", threads.size() == 1 ? 503 : 200));
+            }
+        };
+
+        Response response = httpClient.reliableRequestAsync(request, RetryPolicy.fixed(HttpClient.RETRY_CODES, 2, 10)).join();
+
+        Assertions.assertEquals(200, response.getStatusCode());
+        Assertions.assertEquals(2, threads.size());
+        Assertions.assertNotEquals("reach-delay-scheduler", threads.get(1));
+    }
+
     @Test
     public void testDelete() throws IOException {
         setup(204, "", HttpMethod.DELETE, false);
@@ -170,4 +293,117 @@ public class NetworkHttpClientTest {
         Assertions.assertEquals(resp.getStatusCode(), 404);
         Assertions.assertEquals(resp.getContent(), "womp");
     }
+
+    @Test
+    public void testConnectionPoolStats() {
+        ConnectionPoolConfig poolConfig = new ConnectionPoolConfig.Builder()
+            .maxPerRoute(50)
+            .maxTotal(200)
+            .maxIdleTimeMillis(30000)
+            .timeToLiveMillis(60000)
+            .build();
+        NetworkHttpClient pooledClient = new NetworkHttpClient(poolConfig);
+
+        ConnectionPoolStats stats = pooledClient.getConnectionPoolStats();
+        Assertions.assertEquals(200, stats.getMax());
+        Assertions.assertEquals(0, stats.getLeased());
+        Assertions.assertEquals(0, stats.getLeaseCount());
+        Assertions.assertEquals(0.0, stats.getAverageLeaseWaitMillis());
+        pooledClient.close();
+    }
+
+    @Test
+    public void testConnectionPoolStatsTrackLeaseWait() throws Exception {
+        MockWebServer server = new MockWebServer();
+        server.start();
+        ConnectionPoolConfig poolConfig = new ConnectionPoolConfig.Builder().maxPerRoute(1).maxTotal(1).build();
+        NetworkHttpClient pooledClient = new NetworkHttpClient(poolConfig);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            server.enqueue(new MockResponse().setBody("slow").setHeadersDelay(300, TimeUnit.MILLISECONDS));
+            server.enqueue(new MockResponse().setBody("fast"));
+            Request slow = new Request(HttpMethod.GET, server.url("/slow").toString());
+            Request fast = new Request(HttpMethod.GET, server.url("/fast").toString());
+
+            // The slow request holds the only connection, so the fast one has to wait for it
+            Future<Response> slowResponse = executor.submit(() -> pooledClient.makeRequest(slow));
+            Assertions.assertEquals("/slow", server.takeRequest(5, TimeUnit.SECONDS).getPath());
+            Assertions.assertEquals("fast", pooledClient.makeRequest(fast).getContent());
+            Assertions.assertEquals("slow", slowResponse.get(5, TimeUnit.SECONDS).getContent());
+
+            ConnectionPoolStats stats = pooledClient.getConnectionPoolStats();
+            Assertions.assertEquals(2, stats.getLeaseCount());
+            Assertions.assertEquals(0, stats.getLeaseTimeoutCount());
+            Assertions.assertEquals(0, stats.getLeased());
+            Assertions.assertEquals(1, stats.getAvailable());
+            Assertions.assertTrue(stats.getMaxLeaseWaitMillis() >= 100, stats.toString());
+            Assertions.assertTrue(stats.getAverageLeaseWaitMillis() > 0, stats.toString());
+        } finally {
+            executor.shutdownNow();
+            pooledClient.close();
+            server.shutdown();
+        }
+    }
+
+    @Test
+    public void testGzipResponse() throws Exception {
+        MockWebServer server = new MockWebServer();
+        server.start();
+        NetworkHttpClient networkClient = new NetworkHttpClient();
+        try {
+            Buffer body = new Buffer();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(body.outputStream())) {
+                gzip.write("{\"messages\":[]}".getBytes(StandardCharsets.UTF_8));
+            }
+            server.enqueue(new MockResponse().setResponseCode(200).setBody(body).addHeader("Content-Encoding", "gzip"));
+            Request request = new Request(HttpMethod.GET, server.url("/list").toString());
+
+            Response response = networkClient.makeRequest(request);
+
+            Assertions.assertEquals("{\"messages\":[]}", response.getContent());
+            Assertions.assertTrue(Arrays.stream(response.getHeaders())
+                .noneMatch(header -> header.getName().equalsIgnoreCase("Content-Encoding")));
+            Assertions.assertEquals("gzip, deflate", server.takeRequest().getHeader("Accept-Encoding"));
+        } finally {
+            networkClient.close();
+            server.shutdown();
+        }
+    }
+
+    @Test
+    public void testGzipResponseTooLarge() throws Exception {
+        MockWebServer server = new MockWebServer();
+        server.start();
+        NetworkHttpClient networkClient = new NetworkHttpClient();
+        try {
+            // A few dozen kilobytes of gzip that decode past the cap
+            Buffer body = new Buffer();
+            byte[] zeros = new byte[1024 * 1024];
+            try (GZIPOutputStream gzip = new GZIPOutputStream(body.outputStream())) {
+                for (long written = 0; written <= ContentEncoding.MAX_DECODED_BODY; written += zeros.length) {
+                    gzip.write(zeros);
+                }
+            }
+            server.enqueue(new MockResponse().setResponseCode(200).setBody(body).addHeader("Content-Encoding", "gzip"));
+            Request request = new Request(HttpMethod.GET, server.url("/bomb").toString());
+
+            ApiException e = Assertions.assertThrows(ApiException.class, () -> networkClient.makeRequest(request));
+            Assertions.assertTrue(e.getMessage().contains("exceeds"), e.getMessage());
+        } finally {
+            networkClient.close();
+            server.shutdown();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testLastExchangeIsNoLongerRecorded() {
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> client.getLastRequest());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> client.getLastResponse());
+    }
+
+    @Test
+    public void testConnectionPoolStatsCustomClient() {
+        Assertions.assertNull(client.getConnectionPoolStats());
+    }
 }
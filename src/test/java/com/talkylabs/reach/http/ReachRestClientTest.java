@@ -4,16 +4,29 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import com.talkylabs.reach.resilience.RateLimiter;
 import com.talkylabs.reach.rest.Domains;
+import com.talkylabs.reach.rest.api.authentix.ConfigurationItem;
 import com.talkylabs.reach.rest.api.authentix.configurationitem.AuthenticationItem;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class ReachRestClientTest {
@@ -59,7 +72,7 @@ public class ReachRestClientTest {
 
     @BeforeEach
     public void setUp() throws Exception {
-        MockitoAnnotations.initMocks(this);
+        MockitoAnnotations.openMocks(this);
         reachRestClient = new ReachRestClient(new ReachRestClient.Builder("AC123", "AUTH TOKEN").httpClient(httpClient));
     }
 
@@ -141,4 +154,104 @@ public class ReachRestClientTest {
         reachRestClientExtension.request(request);
         assertNull(request.getUserAgentExtensions());
     }
+
+    @Test
+    public void testRequestAsync() {
+        Request request = new Request(
+                HttpMethod.GET,
+                Domains.API.toString(),
+                URI
+        );
+        when(httpClient.reliableRequestAsync(request)).thenReturn(CompletableFuture.completedFuture(new Response(authResponse, 200)));
+
+        Response resp = reachRestClient.requestAsync(request).join();
+        assertEquals(200, resp.getStatusCode());
+        assertEquals(USER_NAME, request.getUsername());
+    }
+
+    @Test
+    public void testRateLimiterIsAcquiredPerAttempt() {
+        RateLimiter rateLimiter = mock(RateLimiter.class);
+        HttpClient flaky = new HttpClient() {
+            private int calls;
+
+            @Override
+            public Response makeRequest(final Request request) {
+                return new Response("", ++calls == 1 ? 503 : 200);
+            }
+        };
+        ReachRestClient client = new ReachRestClient.Builder(USER_NAME, TOKEN)
+            .httpClient(flaky)
+            .rateLimiter(rateLimiter)
+            .retryPolicy(RetryPolicy.fixed(HttpClient.RETRY_CODES, 3, 0))
+            .build();
+        Request request = new Request(HttpMethod.GET, Domains.API.toString(), URI);
+
+        assertEquals(200, client.request(request).getStatusCode());
+        verify(rateLimiter, times(2)).acquire(request);
+    }
+
+    @Test
+    public void testRateLimiterAsync() {
+        RateLimiter rateLimiter = mock(RateLimiter.class);
+        CompletableFuture<Void> permit = new CompletableFuture<>();
+        when(rateLimiter.acquireAsync(any(Request.class))).thenReturn(permit);
+        AtomicInteger calls = new AtomicInteger();
+        HttpClient transport = new HttpClient() {
+            @Override
+            public Response makeRequest(final Request request) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public CompletableFuture<Response> makeRequestAsync(final Request request) {
+                calls.incrementAndGet();
+                return CompletableFuture.completedFuture(new Response("", 200));
+            }
+        };
+        ReachRestClient client = new ReachRestClient.Builder(USER_NAME, TOKEN)
+            .httpClient(transport)
+            .rateLimiter(rateLimiter)
+            .build();
+        Request request = new Request(HttpMethod.GET, Domains.API.toString(), URI);
+
+        CompletableFuture<Response> future = client.requestAsync(request);
+        assertFalse(future.isDone());
+        assertEquals(0, calls.get());
+
+        permit.complete(null);
+        assertEquals(200, future.join().getStatusCode());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testRequestCoalescer() {
+        RequestCoalescer coalescer = new RequestCoalescer();
+        ReachRestClient client = new ReachRestClient(new ReachRestClient.Builder(USER_NAME, TOKEN)
+            .httpClient(httpClient)
+            .requestCoalescer(coalescer));
+        CompletableFuture<Response> pending = new CompletableFuture<>();
+        when(httpClient.reliableRequestAsync(any(Request.class))).thenReturn(pending);
+
+        CompletableFuture<Response> first = client.requestAsync(new Request(HttpMethod.GET, Domains.API.toString(), URI));
+        CompletableFuture<Response> second = client.requestAsync(new Request(HttpMethod.GET, Domains.API.toString(), URI));
+        pending.complete(new Response(authResponse, 200));
+
+        assertEquals(authResponse, first.join().getContent());
+        assertEquals(authResponse, second.join().getContent());
+        verify(httpClient, times(1)).reliableRequestAsync(any(Request.class));
+        assertEquals(1, coalescer.getCoalescedCount());
+    }
+
+    @Test
+    public void testAsyncRequestBuildFailureFailsFuture() {
+        CompletableFuture<ConfigurationItem> fetched = ConfigurationItem.fetcher(null).fetchAsync(reachRestClient);
+        CompletableFuture<Boolean> deleted = ConfigurationItem.deleter(null).deleteAsync(reachRestClient);
+
+        assertTrue(fetched.isCompletedExceptionally());
+        assertTrue(deleted.isCompletedExceptionally());
+        CompletionException e = assertThrows(CompletionException.class, fetched::join);
+        assertTrue(e.getCause() instanceof NullPointerException);
+        verify(httpClient, never()).reliableRequestAsync(any(Request.class));
+    }
 }
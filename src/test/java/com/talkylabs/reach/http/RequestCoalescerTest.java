@@ -0,0 +1,130 @@
+package com.talkylabs.reach.http;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.talkylabs.reach.exception.ApiConnectionException;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RequestCoalescerTest {
+
+    private final RequestCoalescer coalescer = new RequestCoalescer();
+
+    private static Request get(final String url) {
+        return new Request(HttpMethod.GET, url);
+    }
+
+    @Test
+    public void testConcurrentGetsShareOneCall() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<Response> leader = executor.submit(() -> coalescer.coalesce(get("https://foo.com/a?x=1"), request -> {
+                calls.incrementAndGet();
+                started.countDown();
+                try {
+                    release.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return new Response(new ByteArrayInputStream("shared".getBytes(StandardCharsets.UTF_8)), 200);
+            }));
+            started.await(5, TimeUnit.SECONDS);
+
+            CompletableFuture<Response> follower = coalescer.coalesceAsync(get("https://foo.com/a?x=1"), request -> {
+                calls.incrementAndGet();
+                return new CompletableFuture<>();
+            });
+            Assertions.assertFalse(follower.isDone());
+            release.countDown();
+
+            Assertions.assertEquals("shared", leader.get(5, TimeUnit.SECONDS).getContent());
+            Assertions.assertEquals("shared", follower.get(5, TimeUnit.SECONDS).getContent());
+            Assertions.assertEquals(1, calls.get());
+            Assertions.assertEquals(1, coalescer.getCoalescedCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testDifferentRequestsAreNotCoalesced() {
+        CompletableFuture<Response> pending = new CompletableFuture<>();
+        AtomicInteger calls = new AtomicInteger();
+
+        coalescer.coalesceAsync(get("https://foo.com/a?x=1"), request -> {
+            calls.incrementAndGet();
+            return pending;
+        });
+        coalescer.coalesceAsync(get("https://foo.com/a?x=2"), request -> {
+            calls.incrementAndGet();
+            return pending;
+        });
+        coalescer.coalesceAsync(new Request(HttpMethod.POST, "https://foo.com/a?x=1"), request -> {
+            calls.incrementAndGet();
+            return pending;
+        });
+
+        Assertions.assertEquals(3, calls.get());
+        Assertions.assertEquals(0, coalescer.getCoalescedCount());
+    }
+
+    @Test
+    public void testCallersWithDifferentCredentialsOrHeadersAreNotCoalesced() {
+        CompletableFuture<Response> pending = new CompletableFuture<>();
+        AtomicInteger calls = new AtomicInteger();
+
+        Request alice = get("https://foo.com/a");
+        alice.setAuth("alice", "secret");
+        alice.addHeaderParam("traceparent", "00-1-1-01");
+        Request bob = get("https://foo.com/a");
+        bob.setAuth("bob", "secret");
+        Request aliceAgain = get("https://foo.com/a");
+        aliceAgain.setAuth("alice", "secret");
+        aliceAgain.addHeaderParam("traceparent", "00-2-2-01");
+        Request aliceInFrench = get("https://foo.com/a");
+        aliceInFrench.setAuth("alice", "secret");
+        aliceInFrench.addHeaderParam("Accept-Language", "fr");
+
+        for (final Request request : new Request[] {alice, bob, aliceAgain, aliceInFrench}) {
+            coalescer.coalesceAsync(request, r -> {
+                calls.incrementAndGet();
+                return pending;
+            });
+        }
+
+        Assertions.assertEquals(3, calls.get());
+        Assertions.assertEquals(1, coalescer.getCoalescedCount());
+    }
+
+    @Test
+    public void testFailureIsSharedAndNotKept() {
+        CompletableFuture<Response> pending = new CompletableFuture<>();
+        CompletableFuture<Response> first = coalescer.coalesceAsync(get("https://foo.com/a"), request -> pending);
+        CompletableFuture<Response> second = coalescer.coalesceAsync(get("https://foo.com/a"), request -> {
+            throw new IllegalStateException("not called");
+        });
+
+        second.cancel(false);
+        pending.completeExceptionally(new ApiConnectionException("down"));
+
+        CompletionException e = Assertions.assertThrows(CompletionException.class, first::join);
+        Assertions.assertTrue(e.getCause() instanceof ApiConnectionException);
+
+        Response response = coalescer.coalesce(get("https://foo.com/a"), request -> new Response("ok", 200));
+        Assertions.assertEquals("ok", response.getContent());
+    }
+}
@@ -288,4 +288,41 @@ public class RequestTest {
         assertNotEquals(request, new Object());
         assertNotEquals(null, request);
     }
+
+    @Test
+    public void testGetPath() {
+        assertEquals("/rest/x", new Request(HttpMethod.GET, "https://api.reach.talkylabs.com/rest/x?a=b").getPath());
+        assertEquals("/", new Request(HttpMethod.GET, "https://api.reach.talkylabs.com").getPath());
+        assertEquals("/uri", new Request(HttpMethod.GET, "/uri").getPath());
+    }
+
+    @Test
+    public void testGetPathTemplate() {
+        Request request = new Request(HttpMethod.GET, Domains.API.toString(), "/rest/messaging/v1/fetch/MM123");
+        assertEquals("/rest/messaging/v1/fetch/MM123", request.getPathTemplate());
+        request.setPathTemplate("/rest/messaging/v1/fetch/{messageId}");
+        assertEquals("/rest/messaging/v1/fetch/{messageId}", request.getPathTemplate());
+    }
+
+    @Test
+    public void testConstructURLIsMemoized() {
+        Request request = new Request(HttpMethod.GET, Domains.API.toString(), "/rest/messaging/v1/fetch/MM123");
+        request.addQueryParam("a", "b");
+        URL url = request.constructURL();
+        assertTrue(url == request.constructURL());
+
+        request.addQueryParam("c", "d");
+        URL updated = request.constructURL();
+        assertTrue(url != updated);
+        assertEquals("https://api.reach.talkylabs.com/rest/messaging/v1/fetch/MM123?a=b&c=d", updated.toString());
+    }
+
+    @Test
+    public void testConstructURLEncodesPathSegments() {
+        Request request = new Request(HttpMethod.GET, "https://api.reach.talkylabs.com/rest/a b/c|d/");
+        request.setPathTemplate("/rest/{x}/{y}/");
+        assertEquals("https://api.reach.talkylabs.com/rest/a+b/c%7Cd", request.constructURL().toString());
+        assertEquals("https://api.reach.talkylabs.com/rest/x",
+            new Request(HttpMethod.GET, "https://api.reach.talkylabs.com/rest/x/").constructURL().toString());
+    }
 }
@@ -5,8 +5,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.apache.http.entity.BasicHttpEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,6 +52,26 @@ public class ResponseTest {
         Response response = new Response(stream, ReachRestClient.HTTP_STATUS_CODE_OK);
         assertEquals(stream, response.getStream());
     }
+
+    @Test
+    public void testGetContentBytes() throws IOException {
+        byte[] body = "caf\u00e9".getBytes(StandardCharsets.UTF_8);
+        Response response = new Response(body, ReachRestClient.HTTP_STATUS_CODE_OK, null);
+
+        assertEquals("caf\u00e9", response.getContent());
+        assertEquals(body.length, response.getStream().available());
+        assertEquals('c', response.getStream().read());
+        assertEquals(body.length, response.getBodyLength());
+    }
+
+    @Test
+    public void testBodyReaderWithWrongContentLength() throws IOException {
+        BasicHttpEntity entity = new BasicHttpEntity();
+        entity.setContent(new ByteArrayInputStream("frobozz".getBytes(StandardCharsets.UTF_8)));
+        entity.setContentLength(1);
+
+        assertArrayEquals("frobozz".getBytes(StandardCharsets.UTF_8), BodyReader.read(entity));
+    }
 }
 
 class TestInputStream extends InputStream {
@@ -0,0 +1,149 @@
+package com.talkylabs.reach.metrics;
+
+import com.talkylabs.reach.exception.ApiException;
+import com.talkylabs.reach.http.HttpClient;
+import com.talkylabs.reach.http.ReachRestClient;
+import com.talkylabs.reach.http.Request;
+import com.talkylabs.reach.http.Response;
+import com.talkylabs.reach.http.RetryPolicy;
+import com.talkylabs.reach.rest.api.messaging.MessagingItem;
+import org.apache.http.Header;
+import org.apache.http.message.BasicHeader;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class ResponseMetricsTest {
+
+    private static final class Measurement {
+        private final String name;
+        private final double value;
+        private final List<String> tags;
+
+        private Measurement(final String name, final double value, final String... tags) {
+            this.name = name;
+            this.value = value;
+            this.tags = Arrays.asList(tags);
+        }
+    }
+
+    private final List<Measurement> measurements = new CopyOnWriteArrayList<>();
+
+    private final MetricsRecorder recorder = new MetricsRecorder() {
+        @Override
+        public void recordTime(final String name, final long nanos, final String... tags) {
+            measurements.add(new Measurement(name, nanos, tags));
+        }
+
+        @Override
+        public void incrementCounter(final String name, final long amount, final String... tags) {
+            measurements.add(new Measurement(name, amount, tags));
+        }
+
+        @Override
+        public void recordAmount(final String name, final double amount, final String... tags) {
+            measurements.add(new Measurement(name, amount, tags));
+        }
+    };
+
+    private final List<Response> responses = new ArrayList<>();
+    private ReachRestClient client;
+
+    @BeforeEach
+    public void setUp() {
+        HttpClient httpClient = new HttpClient() {
+            @Override
+            public Response makeRequest(final Request request) {
+                return responses.remove(0);
+            }
+        };
+        httpClient.setRetryPolicy(RetryPolicy.fixed(HttpClient.RETRY_CODES, 3, 0));
+        client = new ReachRestClient.Builder("user", "key")
+            .httpClient(httpClient)
+            .metricsRecorder(recorder)
+            .build();
+    }
+
+    private Measurement only(final String name) {
+        List<Measurement> matching = new ArrayList<>();
+        for (final Measurement measurement : measurements) {
+            if (measurement.name.equals(name)) {
+                matching.add(measurement);
+            }
+        }
+        Assertions.assertEquals(1, matching.size(), name);
+        return matching.get(0);
+    }
+
+    @Test
+    public void testSuccessfulOperation() {
+        responses.add(new Response("", 503));
+        responses.add(new Response("{\"messageId\":\"MM1\"}", 200, new Header[] {
+            new BasicHeader("Content-Length", "19")
+        }));
+
+        MessagingItem item = MessagingItem.fetcher("MM1").fetch(client);
+
+        Assertions.assertEquals("MM1", item.getMessageId());
+        Assertions.assertEquals(Arrays.asList("operation", "messaging.fetch", "method", "GET", "status", "200",
+            "outcome", "SUCCESS"), only(ReachMetrics.REQUESTS).tags);
+        Assertions.assertEquals(1.0, only(ReachMetrics.RETRIES).value);
+        Assertions.assertEquals(19.0, only(ReachMetrics.RESPONSE_SIZE).value);
+        Assertions.assertEquals(Arrays.asList("operation", "messaging.fetch"), only(ReachMetrics.DESERIALIZATION).tags);
+        Assertions.assertTrue(measurements.stream().noneMatch(m -> m.name.equals(ReachMetrics.ERRORS)));
+    }
+
+    @Test
+    public void testApiError() {
+        responses.add(new Response("{\"status\":404,\"errorCode\":20404,\"errorMessage\":\"not found\"}", 404));
+
+        Assertions.assertThrows(ApiException.class, () -> MessagingItem.fetcher("MM1").fetch(client));
+
+        Assertions.assertEquals("CLIENT_ERROR", only(ReachMetrics.REQUESTS).tags.get(7));
+        Assertions.assertEquals(Arrays.asList("operation", "messaging.fetch", "status", "404", "code", "20404"),
+            only(ReachMetrics.ERRORS).tags);
+    }
+
+    @Test
+    public void testFailingRecorderDoesNotFailTheOperation() {
+        client.getHttpClient().setMetricsRecorder(new MetricsRecorder() {
+            @Override
+            public void recordTime(final String name, final long nanos, final String... tags) {
+                throw new IllegalStateException("registry closed");
+            }
+
+            @Override
+            public void incrementCounter(final String name, final long amount, final String... tags) {
+                throw new IllegalStateException("registry closed");
+            }
+
+            @Override
+            public void recordAmount(final String name, final double amount, final String... tags) {
+                throw new IllegalStateException("registry closed");
+            }
+        });
+        responses.add(new Response("{\"messageId\":\"MM1\"}", 200));
+        responses.add(new Response("{\"status\":404,\"errorCode\":20404,\"errorMessage\":\"not found\"}", 404));
+
+        Assertions.assertEquals("MM1", MessagingItem.fetcher("MM1").fetch(client).getMessageId());
+        ApiException error = Assertions.assertThrows(ApiException.class, () -> MessagingItem.fetcher("MM1").fetch(client));
+        Assertions.assertEquals(Integer.valueOf(20404), error.getCode());
+    }
+
+    @Test
+    public void testNoopRecorderSkipsMeasurements() {
+        client.getHttpClient().setMetricsRecorder(null);
+        responses.add(new Response("{\"messageId\":\"MM1\"}", 200));
+
+        MessagingItem.fetcher("MM1").fetch(client);
+
+        Assertions.assertSame(MetricsRecorder.NOOP, client.getHttpClient().getMetricsRecorder());
+        Assertions.assertEquals(Collections.emptyList(), measurements);
+    }
+}
@@ -0,0 +1,86 @@
+package com.talkylabs.reach.resilience;
+
+import com.talkylabs.reach.exception.BulkheadFullException;
+import com.talkylabs.reach.http.HttpClient;
+import com.talkylabs.reach.http.HttpMethod;
+import com.talkylabs.reach.http.Request;
+import com.talkylabs.reach.http.Response;
+import com.talkylabs.reach.http.RetryPolicy;
+import com.talkylabs.reach.rest.Domains;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+public class BulkheadTest {
+
+    private static Request request(final HttpMethod method, final String path) {
+        return new Request(method, Domains.API.toString(), path);
+    }
+
+    @Test
+    public void testRejectsWhenFull() {
+        Bulkhead bulkhead = new Bulkhead("authentix", 2);
+        bulkhead.acquire();
+        Assertions.assertTrue(bulkhead.tryAcquire());
+        Assertions.assertFalse(bulkhead.tryAcquire());
+        Assertions.assertThrows(BulkheadFullException.class, bulkhead::acquire);
+
+        bulkhead.release();
+        Assertions.assertEquals(1, bulkhead.getAvailableConcurrentCalls());
+        bulkhead.acquire();
+    }
+
+    @Test
+    public void testWaitsForAFreeSlot() throws Exception {
+        Bulkhead bulkhead = new Bulkhead("messaging", 1, 5000);
+        bulkhead.acquire();
+        CompletableFuture<Void> waiter = CompletableFuture.runAsync(bulkhead::acquire);
+        Thread.sleep(50);
+        Assertions.assertFalse(waiter.isDone());
+
+        bulkhead.release();
+        waiter.get();
+        Assertions.assertEquals(0, bulkhead.getAvailableConcurrentCalls());
+    }
+
+    @Test
+    public void testRouting() {
+        Bulkhead otp = new Bulkhead("otp", 10);
+        Bulkhead bulk = new Bulkhead("bulk", 50);
+        EndpointBulkheads bulkheads = new EndpointBulkheads.Builder()
+            .bulkhead("/rest/authentix/", otp)
+            .bulkhead(HttpMethod.POST, "/rest/messaging/v1/create", bulk)
+            .build();
+
+        Assertions.assertSame(otp, bulkheads.bulkheadFor(request(HttpMethod.POST, "/rest/authentix/v1/authentications")));
+        Assertions.assertSame(bulk, bulkheads.bulkheadFor(request(HttpMethod.POST, "/rest/messaging/v1/create")));
+        Assertions.assertNull(bulkheads.bulkheadFor(request(HttpMethod.GET, "/rest/messaging/v1/list")));
+    }
+
+    @Test
+    public void testHttpClientReleasesSlots() {
+        Bulkhead bulkhead = new Bulkhead("bulk", 1);
+        HttpClient client = new HttpClient() {
+            @Override
+            public Response makeRequest(final Request request) {
+                Assertions.assertEquals(0, bulkhead.getAvailableConcurrentCalls());
+                return new Response("", 200);
+            }
+        };
+        client.setRetryPolicy(RetryPolicy.none());
+        client.setBulkheads(new EndpointBulkheads.Builder().defaultBulkhead(bulkhead).build());
+        Request request = request(HttpMethod.POST, "/rest/messaging/v1/create");
+
+        Assertions.assertEquals(200, client.reliableRequest(request).getStatusCode());
+        Assertions.assertEquals(200, client.reliableRequestAsync(request).join().getStatusCode());
+        Assertions.assertEquals(1, bulkhead.getAvailableConcurrentCalls());
+
+        bulkhead.acquire();
+        Assertions.assertThrows(BulkheadFullException.class, () -> client.reliableRequest(request));
+        CompletionException e = Assertions.assertThrows(CompletionException.class,
+            () -> client.reliableRequestAsync(request).join());
+        Assertions.assertTrue(e.getCause() instanceof BulkheadFullException);
+    }
+}
@@ -0,0 +1,168 @@
+package com.talkylabs.reach.resilience;
+
+import com.talkylabs.reach.exception.CircuitBreakerOpenException;
+import com.talkylabs.reach.http.HttpClient;
+import com.talkylabs.reach.http.HttpMethod;
+import com.talkylabs.reach.http.Request;
+import com.talkylabs.reach.http.Response;
+import com.talkylabs.reach.http.RetryPolicy;
+import com.talkylabs.reach.rest.Domains;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private final CircuitBreakerConfig config = new CircuitBreakerConfig.Builder()
+        .slidingWindowSize(4)
+        .minimumCalls(4)
+        .failureRateThreshold(50)
+        .openDurationMillis(1000)
+        .halfOpenCalls(2)
+        .build();
+
+    private final CircuitBreaker breaker = new CircuitBreaker("POST /rest/messaging/v1/create", config, now::get);
+
+    private void call(final boolean failure) {
+        Assertions.assertTrue(breaker.tryAcquirePermission());
+        if (failure) {
+            breaker.onFailure();
+        } else {
+            breaker.onSuccess();
+        }
+    }
+
+    @Test
+    public void testOpensAtFailureRateThreshold() {
+        call(true);
+        call(false);
+        call(false);
+        Assertions.assertEquals(-1f, breaker.getFailureRate());
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        call(true);
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        Assertions.assertFalse(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    public void testSlidingWindowForgetsOldCalls() {
+        call(true);
+        call(false);
+        call(false);
+        call(false);
+        call(false);
+        Assertions.assertEquals(0f, breaker.getFailureRate());
+        call(true);
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void testHalfOpenProbesCloseTheCircuit() {
+        for (int i = 0; i < 4; i++) {
+            call(true);
+        }
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        Assertions.assertFalse(breaker.tryAcquirePermission());
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        Assertions.assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        Assertions.assertTrue(breaker.tryAcquirePermission());
+        Assertions.assertTrue(breaker.tryAcquirePermission());
+        Assertions.assertFalse(breaker.tryAcquirePermission());
+
+        breaker.onSuccess();
+        Assertions.assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        breaker.onSuccess();
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        Assertions.assertEquals(-1f, breaker.getFailureRate());
+    }
+
+    @Test
+    public void testHalfOpenFailureReopens() {
+        for (int i = 0; i < 4; i++) {
+            call(true);
+        }
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        call(true);
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        Assertions.assertFalse(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    public void testLateOutcomesFromAnEarlierStateAreIgnored() {
+        // Admitted while closed, then slower than the whole open duration
+        long slowSuccess = breaker.tryAcquirePermit();
+        long slowFailure = breaker.tryAcquirePermit();
+        Assertions.assertNotEquals(CircuitBreaker.NO_PERMIT, slowSuccess);
+        for (int i = 0; i < 4; i++) {
+            call(true);
+        }
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        Assertions.assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        long probe = breaker.tryAcquirePermit();
+        Assertions.assertNotEquals(CircuitBreaker.NO_PERMIT, probe);
+
+        breaker.onSuccess(slowSuccess);
+        breaker.onFailure(slowFailure);
+        breaker.releasePermit(slowSuccess);
+        Assertions.assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+        // Only the real probes decide, and just one more may go through
+        long secondProbe = breaker.tryAcquirePermit();
+        Assertions.assertNotEquals(CircuitBreaker.NO_PERMIT, secondProbe);
+        Assertions.assertEquals(CircuitBreaker.NO_PERMIT, breaker.tryAcquirePermit());
+        breaker.onSuccess(probe);
+        Assertions.assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        breaker.onSuccess(secondProbe);
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void testRegistryKeysOnMethodAndPathTemplate() {
+        CircuitBreakerRegistry registry = new CircuitBreakerRegistry(config);
+        Request first = new Request(HttpMethod.GET, Domains.API.toString(), "/rest/messaging/v1/fetch/MM1");
+        first.setPathTemplate("/rest/messaging/v1/fetch/{messageId}");
+        Request second = new Request(HttpMethod.GET, Domains.API.toString(), "/rest/messaging/v1/fetch/MM2");
+        second.setPathTemplate("/rest/messaging/v1/fetch/{messageId}");
+        Request delete = new Request(HttpMethod.DELETE, Domains.API.toString(), "/rest/messaging/v1/delete/MM1");
+
+        Assertions.assertSame(registry.circuitBreakerFor(first), registry.circuitBreakerFor(second));
+        Assertions.assertEquals("GET /rest/messaging/v1/fetch/{messageId}", registry.circuitBreakerFor(first).getName());
+        Assertions.assertEquals("DELETE /rest/messaging/v1/delete/MM1", registry.circuitBreakerFor(delete).getName());
+        Assertions.assertEquals(2, registry.getCircuitBreakers().size());
+    }
+
+    @Test
+    public void testHttpClientFailsFastWhileOpen() {
+        final AtomicInteger calls = new AtomicInteger();
+        HttpClient client = new HttpClient() {
+            @Override
+            public Response makeRequest(final Request request) {
+                calls.incrementAndGet();
+                return new Response("", 503);
+            }
+        };
+        client.setRetryPolicy(RetryPolicy.none());
+        client.setCircuitBreakers(new CircuitBreakerRegistry(config));
+        Request request = new Request(HttpMethod.POST, Domains.API.toString(), "/rest/messaging/v1/create");
+
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertEquals(503, client.reliableRequest(request).getStatusCode());
+        }
+
+        Assertions.assertThrows(CircuitBreakerOpenException.class, () -> client.reliableRequest(request));
+        CompletionException e = Assertions.assertThrows(CompletionException.class,
+            () -> client.reliableRequestAsync(request).join());
+        Assertions.assertTrue(e.getCause() instanceof CircuitBreakerOpenException);
+        Assertions.assertEquals(4, calls.get());
+    }
+}
@@ -0,0 +1,40 @@
+package com.talkylabs.reach.resilience;
+
+import com.talkylabs.reach.http.HttpMethod;
+import com.talkylabs.reach.http.Request;
+import com.talkylabs.reach.rest.Domains;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class EndpointRateLimiterTest {
+
+    private final RateLimiter send = new TokenBucketRateLimiter(50, 10);
+    private final RateLimiter authentix = new TokenBucketRateLimiter(5, 5);
+    private final RateLimiter reads = new TokenBucketRateLimiter(20, 20);
+
+    private final EndpointRateLimiter limiter = new EndpointRateLimiter.Builder()
+        .limit(HttpMethod.POST, "/rest/messaging/v1/create", send)
+        .limit("/rest/authentix/v1/", authentix)
+        .limit(HttpMethod.GET, "/", reads)
+        .build();
+
+    private static Request request(final HttpMethod method, final String path) {
+        return new Request(method, Domains.API.toString(), path);
+    }
+
+    @Test
+    public void testRouting() {
+        Assertions.assertSame(send, limiter.limiterFor(request(HttpMethod.POST, "/rest/messaging/v1/create")));
+        Assertions.assertSame(authentix, limiter.limiterFor(request(HttpMethod.POST, "/rest/authentix/v1/authentications")));
+        Assertions.assertSame(authentix, limiter.limiterFor(request(HttpMethod.GET, "/rest/authentix/v1/configurations")));
+        Assertions.assertSame(reads, limiter.limiterFor(request(HttpMethod.GET, "/rest/messaging/v1/list?page=2")));
+        Assertions.assertNull(limiter.limiterFor(request(HttpMethod.DELETE, "/rest/messaging/v1/delete/MM1")));
+    }
+
+    @Test
+    public void testUnmatchedRequestIsNotThrottled() {
+        Request request = request(HttpMethod.DELETE, "/rest/messaging/v1/delete/MM1");
+        limiter.acquire(request);
+        Assertions.assertTrue(limiter.acquireAsync(request).isDone());
+    }
+}
@@ -0,0 +1,88 @@
+package com.talkylabs.reach.resilience;
+
+import com.talkylabs.reach.http.HttpMethod;
+import com.talkylabs.reach.http.Request;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TokenBucketRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+
+    @Test
+    public void testBurstThenSteadyRate() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 3, now::get);
+
+        Assertions.assertTrue(limiter.tryAcquire());
+        Assertions.assertTrue(limiter.tryAcquire());
+        Assertions.assertTrue(limiter.tryAcquire());
+        Assertions.assertFalse(limiter.tryAcquire());
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        Assertions.assertTrue(limiter.tryAcquire());
+        Assertions.assertFalse(limiter.tryAcquire());
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertTrue(limiter.tryAcquire());
+        }
+        Assertions.assertFalse(limiter.tryAcquire());
+    }
+
+    @Test
+    public void testReserveSpacesOutWaiters() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 1, now::get);
+
+        Assertions.assertEquals(0, limiter.reserve());
+        Assertions.assertEquals(TimeUnit.MILLISECONDS.toNanos(100), limiter.reserve());
+        Assertions.assertEquals(TimeUnit.MILLISECONDS.toNanos(200), limiter.reserve());
+        Assertions.assertFalse(limiter.tryAcquire());
+    }
+
+    @Test
+    public void testConcurrentTryAcquireGrantsExactlyBurst() throws InterruptedException {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 50, now::get);
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(8);
+
+        for (int t = 0; t < 8; t++) {
+            new Thread(() -> {
+                for (int i = 0; i < 100; i++) {
+                    if (limiter.tryAcquire()) {
+                        granted.incrementAndGet();
+                    }
+                }
+                done.countDown();
+            }).start();
+        }
+
+        Assertions.assertTrue(done.await(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(50, granted.get());
+    }
+
+    @Test
+    public void testAcquireAsyncWaitsWithoutBlocking() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(20, 1);
+        Request request = new Request(HttpMethod.GET, "https://api.reach.talkylabs.com/rest/messaging/v1/list");
+
+        limiter.acquire(request);
+        long start = System.nanoTime();
+        CompletableFuture<Void> permit = limiter.acquireAsync(request);
+        Assertions.assertFalse(permit.isDone());
+
+        permit.join();
+        Assertions.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(30));
+    }
+
+    @Test
+    public void testInvalidSettings() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new TokenBucketRateLimiter(0, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new TokenBucketRateLimiter(1, 0));
+    }
+}
@@ -0,0 +1,183 @@
+package com.talkylabs.reach.tracing;
+
+import com.talkylabs.reach.exception.ApiConnectionException;
+import com.talkylabs.reach.http.HttpClient;
+import com.talkylabs.reach.http.HttpMethod;
+import com.talkylabs.reach.http.ReachRestClient;
+import com.talkylabs.reach.http.Request;
+import com.talkylabs.reach.http.Response;
+import com.talkylabs.reach.http.RetryPolicy;
+import com.talkylabs.reach.rest.Domains;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+public class TracerTest {
+
+    private static final ThreadLocal<TestSpan> CURRENT = new ThreadLocal<>();
+
+    private static final class TestSpan implements Span {
+        private final String name;
+        private final String id;
+        private final TestSpan parent;
+        private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+        private volatile Throwable exception;
+        private volatile int ended;
+
+        private TestSpan(final String name, final String id, final TestSpan parent) {
+            this.name = name;
+            this.id = id;
+            this.parent = parent;
+        }
+
+        @Override
+        public void setAttribute(final String key, final String value) {
+            attributes.put(key, value);
+        }
+
+        @Override
+        public void setAttribute(final String key, final long value) {
+            attributes.put(key, value);
+        }
+
+        @Override
+        public void recordException(final Throwable exception) {
+            this.exception = exception;
+        }
+
+        @Override
+        public void end() {
+            ended++;
+        }
+
+        @Override
+        public String getTraceparent() {
+            return "00-4bf92f3577b34da6a3ce929d0e0e4736-" + id + "-01";
+        }
+
+        @Override
+        public Scope makeCurrent() {
+            final TestSpan previous = CURRENT.get();
+            CURRENT.set(this);
+            return () -> CURRENT.set(previous);
+        }
+    }
+
+    private final List<TestSpan> spans = new CopyOnWriteArrayList<>();
+
+    private final Tracer tracer = new Tracer() {
+        @Override
+        public Span startSpan(final String name, final Request request) {
+            TestSpan span = new TestSpan(name, String.format("%016x", spans.size() + 1), CURRENT.get());
+            spans.add(span);
+            return span;
+        }
+
+        @Override
+        public TraceContext currentContext() {
+            final TestSpan current = CURRENT.get();
+            return current == null ? TraceContext.NOOP : current;
+        }
+    };
+
+    private final List<TestSpan> seenByTransport = new CopyOnWriteArrayList<>();
+    private final List<Response> responses = new CopyOnWriteArrayList<>();
+    private ReachRestClient client;
+
+    @BeforeEach
+    public void setUp() {
+        HttpClient httpClient = new HttpClient() {
+            @Override
+            public Response makeRequest(final Request request) {
+                seenByTransport.add(CURRENT.get());
+                if (responses.isEmpty()) {
+                    throw new ApiConnectionException("down");
+                }
+                return responses.remove(0);
+            }
+        };
+        httpClient.setRetryPolicy(RetryPolicy.fixed(HttpClient.RETRY_CODES, 3, 5));
+        client = new ReachRestClient.Builder("user", "key")
+            .httpClient(httpClient)
+            .tracer(tracer)
+            .build();
+    }
+
+    private static Request request() {
+        Request request = new Request(HttpMethod.POST, Domains.API.toString(), "/rest/messaging/v1/create");
+        request.setPathTemplate("/rest/messaging/v1/create");
+        request.setOperation("messaging.send");
+        return request;
+    }
+
+    @Test
+    public void testSpanWrapsBlockingCall() {
+        responses.add(new Response("", 200));
+        Request request = request();
+
+        client.request(request);
+
+        TestSpan span = spans.get(0);
+        Assertions.assertEquals("messaging.send", span.name);
+        Assertions.assertEquals(1, span.ended);
+        Assertions.assertEquals("POST", span.attributes.get(TracingAttributes.HTTP_REQUEST_METHOD));
+        Assertions.assertEquals("api.reach.talkylabs.com", span.attributes.get(TracingAttributes.SERVER_ADDRESS));
+        Assertions.assertEquals("/rest/messaging/v1/create", span.attributes.get(TracingAttributes.URL_TEMPLATE));
+        Assertions.assertEquals(200L, span.attributes.get(TracingAttributes.HTTP_RESPONSE_STATUS_CODE));
+        Assertions.assertEquals(1L, span.attributes.get(TracingAttributes.ATTEMPTS));
+        Assertions.assertEquals(Collections.singletonList(span.getTraceparent()),
+            request.getHeaderParams().get(TracingAttributes.TRACEPARENT_HEADER));
+        Assertions.assertSame(span, seenByTransport.get(0));
+        Assertions.assertNull(CURRENT.get());
+    }
+
+    @Test
+    public void testSpanIsChildOfCurrentContext() {
+        responses.add(new Response("", 200));
+        responses.add(new Response("", 200));
+        Request request = request();
+        TestSpan parent = new TestSpan("pipeline", "00000000000000ff", null);
+
+        try (Scope scope = parent.makeCurrent()) {
+            client.request(request);
+            client.request(request);
+        }
+
+        Assertions.assertSame(parent, spans.get(0).parent);
+        Assertions.assertEquals(Collections.singletonList(spans.get(1).getTraceparent()),
+            request.getHeaderParams().get(TracingAttributes.TRACEPARENT_HEADER));
+    }
+
+    @Test
+    public void testContextPropagatesToAsyncRetries() throws Exception {
+        responses.add(new Response("", 503));
+        responses.add(new Response("", 200));
+
+        Response response = client.requestAsync(request()).get(5, TimeUnit.SECONDS);
+
+        TestSpan span = spans.get(0);
+        Assertions.assertEquals(200, response.getStatusCode());
+        Assertions.assertEquals(2, seenByTransport.size());
+        Assertions.assertSame(span, seenByTransport.get(0));
+        Assertions.assertSame(span, seenByTransport.get(1));
+        Assertions.assertEquals(2L, span.attributes.get(TracingAttributes.ATTEMPTS));
+        Assertions.assertEquals(1, span.ended);
+    }
+
+    @Test
+    public void testFailedCallRecordsException() {
+        Assertions.assertThrows(ApiConnectionException.class, () -> client.request(request()));
+
+        TestSpan span = spans.get(0);
+        Assertions.assertTrue(span.exception instanceof ApiConnectionException);
+        Assertions.assertEquals(ApiConnectionException.class.getName(), span.attributes.get(TracingAttributes.ERROR_TYPE));
+        Assertions.assertEquals(1, span.ended);
+    }
+}